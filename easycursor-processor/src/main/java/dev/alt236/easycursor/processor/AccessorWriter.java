@@ -0,0 +1,215 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.processor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.type.TypeKind;
+
+/**
+ * Writes the source of a single generated accessor.
+ */
+final class AccessorWriter {
+    private static final String GETTERS_PACKAGE = "dev.alt236.easycursor.objectcursor.getters";
+    private static final String ACCESSOR_INTERFACE = "dev.alt236.easycursor.objectcursor.TypedFieldAccessor";
+    private static final String COLUMN_GETTER = GETTERS_PACKAGE + ".ColumnGetter";
+    private static final String INDENT = "    ";
+
+    private final String mPackageName;
+    private final String mAccessorName;
+    private final String mRowType;
+    private final List<ColumnInfo> mColumns;
+    private final StringBuilder mBuilder;
+
+    AccessorWriter(final String packageName,
+                   final String accessorName,
+                   final String rowType,
+                   final List<ColumnInfo> columns) {
+        mPackageName = packageName;
+        mAccessorName = accessorName;
+        mRowType = rowType;
+        mColumns = columns;
+        mBuilder = new StringBuilder();
+    }
+
+    private static String getGetterClass(final TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return GETTERS_PACKAGE + ".BooleanColumnGetter";
+            case DOUBLE:
+                return GETTERS_PACKAGE + ".DoubleColumnGetter";
+            case FLOAT:
+                return GETTERS_PACKAGE + ".FloatColumnGetter";
+            case INT:
+                return GETTERS_PACKAGE + ".IntColumnGetter";
+            case LONG:
+                return GETTERS_PACKAGE + ".LongColumnGetter";
+            case SHORT:
+                return GETTERS_PACKAGE + ".ShortColumnGetter";
+            default:
+                return COLUMN_GETTER;
+        }
+    }
+
+    private static String getGetterMethod(final TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "public boolean getBoolean";
+            case DOUBLE:
+                return "public double getDouble";
+            case FLOAT:
+                return "public float getFloat";
+            case INT:
+                return "public int getInt";
+            case LONG:
+                return "public long getLong";
+            case SHORT:
+                return "public short getShort";
+            default:
+                return "public Object get";
+        }
+    }
+
+    private static String quote(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void line(final int indent, final String text) {
+        for (int i = 0; i < indent; i++) {
+            mBuilder.append(INDENT);
+        }
+        mBuilder.append(text).append('\n');
+    }
+
+    String write() {
+        mBuilder.setLength(0);
+
+        if (!mPackageName.isEmpty()) {
+            line(0, "package " + mPackageName + ";");
+            line(0, "");
+        }
+
+        line(0, "/**");
+        line(0, " * Generated by EasyCursorRowProcessor for {@link " + mRowType + "}. Do not edit.");
+        line(0, " */");
+        line(0, "public final class " + mAccessorName + " implements " + ACCESSOR_INTERFACE + "<" + mRowType + "> {");
+        writeFieldNames();
+        writeGetterFields();
+        writeGetFieldIndexByName();
+        writeGetFieldNameByIndex();
+        writeGetFieldNames();
+        writeGetGetter();
+        line(0, "}");
+
+        return mBuilder.toString();
+    }
+
+    private void writeFieldNames() {
+        line(1, "private static final String[] FIELD_NAMES = {");
+        for (final ColumnInfo column : mColumns) {
+            line(3, quote(column.getFieldName()) + ",");
+        }
+        line(1, "};");
+    }
+
+    private void writeGetFieldIndexByName() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public int getFieldIndexByName(final String fieldName) {");
+        line(2, "if (fieldName == null) {");
+        line(3, "return -1;");
+        line(2, "}");
+        line(0, "");
+        line(2, "switch (fieldName) {");
+        final Set<String> written = new HashSet<>();
+        // Walked backwards, so that of duplicate names the last column wins, as in the reflective accessor
+        for (int i = mColumns.size() - 1; i >= 0; i--) {
+            final String fieldName = mColumns.get(i).getFieldName();
+            if (written.add(fieldName)) {
+                line(3, "case " + quote(fieldName) + ":");
+                line(4, "return " + i + ";");
+            }
+        }
+        line(3, "default:");
+        line(4, "return -1;");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private void writeGetFieldNameByIndex() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public String getFieldNameByIndex(final int index) {");
+        line(2, "return FIELD_NAMES[index];");
+        line(1, "}");
+    }
+
+    private void writeGetFieldNames() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public String[] getFieldNames() {");
+        line(2, "return FIELD_NAMES.clone();");
+        line(1, "}");
+    }
+
+    private void writeGetGetter() {
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public " + COLUMN_GETTER + "<" + mRowType + "> getGetter(final int index) {");
+        line(2, "switch (index) {");
+        for (int i = 0; i < mColumns.size(); i++) {
+            line(3, "case " + i + ":");
+            line(4, "return GETTER_" + i + ";");
+        }
+        line(3, "default:");
+        line(4, "throw new IndexOutOfBoundsException(\"Invalid column index: \" + index);");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private void writeGetterFields() {
+        for (int i = 0; i < mColumns.size(); i++) {
+            final ColumnInfo column = mColumns.get(i);
+            // Getters which throw checked exceptions read as null, as in the reflective accessor
+            final TypeKind kind = column.throwsChecked() ? TypeKind.DECLARED : column.getReturnKind();
+            final String getterClass = getGetterClass(kind) + "<" + mRowType + ">";
+            final String call = (column.isStatic() ? mRowType : "item") + "." + column.getMethodName() + "()";
+
+            line(0, "");
+            line(1, "private static final " + COLUMN_GETTER + "<" + mRowType + "> GETTER_" + i + " =");
+            line(3, "new " + getterClass + "(" + quote(column.getMethodName()) + ") {");
+            line(4, "@Override");
+            line(4, getGetterMethod(kind) + "(final " + mRowType + " item) {");
+            if (column.throwsChecked()) {
+                line(5, "try {");
+                line(6, "return " + call + ";");
+                line(5, "} catch (final Exception e) {");
+                line(6, "return null;");
+                line(5, "}");
+            } else {
+                line(5, "return " + call + ";");
+            }
+            line(4, "}");
+            line(3, "};");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.processor;
+
+import javax.lang.model.type.TypeKind;
+
+/**
+ * A single column of a generated accessor.
+ */
+final class ColumnInfo {
+    private final String mFieldName;
+    private final String mMethodName;
+    private final TypeKind mReturnKind;
+    private final boolean mStatic;
+    private final boolean mThrowsChecked;
+
+    ColumnInfo(final String fieldName,
+               final String methodName,
+               final TypeKind returnKind,
+               final boolean isStatic,
+               final boolean throwsChecked) {
+        mFieldName = fieldName;
+        mMethodName = methodName;
+        mReturnKind = returnKind;
+        mStatic = isStatic;
+        mThrowsChecked = throwsChecked;
+    }
+
+    public String getFieldName() {
+        return mFieldName;
+    }
+
+    public String getMethodName() {
+        return mMethodName;
+    }
+
+    public TypeKind getReturnKind() {
+        return mReturnKind;
+    }
+
+    public boolean isStatic() {
+        return mStatic;
+    }
+
+    public boolean throwsChecked() {
+        return mThrowsChecked;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a TypedFieldAccessor for every class annotated with @EasyCursorRow.
+ * <p>
+ * Columns are discovered with the same rules EasyObjectCursor uses at runtime:
+ * every public, zero argument, non-void method whose name is longer than 3 characters
+ * and starts with "get" or "is", including inherited ones. As at runtime, a getX()/isX() pair
+ * makes two columns of the same name, and getFieldIndexByName() returns the last of them.
+ * <p>
+ * A getter which declares a checked exception reads as null when it throws, as the reflective getter does.
+ * Its column is therefore not typed, and primitive values are boxed.
+ * <p>
+ * The columns are in the order of {@link Elements#getAllMembers(TypeElement)}. At runtime they are in the order of
+ * {@link Class#getMethods()}, which is unspecified, so column indexes can differ between the generated and the
+ * reflective accessor. Look indexes up by name rather than hard coding them.
+ */
+public class EasyCursorRowProcessor extends AbstractProcessor {
+    /* package */ static final String ANNOTATION = "dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow";
+    /* package */ static final String GENERATED_SUFFIX = "_EasyCursorAccessor";
+    private static final String GET = "get";
+    private static final String IS = "is";
+
+    private Elements mElements;
+    private Filer mFiler;
+    private Messager mMessager;
+    private Types mTypes;
+
+    private List<ColumnInfo> collectColumns(final TypeElement type) {
+        final List<ColumnInfo> columns = new ArrayList<>();
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(mElements.getAllMembers(type))) {
+            final String methodName = method.getSimpleName().toString();
+
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                    || methodName.length() <= 3
+                    || !method.getParameters().isEmpty()
+                    || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+
+            final String fieldName;
+            if (methodName.startsWith(GET)) {
+                fieldName = methodName.substring(GET.length()).toLowerCase(Locale.US);
+            } else if (methodName.startsWith(IS)) {
+                fieldName = methodName.substring(IS.length()).toLowerCase(Locale.US);
+            } else {
+                continue;
+            }
+
+            columns.add(new ColumnInfo(
+                    fieldName,
+                    methodName,
+                    method.getReturnType().getKind(),
+                    method.getModifiers().contains(Modifier.STATIC),
+                    throwsChecked(method)));
+        }
+
+        return columns;
+    }
+
+    private void generate(final TypeElement type) {
+        final PackageElement packageElement = mElements.getPackageOf(type);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String accessorName = getAccessorSimpleName(type, packageName);
+        final String qualifiedAccessorName = packageName.isEmpty() ? accessorName : packageName + "." + accessorName;
+
+        final String source = new AccessorWriter(
+                packageName,
+                accessorName,
+                type.getQualifiedName().toString(),
+                collectColumns(type)).write();
+
+        try {
+            final JavaFileObject file = mFiler.createSourceFile(qualifiedAccessorName, type);
+            final Writer writer = file.openWriter();
+            try {
+                writer.write(source);
+            } finally {
+                writer.close();
+            }
+        } catch (final IOException e) {
+            mMessager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + qualifiedAccessorName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private String getAccessorSimpleName(final TypeElement type, final String packageName) {
+        final String binaryName = mElements.getBinaryName(type).toString();
+        final String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simpleBinaryName.replace('$', '_') + GENERATED_SUFFIX;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        mElements = processingEnv.getElementUtils();
+        mFiler = processingEnv.getFiler();
+        mMessager = processingEnv.getMessager();
+        mTypes = processingEnv.getTypeUtils();
+    }
+
+    private boolean isValid(final Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            mMessager.printMessage(Diagnostic.Kind.ERROR, "@EasyCursorRow can only be applied to classes", element);
+            return false;
+        }
+
+        final TypeElement type = (TypeElement) element;
+        if (!type.getTypeParameters().isEmpty()) {
+            mMessager.printMessage(Diagnostic.Kind.ERROR, "@EasyCursorRow classes cannot be generic", element);
+            return false;
+        }
+
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            final TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                mMessager.printMessage(Diagnostic.Kind.ERROR, "@EasyCursorRow classes must be visible to their package", element);
+                return false;
+            }
+            if (currentType.getNestingKind() == NestingKind.MEMBER
+                    && !currentType.getModifiers().contains(Modifier.STATIC)
+                    && currentType.getEnclosingElement().getKind().isClass()) {
+                mMessager.printMessage(Diagnostic.Kind.ERROR, "@EasyCursorRow nested classes must be static", element);
+                return false;
+            }
+            if (currentType.getNestingKind() == NestingKind.LOCAL || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+                mMessager.printMessage(Diagnostic.Kind.ERROR, "@EasyCursorRow cannot be applied to local classes", element);
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private boolean throwsChecked(final ExecutableElement method) {
+        final TypeMirror runtimeException = mElements.getTypeElement(RuntimeException.class.getName()).asType();
+        final TypeMirror error = mElements.getTypeElement(Error.class.getName()).asType();
+
+        for (final TypeMirror thrown : method.getThrownTypes()) {
+            if (!mTypes.isSubtype(thrown, runtimeException) && !mTypes.isSubtype(thrown, error)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement annotation = mElements.getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (isValid(element)) {
+                generate((TypeElement) element);
+            }
+        }
+
+        return true;
+    }
+}
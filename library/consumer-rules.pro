@@ -0,0 +1,6 @@
+# Accessors generated for @EasyCursorRow classes are looked up by name at runtime.
+-keep class * implements dev.alt236.easycursor.objectcursor.TypedFieldAccessor {
+    public <init>();
+}
+# The generated accessor name is derived from the row class name.
+-keepnames @dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow class *
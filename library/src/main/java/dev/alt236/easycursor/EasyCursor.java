@@ -21,6 +21,9 @@ package dev.alt236.easycursor;
 
 import android.database.Cursor;
 
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
 public interface EasyCursor extends Cursor {
 
     /**
@@ -114,6 +117,31 @@ public interface EasyCursor extends Cursor {
      */
     String getString(final String columnName);
 
+    /**
+     * Returns the registry of {@link dev.alt236.easycursor.conversion.TypeConverter}s used by
+     * {@link #getValue(String, Class)} and {@link #optValue(String, Class)}.
+     * Converters registered here only apply to this cursor and take precedence over the global ones.
+     *
+     * @return the registry
+     */
+    TypeConverterRegistry getTypeConverters();
+
+    /**
+     * Returns the value of the requested column converted to the given type or throws
+     * IllegalArgumentException if the column doesn't exist.
+     * <p>
+     * Values which already are of the requested type are returned as they are. Anything else is converted
+     * using the {@link dev.alt236.easycursor.conversion.TypeConverter} registered for the type.
+     *
+     * @param columnName the column name
+     * @param type       the type to convert to
+     * @param <R>        the type to convert to
+     * @return the value from cursor, or null if the value is null
+     * @throws IllegalArgumentException if the column doesn't exist
+     * @throws ConversionErrorException if the value cannot be converted to the requested type
+     */
+    <R> R getValue(final String columnName, final Class<R> type);
+
     /**
      * Returns <code>true</code> if the value in the indicated column is null.
      *
@@ -325,4 +353,15 @@ public interface EasyCursor extends Cursor {
      */
     String optString(final String columnName, final String fallback);
 
+    /**
+     * Extracts the contents of a cursors Column converted to the given type, as described in {@link #getValue(String, Class)}.
+     * If the column does not exist or its value cannot be converted, it will return null.
+     *
+     * @param columnName the column name
+     * @param type       the type to convert to
+     * @param <R>        the type to convert to
+     * @return the value from cursor if the column exists and could be converted, null otherwise
+     */
+    <R> R optValue(final String columnName, final Class<R> type);
+
 }
\ No newline at end of file
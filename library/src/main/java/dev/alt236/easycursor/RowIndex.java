@@ -0,0 +1,216 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor;
+
+import java.util.Arrays;
+
+import dev.alt236.easycursor.internal.RowOrder;
+
+/**
+ * An in-memory index from the integral values of a column to the rows of a cursor which hold them.
+ * <p>
+ * A {@link Type#HASH} index answers exact lookups in constant time. A {@link Type#SORTED} index answers
+ * exact lookups by binary search, and can also return every row within a range of values.
+ * Rows whose value is null are not indexed.
+ * <p>
+ * An index only holds primitive arrays and keeps no reference to the cursor or its rows,
+ * so it can be built on a background thread and attached to any cursor over the same rows.
+ */
+public final class RowIndex {
+    private static final int NO_ROW = -1;
+
+    private final String mColumnName;
+    private final Type mType;
+    private final int mRowCount;
+    // HASH: an open addressing table, where empty slots have NO_ROW. SORTED: the keys in order, with their rows.
+    private final long[] mKeys;
+    private final int[] mRows;
+
+    private RowIndex(final String columnName,
+                     final Type type,
+                     final int rowCount,
+                     final long[] keys,
+                     final int[] rows) {
+        mColumnName = columnName;
+        mType = type;
+        mRowCount = rowCount;
+        mKeys = keys;
+        mRows = rows;
+    }
+
+    public String getColumnName() {
+        return mColumnName;
+    }
+
+    /**
+     * Returns the first row which has a value.
+     *
+     * @param key the value
+     * @return the row, or -1 if no row has the value
+     */
+    public int getRow(final long key) {
+        if (mType == Type.HASH) {
+            final int mask = mKeys.length - 1;
+            int slot = hash(key) & mask;
+            while (mRows[slot] != NO_ROW) {
+                if (mKeys[slot] == key) {
+                    return mRows[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NO_ROW;
+        } else {
+            final int index = lowerBound(key);
+            return index < mKeys.length && mKeys[index] == key ? mRows[index] : NO_ROW;
+        }
+    }
+
+    /**
+     * @return the number of rows of the cursor this index was built from
+     */
+    public int getRowCount() {
+        return mRowCount;
+    }
+
+    /**
+     * Returns the rows whose value is within a range, ordered by value. Rows with the same value keep their order.
+     *
+     * @param from the lowest value, inclusive
+     * @param to   the highest value, inclusive
+     * @return the rows
+     * @throws UnsupportedOperationException if this is not a {@link Type#SORTED} index
+     */
+    public int[] getRows(final long from, final long to) {
+        if (mType != Type.SORTED) {
+            throw new UnsupportedOperationException("A " + mType + " index on '" + mColumnName + "' does not support range lookups");
+        }
+        if (from > to) {
+            return new int[0];
+        }
+
+        final int start = lowerBound(from);
+        final int end = to == Long.MAX_VALUE ? mKeys.length : lowerBound(to + 1);
+        return Arrays.copyOfRange(mRows, start, end);
+    }
+
+    public Type getType() {
+        return mType;
+    }
+
+    private int lowerBound(final long key) {
+        int low = 0;
+        int high = mKeys.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (mKeys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "RowIndex{" +
+                "mColumnName='" + mColumnName + '\'' +
+                ", mType=" + mType +
+                ", mRowCount=" + mRowCount +
+                '}';
+    }
+
+    /**
+     * Creates an index from the value of each row.
+     *
+     * @param columnName the column the values were read from
+     * @param type       the type of index
+     * @param keys       the value of each row
+     * @param nulls      the rows whose value is null, or null if there are none
+     * @return the index
+     */
+    public static RowIndex create(final String columnName,
+                                  final Type type,
+                                  final long[] keys,
+                                  final boolean[] nulls) {
+        final int count = keys.length;
+
+        if (type == Type.HASH) {
+            int capacity = 2;
+            while (capacity < count * 2) {
+                capacity <<= 1;
+            }
+
+            final long[] table = new long[capacity];
+            final int[] rows = new int[capacity];
+            Arrays.fill(rows, NO_ROW);
+
+            final int mask = capacity - 1;
+            for (int row = 0; row < count; row++) {
+                if (nulls != null && nulls[row]) {
+                    continue;
+                }
+
+                final long key = keys[row];
+                int slot = hash(key) & mask;
+                while (rows[slot] != NO_ROW && table[slot] != key) {
+                    slot = (slot + 1) & mask;
+                }
+                // Rows are added in order, so a duplicate value keeps pointing at its first row
+                if (rows[slot] == NO_ROW) {
+                    table[slot] = key;
+                    rows[slot] = row;
+                }
+            }
+            return new RowIndex(columnName, type, count, table, rows);
+        } else {
+            final int[] order = RowOrder.sort(count, RowOrder.onLongs(keys, nulls), true);
+
+            // Nulls sort first, so skip past them
+            int start = 0;
+            while (nulls != null && start < count && nulls[order[start]]) {
+                start++;
+            }
+
+            final int[] rows = Arrays.copyOfRange(order, start, count);
+            final long[] sortedKeys = new long[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                sortedKeys[i] = keys[rows[i]];
+            }
+            return new RowIndex(columnName, type, count, sortedKeys, rows);
+        }
+    }
+
+    private static int hash(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    public enum Type {
+        /**
+         * Exact lookups only, in constant time.
+         */
+        HASH,
+        /**
+         * Exact lookups by binary search, and range lookups.
+         */
+        SORTED
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor;
+
+/**
+ * Decides which rows a filtered cursor view keeps.
+ *
+ * @param <T> the type of the rows, for example the objects of an object cursor
+ */
+public interface RowPredicate<T> {
+
+    /**
+     * @param row the row
+     * @return true to keep the row
+     */
+    boolean accept(final T row);
+}
@@ -0,0 +1,66 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Converts integral numbers, floating point numbers (via their decimal String representation),
+ * {@link BigInteger}s and Strings to {@link BigDecimal}.
+ */
+/* package */ final class BigDecimalTypeConverter implements TypeConverter<BigDecimal> {
+    private static final Conversion<BigDecimal> FROM_LONG = new Conversion<BigDecimal>() {
+        @Override
+        public BigDecimal convert(final Object value) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+    };
+
+    private static final Conversion<BigDecimal> FROM_BIG_INTEGER = new Conversion<BigDecimal>() {
+        @Override
+        public BigDecimal convert(final Object value) {
+            return new BigDecimal((BigInteger) value);
+        }
+    };
+
+    private static final Conversion<BigDecimal> FROM_STRING_REPRESENTATION = new Conversion<BigDecimal>() {
+        @Override
+        public BigDecimal convert(final Object value) {
+            return new BigDecimal(value.toString().trim());
+        }
+    };
+
+    @Override
+    public Conversion<BigDecimal> getConversion(final Class<?> sourceType) {
+        if (sourceType == Long.class
+                || sourceType == Integer.class
+                || sourceType == Short.class
+                || sourceType == Byte.class) {
+            return FROM_LONG;
+        } else if (sourceType == BigInteger.class) {
+            return FROM_BIG_INTEGER;
+        } else if (sourceType == String.class || Number.class.isAssignableFrom(sourceType)) {
+            return FROM_STRING_REPRESENTATION;
+        } else {
+            return null;
+        }
+    }
+}
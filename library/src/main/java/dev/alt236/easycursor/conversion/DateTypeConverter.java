@@ -0,0 +1,97 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ * Converts numbers, read as milliseconds since the epoch, to {@link Date}.
+ * <p>
+ * Strings are read as milliseconds since the epoch if they are integral,
+ * or otherwise in the "yyyy-MM-dd HH:mm:ss" UTC format produced by the SQLite date and time functions.
+ */
+/* package */ final class DateTypeConverter implements TypeConverter<Date> {
+    private static final String SQLITE_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private static final Conversion<Date> FROM_NUMBER = new Conversion<Date>() {
+        @Override
+        public Date convert(final Object value) {
+            return new Date(((Number) value).longValue());
+        }
+    };
+
+    @Override
+    public Conversion<Date> getConversion(final Class<?> sourceType) {
+        if (Number.class.isAssignableFrom(sourceType)) {
+            return FROM_NUMBER;
+        } else if (sourceType == String.class) {
+            // SimpleDateFormat is not thread safe, so every column gets its own
+            return new FromString();
+        } else {
+            return null;
+        }
+    }
+
+    private static final class FromString implements Conversion<Date> {
+        private final SimpleDateFormat mFormat;
+
+        private FromString() {
+            mFormat = new SimpleDateFormat(SQLITE_DATE_FORMAT, Locale.US);
+            mFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+            mFormat.setLenient(false);
+        }
+
+        @Override
+        public Date convert(final Object value) {
+            final String string = ((String) value).trim();
+            if (isIntegral(string)) {
+                return new Date(Long.parseLong(string));
+            }
+
+            final ParsePosition position = new ParsePosition(0);
+            final Date result = mFormat.parse(string, position);
+            if (result == null || position.getIndex() != string.length()) {
+                throw new ConversionErrorException("Unable to parse '" + string + "' as a date");
+            }
+            return result;
+        }
+
+        private static boolean isIntegral(final String string) {
+            final int start = string.startsWith("-") ? 1 : 0;
+            if (string.length() == start) {
+                return false;
+            }
+
+            for (int i = start; i < string.length(); i++) {
+                final char c = string.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ * Converts Strings to the enum constant with the same name, and integral numbers to the constant with that ordinal.
+ */
+/* package */ final class EnumTypeConverter<E extends Enum<E>> implements TypeConverter<E> {
+    private final Class<E> mType;
+    private final E[] mConstants;
+    private final Map<String, E> mConstantsByName;
+
+    /* package */ EnumTypeConverter(final Class<E> type) {
+        mType = type;
+        mConstants = type.getEnumConstants();
+        mConstantsByName = new HashMap<>(mConstants.length * 2);
+        for (final E constant : mConstants) {
+            mConstantsByName.put(constant.name(), constant);
+        }
+    }
+
+    @Override
+    public Conversion<E> getConversion(final Class<?> sourceType) {
+        if (sourceType == String.class) {
+            return new Conversion<E>() {
+                @Override
+                public E convert(final Object value) {
+                    final E result = mConstantsByName.get(value);
+                    if (result == null) {
+                        throw new ConversionErrorException("'" + value + "' is not a constant of " + mType.getName());
+                    }
+                    return result;
+                }
+            };
+        } else if (sourceType == Integer.class
+                || sourceType == Long.class
+                || sourceType == Short.class
+                || sourceType == Byte.class) {
+            return new Conversion<E>() {
+                @Override
+                public E convert(final Object value) {
+                    final long ordinal = ((Number) value).longValue();
+                    if (ordinal < 0 || ordinal >= mConstants.length) {
+                        throw new ConversionErrorException(ordinal + " is not an ordinal of " + mType.getName());
+                    }
+                    return mConstants[(int) ordinal];
+                }
+            };
+        } else {
+            return null;
+        }
+    }
+}
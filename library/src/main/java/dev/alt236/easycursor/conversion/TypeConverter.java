@@ -0,0 +1,62 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ * Converts column values to a type which the typed getters of an EasyCursor do not cover,
+ * for example an enum or a value class.
+ * <p>
+ * Converters are registered in a {@link TypeConverterRegistry}, either globally or on a single cursor.
+ * A cursor asks the converter for a {@link Conversion} once per column, using the class of the first
+ * value it reads, and reuses that conversion for as long as the column keeps producing values of the same class.
+ * Implementations should therefore do their type checks in {@link #getConversion(Class)} rather than per value.
+ *
+ * @param <R> the type this converter produces
+ */
+public interface TypeConverter<R> {
+
+    /**
+     * Returns a conversion for values of the given class.
+     *
+     * @param sourceType the class of the values to convert
+     * @return the conversion, or null if values of sourceType cannot be converted
+     */
+    Conversion<R> getConversion(final Class<?> sourceType);
+
+    /**
+     * Converts values of a single source class.
+     *
+     * @param <R> the type this conversion produces
+     */
+    interface Conversion<R> {
+
+        /**
+         * Converts a value.
+         *
+         * @param value a non null value of the class this conversion was created for
+         * @return the converted value
+         * @throws ConversionErrorException if the value cannot be converted.
+         *                                  Any other RuntimeException is rethrown wrapped in one.
+         */
+        R convert(final Object value);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the {@link TypeConverter}s used by the getValue() and optValue() methods of an EasyCursor,
+ * keyed by the exact type they produce.
+ * <p>
+ * Every cursor has its own registry, which falls back to the global one returned by {@link #getGlobal()}.
+ * The global registry comes with converters for {@link BigDecimal}, {@link Date} and {@link UUID},
+ * and any enum is converted from its constant name or ordinal unless a converter is registered for it.
+ * <p>
+ * Registries are thread safe.
+ */
+public final class TypeConverterRegistry {
+    private static final TypeConverterRegistry GLOBAL = createGlobal();
+
+    private final Map<Class<?>, TypeConverter<?>> mConverters = new ConcurrentHashMap<>();
+    private final AtomicInteger mModificationCount = new AtomicInteger();
+    private final TypeConverterRegistry mParent;
+
+    /**
+     * Creates an empty registry which falls back to the global one.
+     */
+    public TypeConverterRegistry() {
+        this(GLOBAL);
+    }
+
+    private TypeConverterRegistry(final TypeConverterRegistry parent) {
+        mParent = parent;
+    }
+
+    /**
+     * Returns the converter for the given type, looking in this registry first and then in its parent.
+     *
+     * @param type the type to convert to
+     * @param <R>  the type to convert to
+     * @return the converter, or null if there is none
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <R> TypeConverter<? extends R> find(final Class<R> type) {
+        final TypeConverter<?> converter = mConverters.get(type);
+        if (converter != null) {
+            return (TypeConverter<? extends R>) converter;
+        } else if (mParent != null) {
+            return mParent.find(type);
+        } else if (type.isEnum()) {
+            return new EnumTypeConverter(type);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a counter which changes whenever this registry or its parent is modified.
+     * Cursors use it to tell when their cached conversions are stale.
+     *
+     * @return the modification count
+     */
+    public int getModificationCount() {
+        if (mParent == null) {
+            return mModificationCount.get();
+        } else {
+            return mModificationCount.get() + mParent.getModificationCount();
+        }
+    }
+
+    /**
+     * Registers a converter, replacing any converter previously registered here for the same type.
+     *
+     * @param type      the type the converter produces
+     * @param converter the converter
+     * @param <R>       the type the converter produces
+     */
+    public <R> void register(final Class<R> type, final TypeConverter<? extends R> converter) {
+        if (type == null || converter == null) {
+            throw new IllegalArgumentException("Type and converter cannot be null");
+        }
+
+        mConverters.put(type, converter);
+        mModificationCount.incrementAndGet();
+    }
+
+    /**
+     * Removes the converter registered here for a type, if any.
+     * Converters registered in the parent registry are not affected.
+     *
+     * @param type the type
+     */
+    public void unregister(final Class<?> type) {
+        if (mConverters.remove(type) != null) {
+            mModificationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the registry every other registry falls back to.
+     * Converters registered here are visible to all cursors.
+     *
+     * @return the global registry
+     */
+    public static TypeConverterRegistry getGlobal() {
+        return GLOBAL;
+    }
+
+    private static TypeConverterRegistry createGlobal() {
+        final TypeConverterRegistry registry = new TypeConverterRegistry(null);
+        registry.register(BigDecimal.class, new BigDecimalTypeConverter());
+        registry.register(Date.class, new DateTypeConverter());
+        registry.register(UUID.class, new UuidTypeConverter());
+        return registry;
+    }
+}
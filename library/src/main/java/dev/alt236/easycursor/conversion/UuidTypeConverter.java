@@ -0,0 +1,69 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import java.util.UUID;
+
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ * Converts Strings in the {@link UUID#toString()} format and 16 byte big endian blobs to {@link UUID}.
+ */
+/* package */ final class UuidTypeConverter implements TypeConverter<UUID> {
+    private static final int UUID_BYTE_SIZE = 16;
+
+    private static final Conversion<UUID> FROM_STRING = new Conversion<UUID>() {
+        @Override
+        public UUID convert(final Object value) {
+            return UUID.fromString(((String) value).trim());
+        }
+    };
+
+    private static final Conversion<UUID> FROM_BYTE_ARRAY = new Conversion<UUID>() {
+        @Override
+        public UUID convert(final Object value) {
+            final byte[] array = (byte[]) value;
+            if (array.length != UUID_BYTE_SIZE) {
+                throw new ConversionErrorException("Unable to convert a byte[" + array.length + "] to a UUID");
+            }
+
+            return new UUID(readLong(array, 0), readLong(array, 8));
+        }
+    };
+
+    @Override
+    public Conversion<UUID> getConversion(final Class<?> sourceType) {
+        if (sourceType == String.class) {
+            return FROM_STRING;
+        } else if (sourceType == byte[].class) {
+            return FROM_BYTE_ARRAY;
+        } else {
+            return null;
+        }
+    }
+
+    private static long readLong(final byte[] array, final int offset) {
+        long bits = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            bits = (bits << 8) | (array[i] & 0xFF);
+        }
+        return bits;
+    }
+}
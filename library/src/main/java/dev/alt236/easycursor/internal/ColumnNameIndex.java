@@ -0,0 +1,123 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+/**
+ * An immutable, case-insensitive column name to index lookup table.
+ * <p>
+ * Lookups do not allocate or lock, so this is safe to share between threads and to call per row.
+ * If two names are equal, ignoring case, either the first or the last one wins.
+ */
+public final class ColumnNameIndex {
+    private final String[] mKeys;
+    private final int[] mValues;
+    private final int mMask;
+
+    /**
+     * Creates an index where the first of any duplicate names wins, as in {@link android.database.AbstractCursor}.
+     *
+     * @param names the column names
+     */
+    public ColumnNameIndex(final String[] names) {
+        this(names, false);
+    }
+
+    /**
+     * @param names             the column names
+     * @param lastDuplicateWins true if the last of any duplicate names wins, as in {@link android.database.sqlite.SQLiteCursor}
+     */
+    public ColumnNameIndex(final String[] names, final boolean lastDuplicateWins) {
+        int capacity = 2;
+        while (capacity < names.length * 2) {
+            capacity <<= 1;
+        }
+
+        mKeys = new String[capacity];
+        mValues = new int[capacity];
+        mMask = capacity - 1;
+
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] != null) {
+                put(names[i], i, lastDuplicateWins);
+            }
+        }
+    }
+
+    private static char fold(final char c) {
+        if (c < 128) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        } else {
+            // Same folding as String.regionMatches(true, ...)
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+    }
+
+    private static int hash(final String name) {
+        int hash = 0;
+        final int length = name.length();
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + fold(name.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the index of a column, ignoring case.
+     *
+     * @param name the column name
+     * @return the column index, or -1 if there is no such column
+     */
+    public int indexOf(final String name) {
+        if (name == null) {
+            return -1;
+        }
+
+        int slot = hash(name) & mMask;
+        while (true) {
+            final String key = mKeys[slot];
+            if (key == null) {
+                return -1;
+            } else if (matches(key, name)) {
+                return mValues[slot];
+            }
+            slot = (slot + 1) & mMask;
+        }
+    }
+
+    private static boolean matches(final String key, final String name) {
+        return key.length() == name.length() && key.regionMatches(true, 0, name, 0, name.length());
+    }
+
+    private void put(final String name, final int index, final boolean replace) {
+        int slot = hash(name) & mMask;
+        while (mKeys[slot] != null) {
+            if (matches(mKeys[slot], name)) {
+                if (replace) {
+                    mValues[slot] = index;
+                }
+                return;
+            }
+            slot = (slot + 1) & mMask;
+        }
+
+        mKeys[slot] = name;
+        mValues[slot] = index;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits work over an index range between the calling thread and a shared pool of worker threads.
+ * <p>
+ * The pool has one thread per available processor and lets its threads time out when idle,
+ * so it costs nothing while unused. Ranges which are too small to be worth splitting run on the calling thread only.
+ */
+public final class ParallelRanges {
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private static ThreadPoolExecutor sExecutor;
+
+    private ParallelRanges() {
+        // NOOP
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = new ThreadPoolExecutor(
+                    PARALLELISM,
+                    PARALLELISM,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new WorkerThreadFactory());
+            sExecutor.allowCoreThreadTimeOut(true);
+        }
+        return sExecutor;
+    }
+
+    /**
+     * Returns how many parts a range of the given size would be split into.
+     *
+     * @param size         the size of the range
+     * @param minChunkSize the smallest part worth running on its own thread
+     * @return the number of parts, at least 1
+     */
+    public static int getChunkCount(final int size, final int minChunkSize) {
+        return getChunkCount(size, minChunkSize, PARALLELISM);
+    }
+
+    private static int getChunkCount(final int size, final int minChunkSize, final int maxChunks) {
+        final int byWork = size / Math.max(1, minChunkSize);
+        return Math.max(1, Math.min(maxChunks, byWork));
+    }
+
+    /**
+     * Splits [0, size) into contiguous parts, runs the task on each part and returns the results in range order.
+     * The first part runs on the calling thread.
+     *
+     * @param size         the size of the range
+     * @param minChunkSize the smallest part worth running on its own thread
+     * @param task         the task
+     * @param <R>          the result type
+     * @return the result of each part, in range order
+     * @throws RuntimeException (or Error) if the task threw one for any part
+     */
+    public static <R> List<R> map(final int size, final int minChunkSize, final RangeTask<R> task) {
+        return map(size, minChunkSize, PARALLELISM, task);
+    }
+
+    /**
+     * Same as {@link #map(int, int, RangeTask)}, but splits the range into at most maxChunks parts
+     * instead of one per available processor.
+     *
+     * @param size         the size of the range
+     * @param minChunkSize the smallest part worth running on its own thread
+     * @param maxChunks    the most parts to split the range into
+     * @param task         the task
+     * @param <R>          the result type
+     * @return the result of each part, in range order
+     */
+    public static <R> List<R> map(final int size, final int minChunkSize, final int maxChunks, final RangeTask<R> task) {
+        final int chunks = getChunkCount(size, minChunkSize, maxChunks);
+        final List<R> results = new ArrayList<>(chunks);
+
+        if (chunks == 1) {
+            results.add(task.run(0, size));
+            return results;
+        }
+
+        final int chunkSize = (size + chunks - 1) / chunks;
+        final List<Future<R>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(size, from + chunkSize);
+            futures.add(getExecutor().submit(new Callable<R>() {
+                @Override
+                public R call() {
+                    return task.run(start, end);
+                }
+            }));
+        }
+
+        results.add(task.run(0, Math.min(size, chunkSize)));
+        for (final Future<R> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    private static <R> R await(final Future<R> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else {
+                        throw new IllegalStateException(cause);
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Work over a part of a range.
+     *
+     * @param <R> the result type
+     */
+    public interface RangeTask<R> {
+        /**
+         * @param from the first index, inclusive
+         * @param to   the last index, exclusive
+         * @return the result for this part
+         */
+        R run(final int from, final int to);
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "EasyCursor-worker-" + mCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
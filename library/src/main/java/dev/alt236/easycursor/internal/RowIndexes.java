@@ -0,0 +1,100 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.alt236.easycursor.RowIndex;
+
+/**
+ * Holds the indexes attached to a cursor, and turns column values into index keys.
+ * <p>
+ * Indexes are usually built on a background thread and attached while the cursor is in use,
+ * so access is synchronised.
+ */
+public final class RowIndexes {
+    private final Map<String, RowIndex> mHashIndexes = new HashMap<>();
+    private final Map<String, RowIndex> mSortedIndexes = new HashMap<>();
+
+    public synchronized void add(final RowIndex index) {
+        if (index.getType() == RowIndex.Type.HASH) {
+            mHashIndexes.put(index.getColumnName(), index);
+        } else {
+            mSortedIndexes.put(index.getColumnName(), index);
+        }
+    }
+
+    /**
+     * @return the index to use for exact lookups on a column, or null if there is none
+     */
+    public synchronized RowIndex getForKey(final String columnName) {
+        final RowIndex index = mHashIndexes.get(columnName);
+        return index == null ? mSortedIndexes.get(columnName) : index;
+    }
+
+    /**
+     * @return the index to use for range lookups on a column, or null if there is none
+     */
+    public synchronized RowIndex getForRange(final String columnName) {
+        return mSortedIndexes.get(columnName);
+    }
+
+    /**
+     * Creates an index from the value of each row.
+     *
+     * @throws IllegalArgumentException if a value is neither null nor an integral number
+     */
+    public static RowIndex create(final String columnName, final RowIndex.Type type, final Object[] values) {
+        final long[] keys = new long[values.length];
+        boolean[] nulls = null;
+
+        for (int i = 0; i < values.length; i++) {
+            final Object value = values[i];
+            if (value == null) {
+                if (nulls == null) {
+                    nulls = new boolean[values.length];
+                }
+                nulls[i] = true;
+            } else if (isKey(value)) {
+                keys[i] = ((Number) value).longValue();
+            } else {
+                throw new IllegalArgumentException("Cannot index '" + columnName + "': row " + i
+                        + " has a " + value.getClass().getName() + " value, which is not an integral number");
+            }
+        }
+        return RowIndex.create(columnName, type, keys, nulls);
+    }
+
+    /**
+     * @return true if a value can be used as an index key, i.e. if it is an integral number
+     */
+    public static boolean isKey(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return true;
+        } else if (value instanceof Number) {
+            // JSON parsers may decode 12.0 or large ids as doubles or other Number types
+            final double number = ((Number) value).doubleValue();
+            return number == Math.rint(number) && Math.abs(number) < 0x1p63;
+        } else {
+            return false;
+        }
+    }
+}
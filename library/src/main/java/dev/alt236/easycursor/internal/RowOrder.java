@@ -0,0 +1,290 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the row permutations behind the sorted and filtered cursor views.
+ * <p>
+ * Sorting is a stable merge sort over row indexes. The rows are compared through a {@link RowComparator},
+ * which for column sorts reads keys that were extracted once per row, so no getter runs inside the sort.
+ * Large inputs are split into ranges which are sorted in parallel and then merged.
+ */
+public final class RowOrder {
+    // Merging costs a full extra pass, so each range has to be large enough to pay for it
+    private static final int MIN_ROWS_PER_THREAD = 8192;
+
+    private RowOrder() {
+        // NOOP
+    }
+
+    /**
+     * Maps the rows of a view over another view back to positions in the underlying source,
+     * so that views of views do not stack up indirections.
+     *
+     * @param parentRows the rows of the parent view, or null if the parent is not a view
+     * @param rows       the rows of the new view, as positions in the parent view
+     * @return the rows of the new view, as positions in the source
+     */
+    public static int[] compose(final int[] parentRows, final int[] rows) {
+        if (parentRows == null) {
+            return rows;
+        }
+
+        final int[] result = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = parentRows[rows[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Compares rows on a column of integral keys.
+     *
+     * @param keys  the key of each row
+     * @param nulls the rows whose key is null, or null if there are none. Nulls sort first.
+     * @return the comparator
+     */
+    public static RowComparator onLongs(final long[] keys, final boolean[] nulls) {
+        return new RowComparator() {
+            @Override
+            public int compare(final int first, final int second) {
+                if (nulls != null && (nulls[first] || nulls[second])) {
+                    return compareNulls(nulls[first], nulls[second]);
+                }
+                return keys[first] < keys[second] ? -1 : (keys[first] == keys[second] ? 0 : 1);
+            }
+        };
+    }
+
+    /**
+     * Compares rows on a column of floating point keys.
+     *
+     * @param keys  the key of each row
+     * @param nulls the rows whose key is null, or null if there are none. Nulls sort first.
+     * @return the comparator
+     */
+    public static RowComparator onDoubles(final double[] keys, final boolean[] nulls) {
+        return new RowComparator() {
+            @Override
+            public int compare(final int first, final int second) {
+                if (nulls != null && (nulls[first] || nulls[second])) {
+                    return compareNulls(nulls[first], nulls[second]);
+                }
+                return Double.compare(keys[first], keys[second]);
+            }
+        };
+    }
+
+    /**
+     * Compares rows on a column of arbitrary values, which are unboxed into primitive keys where possible.
+     * <p>
+     * Columns of integral numbers are compared as longs, columns of any numbers as doubles, and anything else
+     * by its natural order. Nulls sort first.
+     *
+     * @param values the value of each row
+     * @return the comparator
+     * @throws IllegalArgumentException if the values are neither all numbers nor all mutually comparable
+     */
+    public static RowComparator onValues(final Object[] values) {
+        boolean allIntegral = true;
+        boolean allNumbers = true;
+        boolean hasNulls = false;
+        Class<?> commonClass = null;
+        boolean sameClass = true;
+
+        for (final Object value : values) {
+            if (value == null) {
+                hasNulls = true;
+                continue;
+            }
+
+            final boolean integral = value instanceof Long || value instanceof Integer
+                    || value instanceof Short || value instanceof Byte;
+            allIntegral &= integral;
+            allNumbers &= value instanceof Number;
+            if (commonClass == null) {
+                commonClass = value.getClass();
+            } else if (commonClass != value.getClass()) {
+                sameClass = false;
+            }
+        }
+
+        final boolean[] nulls = hasNulls ? new boolean[values.length] : null;
+        if (nulls != null) {
+            for (int i = 0; i < values.length; i++) {
+                nulls[i] = values[i] == null;
+            }
+        }
+
+        if (commonClass != null && allIntegral) {
+            final long[] keys = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                keys[i] = values[i] == null ? 0 : ((Number) values[i]).longValue();
+            }
+            return onLongs(keys, nulls);
+        } else if (commonClass != null && allNumbers) {
+            final double[] keys = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                keys[i] = values[i] == null ? 0 : ((Number) values[i]).doubleValue();
+            }
+            return onDoubles(keys, nulls);
+        } else if (commonClass == null || (sameClass && Comparable.class.isAssignableFrom(commonClass))) {
+            return new RowComparator() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public int compare(final int first, final int second) {
+                    final Object a = values[first];
+                    final Object b = values[second];
+                    if (a == null || b == null) {
+                        return compareNulls(a == null, b == null);
+                    }
+                    return ((Comparable<Object>) a).compareTo(b);
+                }
+            };
+        } else {
+            throw new IllegalArgumentException("Cannot sort on a column of " + commonClass.getName()
+                    + (sameClass ? ", which is not Comparable" : " mixed with other types"));
+        }
+    }
+
+    private static int compareNulls(final boolean firstIsNull, final boolean secondIsNull) {
+        if (firstIsNull == secondIsNull) {
+            return 0;
+        }
+        return firstIsNull ? -1 : 1;
+    }
+
+    /**
+     * Returns the rows [0, count) in the order given by a comparator. Equal rows keep their order.
+     *
+     * @param count      the number of rows
+     * @param comparator the comparator. It may be called from several threads at once for large inputs.
+     * @param ascending  false to reverse the order
+     * @return the sorted rows
+     */
+    public static int[] sort(final int count, final RowComparator comparator, final boolean ascending) {
+        return sort(count, comparator, ascending, ParallelRanges.getChunkCount(count, MIN_ROWS_PER_THREAD));
+    }
+
+    /* package */ static int[] sort(final int count,
+                                    final RowComparator comparator,
+                                    final boolean ascending,
+                                    final int chunks) {
+        final RowComparator order = ascending ? comparator : new RowComparator() {
+            @Override
+            public int compare(final int first, final int second) {
+                // Negated rather than swapped, so that equal rows stay in order
+                return -comparator.compare(first, second);
+            }
+        };
+
+        final int[] rows = new int[count];
+        final int[] buffer = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = i;
+        }
+
+        final List<int[]> ranges = ParallelRanges.map(count, 1, chunks, new ParallelRanges.RangeTask<int[]>() {
+            @Override
+            public int[] run(final int from, final int to) {
+                mergeSort(rows, buffer, from, to, order);
+                return new int[]{from, to};
+            }
+        });
+
+        // Each range is sorted, so merge neighbouring ranges until only one is left
+        int[] source = rows;
+        int[] target = buffer;
+        List<int[]> current = ranges;
+        while (current.size() > 1) {
+            final List<int[]> merged = new ArrayList<>((current.size() + 1) / 2);
+            for (int i = 0; i < current.size(); i += 2) {
+                final int from = current.get(i)[0];
+                if (i + 1 == current.size()) {
+                    final int to = current.get(i)[1];
+                    System.arraycopy(source, from, target, from, to - from);
+                    merged.add(new int[]{from, to});
+                } else {
+                    final int middle = current.get(i + 1)[0];
+                    final int to = current.get(i + 1)[1];
+                    merge(source, target, from, middle, to, order);
+                    merged.add(new int[]{from, to});
+                }
+            }
+
+            final int[] swap = source;
+            source = target;
+            target = swap;
+            current = merged;
+        }
+        return source;
+    }
+
+    private static void merge(final int[] source,
+                              final int[] target,
+                              final int from,
+                              final int middle,
+                              final int to,
+                              final RowComparator order) {
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && order.compare(source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    /**
+     * Sorts rows[from, to) in place, using buffer[from, to) as scratch space.
+     */
+    private static void mergeSort(final int[] rows,
+                                  final int[] buffer,
+                                  final int from,
+                                  final int to,
+                                  final RowComparator order) {
+        if (to - from < 2) {
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        mergeSort(rows, buffer, from, middle, order);
+        mergeSort(rows, buffer, middle, to, order);
+        if (order.compare(rows[middle - 1], rows[middle]) <= 0) {
+            // Already in order
+            return;
+        }
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        merge(buffer, rows, from, middle, to, order);
+    }
+
+    /**
+     * Compares two rows by their positions.
+     */
+    public interface RowComparator {
+        int compare(final int first, final int second);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal.conversion;
+
+import java.util.Arrays;
+
+/**
+ * Counts the values which could not be converted to the requested type, per column.
+ * <p>
+ * Null values are not counted as failures.
+ */
+public final class ConversionFailureCounter {
+    private final int[] mCounts;
+
+    public ConversionFailureCounter(final int columnCount) {
+        mCounts = new int[columnCount];
+    }
+
+    /**
+     * Returns the number of failed conversions for a column.
+     *
+     * @param column the column index
+     * @return the failure count, or 0 if the column does not exist
+     */
+    public int get(final int column) {
+        if (column < 0 || column >= mCounts.length) {
+            return 0;
+        } else {
+            return mCounts[column];
+        }
+    }
+
+    public int getTotal() {
+        int total = 0;
+        for (final int count : mCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public void increment(final int column) {
+        if (column >= 0 && column < mCounts.length) {
+            mCounts[column]++;
+        }
+    }
+
+    public void reset() {
+        Arrays.fill(mCounts, 0);
+    }
+}
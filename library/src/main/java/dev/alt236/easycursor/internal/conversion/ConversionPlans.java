@@ -0,0 +1,131 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal.conversion;
+
+import dev.alt236.easycursor.conversion.TypeConverter;
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ * Caches, per column, how values are converted to a {@link TypeConverter} provided type.
+ * <p>
+ * A plan is resolved from the class of the first value read from a column and reused for as long as the
+ * column keeps producing values of that class, so the registry lookup and the converter's type checks
+ * only run again when the guard fails (a different source or target class, or a modified registry).
+ * <p>
+ * Not thread safe, like the cursors which own it.
+ */
+public final class ConversionPlans {
+    private static final TypeConverter.Conversion<Object> IDENTITY = new TypeConverter.Conversion<Object>() {
+        @Override
+        public Object convert(final Object value) {
+            return value;
+        }
+    };
+
+    private final Plan[] mPlans;
+
+    public ConversionPlans(final int columnCount) {
+        mPlans = new Plan[columnCount];
+    }
+
+    /**
+     * Converts a value read from a column.
+     *
+     * @param registry the registry to resolve converters from
+     * @param column   the column the value was read from. Values of columns out of range are converted without caching.
+     * @param value    the value
+     * @param type     the type to convert to
+     * @param <R>      the type to convert to
+     * @return the converted value, or null if the value was null
+     * @throws ConversionErrorException if the value cannot be converted
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R convert(final TypeConverterRegistry registry,
+                         final int column,
+                         final Object value,
+                         final Class<R> type) {
+        if (value == null) {
+            return null;
+        }
+
+        final Class<?> sourceType = value.getClass();
+        final int registryVersion = registry.getModificationCount();
+        final boolean cacheable = column >= 0 && column < mPlans.length;
+
+        Plan plan = cacheable ? mPlans[column] : null;
+        if (plan == null || !plan.isValidFor(sourceType, type, registryVersion)) {
+            plan = compile(registry, sourceType, type, registryVersion);
+            if (cacheable) {
+                mPlans[column] = plan;
+            }
+        }
+
+        try {
+            return (R) plan.mConversion.convert(value);
+        } catch (final ConversionErrorException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw new ConversionErrorException(e);
+        }
+    }
+
+    private static Plan compile(final TypeConverterRegistry registry,
+                                final Class<?> sourceType,
+                                final Class<?> targetType,
+                                final int registryVersion) {
+        final TypeConverter.Conversion<?> conversion;
+        if (targetType.isAssignableFrom(sourceType)) {
+            conversion = IDENTITY;
+        } else {
+            final TypeConverter<?> converter = registry.find(targetType);
+            conversion = converter == null ? null : converter.getConversion(sourceType);
+        }
+
+        if (conversion == null) {
+            throw new ConversionErrorException("Unable to convert '" + sourceType.getName() + "' to '" + targetType.getName() + "'");
+        }
+
+        return new Plan(sourceType, targetType, registryVersion, conversion);
+    }
+
+    private static final class Plan {
+        private final Class<?> mSourceType;
+        private final Class<?> mTargetType;
+        private final int mRegistryVersion;
+        private final TypeConverter.Conversion<?> mConversion;
+
+        private Plan(final Class<?> sourceType,
+                     final Class<?> targetType,
+                     final int registryVersion,
+                     final TypeConverter.Conversion<?> conversion) {
+            mSourceType = sourceType;
+            mTargetType = targetType;
+            mRegistryVersion = registryVersion;
+            mConversion = conversion;
+        }
+
+        private boolean isValidFor(final Class<?> sourceType, final Class<?> targetType, final int registryVersion) {
+            return mSourceType == sourceType
+                    && mTargetType == targetType
+                    && mRegistryVersion == registryVersion;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal.conversion;
+
+/**
+ * Parses numbers from Strings without throwing on malformed input.
+ * <p>
+ * Accepts the same input as the equivalent {@code parseX()} methods of the boxed types.
+ * After each call {@link #isLastParseSuccessful()} reports whether the returned value is valid,
+ * so an instance must not be shared between threads.
+ */
+/* package */ final class NumberParser {
+    private static final String INFINITY = "Infinity";
+    private static final String NAN = "NaN";
+
+    private boolean mLastParseSuccessful;
+
+    private static boolean isFloatingPointSuffix(final char c) {
+        return c == 'd' || c == 'D' || c == 'f' || c == 'F';
+    }
+
+    /**
+     * Checks that a String follows the decimal floating point grammar accepted by
+     * {@link Double#parseDouble(String)}, so that it can be parsed without a NumberFormatException.
+     * Hexadecimal floating point literals are not accepted.
+     */
+    private static boolean isValidDecimal(final String string) {
+        int start = 0;
+        int end = string.length();
+
+        // Double.parseDouble() trims the input first
+        while (start < end && string.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && string.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+
+        int i = start;
+        if (string.charAt(i) == '+' || string.charAt(i) == '-') {
+            i++;
+        }
+
+        if (string.startsWith(NAN, i) && i + NAN.length() == end) {
+            return true;
+        }
+        if (string.startsWith(INFINITY, i) && i + INFINITY.length() == end) {
+            return true;
+        }
+
+        int digits = 0;
+        while (i < end && isAsciiDigit(string.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && string.charAt(i) == '.') {
+            i++;
+            while (i < end && isAsciiDigit(string.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        if (i < end && (string.charAt(i) == 'e' || string.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (string.charAt(i) == '+' || string.charAt(i) == '-')) {
+                i++;
+            }
+
+            int exponentDigits = 0;
+            while (i < end && isAsciiDigit(string.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+
+        if (i < end && isFloatingPointSuffix(string.charAt(i))) {
+            i++;
+        }
+
+        return i == end;
+    }
+
+    private static boolean isHexadecimal(final String string) {
+        final String trimmed = string.trim();
+        final int start = trimmed.startsWith("+") || trimmed.startsWith("-") ? 1 : 0;
+        return trimmed.startsWith("0x", start) || trimmed.startsWith("0X", start);
+    }
+
+    private static boolean isAsciiDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public boolean isLastParseSuccessful() {
+        return mLastParseSuccessful;
+    }
+
+    public double parseDouble(final String string) {
+        mLastParseSuccessful = isValidDecimal(string);
+        if (mLastParseSuccessful) {
+            return Double.parseDouble(string);
+        } else if (isHexadecimal(string)) {
+            // Rare enough that it is not worth validating by hand
+            try {
+                final double result = Double.parseDouble(string);
+                mLastParseSuccessful = true;
+                return result;
+            } catch (final NumberFormatException e) {
+                return 0d;
+            }
+        } else {
+            return 0d;
+        }
+    }
+
+    public float parseFloat(final String string) {
+        mLastParseSuccessful = isValidDecimal(string);
+        if (mLastParseSuccessful) {
+            return Float.parseFloat(string);
+        } else if (isHexadecimal(string)) {
+            // Rare enough that it is not worth validating by hand
+            try {
+                final float result = Float.parseFloat(string);
+                mLastParseSuccessful = true;
+                return result;
+            } catch (final NumberFormatException e) {
+                return 0f;
+            }
+        } else {
+            return 0f;
+        }
+    }
+
+    public int parseInt(final String string) {
+        final long result = parseLong(string, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return (int) result;
+    }
+
+    public long parseLong(final String string) {
+        return parseLong(string, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parses a base 10 integer, failing if it is outside of [min, max].
+     * Like {@link Long#parseLong(String)} the value is accumulated negatively,
+     * so that Long.MIN_VALUE can be parsed without overflowing.
+     */
+    private long parseLong(final String string, final long min, final long max) {
+        mLastParseSuccessful = false;
+
+        final int length = string.length();
+        if (length == 0) {
+            return 0;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        final char first = string.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (length == 1) {
+                return 0;
+            }
+        }
+
+        final long limit = negative ? min : -max;
+        final long multiplicationLimit = limit / 10;
+        long result = 0;
+
+        for (; i < length; i++) {
+            final int digit = Character.digit(string.charAt(i), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                return 0;
+            }
+
+            result *= 10;
+            if (result < limit + digit) {
+                return 0;
+            }
+            result -= digit;
+        }
+
+        mLastParseSuccessful = true;
+        return negative ? result : -result;
+    }
+
+    public short parseShort(final String string) {
+        final long result = parseLong(string, Short.MIN_VALUE, Short.MAX_VALUE);
+        return (short) result;
+    }
+}
@@ -19,12 +19,18 @@
 
 package dev.alt236.easycursor.internal.conversion;
 
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.Charset;
 
 import dev.alt236.easycursor.exceptions.ConversionErrorException;
 
+/**
+ * Converts values to the types an EasyCursor can return.
+ * <p>
+ * The toX() methods throw a {@link ConversionErrorException} when a value cannot be converted.
+ * The tryToX() methods never throw. They return the given fallback instead and record the outcome,
+ * which can be read via {@link #getLastStatus()}, so an instance must not be shared between threads.
+ */
 public final class ObjectConverter {
     private static final int INT_BYTE_SIZE = 4;
     private static final int LONG_BYTE_SIZE = 8;
@@ -35,7 +41,10 @@ public final class ObjectConverter {
     private static final String UTF_8 = "UTF-8";
 
     private final String mEncoding;
-    private final ByteOrder mByteOrder;
+    private final Charset mCharset;
+    private final boolean mBigEndian;
+    private final NumberParser mNumberParser = new NumberParser();
+    private ConversionStatus mLastStatus = ConversionStatus.SUCCESS;
 
     public ObjectConverter() {
         this(UTF_8, ByteOrder.BIG_ENDIAN);
@@ -43,37 +52,41 @@ public final class ObjectConverter {
 
     public ObjectConverter(final String encoding, final ByteOrder byteOrder) {
         mEncoding = encoding;
-        mByteOrder = byteOrder;
+        mCharset = lookupCharset(encoding);
+        mBigEndian = byteOrder == ByteOrder.BIG_ENDIAN;
     }
 
-    private ByteBuffer getByteBuffer(final int size) {
-        return ByteBuffer.allocate(size).order(mByteOrder);
+    private byte[] getBytes(final String string) {
+        return string.getBytes(getCharset());
     }
 
-    private byte[] getBytes(final String string) {
-        try {
-            return string.getBytes(mEncoding);
-        } catch (final UnsupportedEncodingException e) {
-            throw new ConversionErrorException(e);
+    private Charset getCharset() {
+        if (mCharset == null) {
+            throw new ConversionErrorException("Unsupported encoding: " + mEncoding);
+        } else {
+            return mCharset;
         }
     }
 
     private String getString(final byte[] array) {
-        try {
-            return new String(array, mEncoding);
-        } catch (final UnsupportedEncodingException e) {
-            throw new ConversionErrorException(e);
-        }
+        return new String(array, getCharset());
     }
 
-    private boolean toBoolean(final Object obj) {
-        if (obj instanceof Boolean) {
-            return (Boolean) obj;
-        } else if (obj instanceof String) {
-            return Boolean.valueOf(String.valueOf(obj));
-        } else {
+    /**
+     * Returns the status of the last call to one of the tryToX() methods.
+     *
+     * @return the status
+     */
+    public ConversionStatus getLastStatus() {
+        return mLastStatus;
+    }
+
+    public boolean toBoolean(final Object obj) {
+        final boolean result = tryToBoolean(obj, false);
+        if (mLastStatus != ConversionStatus.SUCCESS) {
             throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to boolean");
         }
+        return result;
     }
 
     private byte[] toByteArray(final Object obj) {
@@ -85,109 +98,76 @@ public final class ObjectConverter {
             return (byte[]) obj;
         } else if (obj instanceof String) {
             return getBytes((String) obj);
-        } else if (obj instanceof Integer) {
-            return getByteBuffer(INT_BYTE_SIZE).putInt((Integer) obj).array();
-        } else if (obj instanceof Long) {
-            return getByteBuffer(LONG_BYTE_SIZE).putLong((Long) obj).array();
-        } else if (obj instanceof Float) {
-            return getByteBuffer(FLOAT_BYTE_SIZE).putFloat((Float) obj).array();
-        } else if (obj instanceof Double) {
-            return getByteBuffer(DOUBLE_BYTE_SIZE).putDouble((Double) obj).array();
-        } else if (obj instanceof Short) {
-            return getByteBuffer(SHORT_BYTE_SIZE).putShort((Short) obj).array();
-        } else {
-            throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to byte[]");
         }
+
+        final int size = getPrimitiveByteSize(obj);
+        final byte[] result = new byte[size];
+        writeBits(getPrimitiveBits(obj), size, result);
+        return result;
+    }
+
+    /**
+     * Writes the byte[] representation of a value into a caller owned array.
+     * Primitive values are written directly, without any intermediate allocation.
+     *
+     * @param obj    the value
+     * @param target the array to write into. If it is too small, only the first target.length bytes are written.
+     * @return the full length of the byte[] representation of the value, or -1 if the value was null
+     */
+    public int toByteArray(final Object obj, final byte[] target) {
+        if (obj == null) {
+            return -1;
+        }
+
+        if (obj instanceof byte[] || obj instanceof String) {
+            final byte[] source = toByteArray(obj);
+            System.arraycopy(source, 0, target, 0, Math.min(source.length, target.length));
+            return source.length;
+        }
+
+        final int size = getPrimitiveByteSize(obj);
+        writeBits(getPrimitiveBits(obj), size, target);
+        return size;
     }
 
-    private double toDouble(final Object obj) {
-        if (obj instanceof Number) {
-            return ((Number) obj).doubleValue();
-        } else if (obj instanceof String) {
-            try {
-                return Double.valueOf(String.valueOf(obj));
-            } catch (final NumberFormatException e) {
-                throw new ConversionErrorException(e);
-            }
-        } else if (obj instanceof byte[] && ((byte[]) obj).length == DOUBLE_BYTE_SIZE) {
-            final ByteBuffer buffer = getByteBuffer(DOUBLE_BYTE_SIZE).put((byte[]) obj);
-            buffer.flip();
-            return buffer.getDouble();
-        } else {
+    public double toDouble(final Object obj) {
+        final double result = tryToDouble(obj, 0d);
+        if (mLastStatus != ConversionStatus.SUCCESS) {
             throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to double");
         }
+        return result;
     }
 
-    private float toFloat(final Object obj) {
-        if (obj instanceof Number) {
-            return ((Number) obj).floatValue();
-        } else if (obj instanceof String) {
-            try {
-                return Float.valueOf(String.valueOf(obj));
-            } catch (final NumberFormatException e) {
-                throw new ConversionErrorException(e);
-            }
-        } else if (obj instanceof byte[] && ((byte[]) obj).length == FLOAT_BYTE_SIZE) {
-            final ByteBuffer buffer = getByteBuffer(FLOAT_BYTE_SIZE).put((byte[]) obj);
-            buffer.flip();
-            return buffer.getFloat();
-        } else {
+    public float toFloat(final Object obj) {
+        final float result = tryToFloat(obj, 0f);
+        if (mLastStatus != ConversionStatus.SUCCESS) {
             throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to float");
         }
+        return result;
     }
 
-    private int toInt(final Object obj) {
-        if (obj instanceof Number) {
-            return ((Number) obj).intValue();
-        } else if (obj instanceof String) {
-            try {
-                return Integer.valueOf(String.valueOf(obj));
-            } catch (final NumberFormatException e) {
-                throw new ConversionErrorException(e);
-            }
-        } else if (obj instanceof byte[] && ((byte[]) obj).length == INT_BYTE_SIZE) {
-            final ByteBuffer buffer = getByteBuffer(INT_BYTE_SIZE).put((byte[]) obj);
-            buffer.flip();
-            return buffer.getInt();
-        } else {
+    public int toInt(final Object obj) {
+        final int result = tryToInt(obj, 0);
+        if (mLastStatus != ConversionStatus.SUCCESS) {
             throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to int");
         }
+        return result;
     }
 
-    private long toLong(final Object obj) {
-        if (obj instanceof Number) {
-            return ((Number) obj).longValue();
-        } else if (obj instanceof String) {
-            try {
-                return Long.valueOf(String.valueOf(obj));
-            } catch (final NumberFormatException e) {
-                throw new ConversionErrorException(e);
-            }
-        } else if (obj instanceof byte[] && ((byte[]) obj).length == LONG_BYTE_SIZE) {
-            final ByteBuffer buffer = getByteBuffer(LONG_BYTE_SIZE).put((byte[]) obj);
-            buffer.flip();
-            return buffer.getLong();
-        } else {
+    public long toLong(final Object obj) {
+        final long result = tryToLong(obj, 0L);
+        if (mLastStatus != ConversionStatus.SUCCESS) {
             throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to long");
         }
+        return result;
     }
 
-    private short toShort(final Object obj) {
-        if (obj instanceof Number) {
-            return ((Number) obj).shortValue();
-        } else if (obj instanceof String) {
-            try {
-                return Short.valueOf(String.valueOf(obj));
-            } catch (final NumberFormatException e) {
-                throw new ConversionErrorException(e);
-            }
-        } else if (obj instanceof byte[] && ((byte[]) obj).length == SHORT_BYTE_SIZE) {
-            final ByteBuffer buffer = getByteBuffer(SHORT_BYTE_SIZE).put((byte[]) obj);
-            buffer.flip();
-            return buffer.getShort();
-        } else {
+    public short toShort(final Object obj) {
+        final short result = tryToShort(obj, (short) 0);
+        if (mLastStatus != ConversionStatus.SUCCESS) {
             throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to short");
         }
+        return result;
     }
 
     private String toString(final Object obj) {
@@ -227,6 +207,186 @@ public final class ObjectConverter {
         }
     }
 
+    public boolean tryToBoolean(final Object obj, final boolean fallback) {
+        if (obj == null) {
+            mLastStatus = ConversionStatus.NULL_VALUE;
+            return fallback;
+        }
+
+        mLastStatus = ConversionStatus.SUCCESS;
+        if (obj instanceof Boolean) {
+            return (Boolean) obj;
+        } else if (obj instanceof String) {
+            return Boolean.parseBoolean((String) obj);
+        }
+
+        mLastStatus = ConversionStatus.FAILED;
+        return fallback;
+    }
+
+    public double tryToDouble(final Object obj, final double fallback) {
+        if (obj == null) {
+            mLastStatus = ConversionStatus.NULL_VALUE;
+            return fallback;
+        }
+
+        mLastStatus = ConversionStatus.SUCCESS;
+        if (obj instanceof Number) {
+            return ((Number) obj).doubleValue();
+        } else if (obj instanceof String) {
+            final double result = mNumberParser.parseDouble((String) obj);
+            if (mNumberParser.isLastParseSuccessful()) {
+                return result;
+            }
+        } else if (obj instanceof byte[] && ((byte[]) obj).length == DOUBLE_BYTE_SIZE) {
+            return Double.longBitsToDouble(readBits((byte[]) obj, DOUBLE_BYTE_SIZE));
+        }
+
+        mLastStatus = ConversionStatus.FAILED;
+        return fallback;
+    }
+
+    public float tryToFloat(final Object obj, final float fallback) {
+        if (obj == null) {
+            mLastStatus = ConversionStatus.NULL_VALUE;
+            return fallback;
+        }
+
+        mLastStatus = ConversionStatus.SUCCESS;
+        if (obj instanceof Number) {
+            return ((Number) obj).floatValue();
+        } else if (obj instanceof String) {
+            final float result = mNumberParser.parseFloat((String) obj);
+            if (mNumberParser.isLastParseSuccessful()) {
+                return result;
+            }
+        } else if (obj instanceof byte[] && ((byte[]) obj).length == FLOAT_BYTE_SIZE) {
+            return Float.intBitsToFloat((int) readBits((byte[]) obj, FLOAT_BYTE_SIZE));
+        }
+
+        mLastStatus = ConversionStatus.FAILED;
+        return fallback;
+    }
+
+    public int tryToInt(final Object obj, final int fallback) {
+        if (obj == null) {
+            mLastStatus = ConversionStatus.NULL_VALUE;
+            return fallback;
+        }
+
+        mLastStatus = ConversionStatus.SUCCESS;
+        if (obj instanceof Number) {
+            return ((Number) obj).intValue();
+        } else if (obj instanceof String) {
+            final int result = mNumberParser.parseInt((String) obj);
+            if (mNumberParser.isLastParseSuccessful()) {
+                return result;
+            }
+        } else if (obj instanceof byte[] && ((byte[]) obj).length == INT_BYTE_SIZE) {
+            return (int) readBits((byte[]) obj, INT_BYTE_SIZE);
+        }
+
+        mLastStatus = ConversionStatus.FAILED;
+        return fallback;
+    }
+
+    public long tryToLong(final Object obj, final long fallback) {
+        if (obj == null) {
+            mLastStatus = ConversionStatus.NULL_VALUE;
+            return fallback;
+        }
+
+        mLastStatus = ConversionStatus.SUCCESS;
+        if (obj instanceof Number) {
+            return ((Number) obj).longValue();
+        } else if (obj instanceof String) {
+            final long result = mNumberParser.parseLong((String) obj);
+            if (mNumberParser.isLastParseSuccessful()) {
+                return result;
+            }
+        } else if (obj instanceof byte[] && ((byte[]) obj).length == LONG_BYTE_SIZE) {
+            return readBits((byte[]) obj, LONG_BYTE_SIZE);
+        }
+
+        mLastStatus = ConversionStatus.FAILED;
+        return fallback;
+    }
+
+    public short tryToShort(final Object obj, final short fallback) {
+        if (obj == null) {
+            mLastStatus = ConversionStatus.NULL_VALUE;
+            return fallback;
+        }
+
+        mLastStatus = ConversionStatus.SUCCESS;
+        if (obj instanceof Number) {
+            return ((Number) obj).shortValue();
+        } else if (obj instanceof String) {
+            final short result = mNumberParser.parseShort((String) obj);
+            if (mNumberParser.isLastParseSuccessful()) {
+                return result;
+            }
+        } else if (obj instanceof byte[] && ((byte[]) obj).length == SHORT_BYTE_SIZE) {
+            return (short) readBits((byte[]) obj, SHORT_BYTE_SIZE);
+        }
+
+        mLastStatus = ConversionStatus.FAILED;
+        return fallback;
+    }
+
+    private static long getPrimitiveBits(final Object obj) {
+        if (obj instanceof Float) {
+            return Float.floatToRawIntBits((Float) obj);
+        } else if (obj instanceof Double) {
+            return Double.doubleToRawLongBits((Double) obj);
+        } else {
+            return ((Number) obj).longValue();
+        }
+    }
+
+    private static int getPrimitiveByteSize(final Object obj) {
+        if (obj instanceof Integer || obj instanceof Float) {
+            return INT_BYTE_SIZE;
+        } else if (obj instanceof Long || obj instanceof Double) {
+            return LONG_BYTE_SIZE;
+        } else if (obj instanceof Short) {
+            return SHORT_BYTE_SIZE;
+        } else {
+            throw new ConversionErrorException("Unable to convert '" + getClassName(obj) + "' to byte[]");
+        }
+    }
+
+    private static Charset lookupCharset(final String encoding) {
+        try {
+            return Charset.forName(encoding);
+        } catch (final IllegalArgumentException e) {
+            // Reported as a ConversionErrorException when the charset is first needed, as before
+            return null;
+        }
+    }
+
+    private long readBits(final byte[] array, final int size) {
+        long bits = 0;
+        if (mBigEndian) {
+            for (int i = 0; i < size; i++) {
+                bits = (bits << 8) | (array[i] & 0xFF);
+            }
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                bits = (bits << 8) | (array[i] & 0xFF);
+            }
+        }
+        return bits;
+    }
+
+    private void writeBits(final long bits, final int size, final byte[] target) {
+        final int length = Math.min(size, target.length);
+        for (int i = 0; i < length; i++) {
+            final int shift = mBigEndian ? 8 * (size - 1 - i) : 8 * i;
+            target[i] = (byte) (bits >>> shift);
+        }
+    }
+
     private static String getClassName(final Object obj) {
         if (obj == null) {
             return "<null>";
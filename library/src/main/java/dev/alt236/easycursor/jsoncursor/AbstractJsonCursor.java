@@ -0,0 +1,504 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import android.database.AbstractCursor;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.EasyQueryModel;
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+import dev.alt236.easycursor.internal.FieldAccessor;
+import dev.alt236.easycursor.internal.conversion.ConversionFailureCounter;
+import dev.alt236.easycursor.internal.conversion.ConversionPlans;
+import dev.alt236.easycursor.internal.conversion.ConversionStatus;
+import dev.alt236.easycursor.internal.conversion.ObjectConverter;
+import dev.alt236.easycursor.internal.conversion.ObjectType;
+
+/**
+ * The common base of the cursors which expose rows of JSON objects.
+ * <p>
+ * Subclasses only need to provide the row count, the columns and the fields of the current row
+ * via {@link #optFieldValue(String)}. Conversions, aliasing and the conversion failure counts are handled here.
+ */
+public abstract class AbstractJsonCursor extends AbstractCursor implements EasyCursor {
+    public static final String DEFAULT_STRING = null;
+    public static final boolean DEFAULT_BOOLEAN = false;
+    public static final double DEFAULT_DOUBLE = 0d;
+    public static final float DEFAULT_FLOAT = 0f;
+    public static final int DEFAULT_INT = 0;
+    public static final long DEFAULT_LONG = 0l;
+    public static final short DEFAULT_SHORT = 0;
+    private static final String _ID = "_id";
+    /**
+     * Returned by {@link #optFieldValue(String)} when a field does not exist, as opposed to existing with a null value.
+     */
+    protected static final Object MISSING = new Object();
+    private final ObjectConverter mObjectConverter;
+    private final EasyQueryModel mQueryModel;
+    private final String m_IdAlias;
+    private final FieldAccessor mFieldAccessor;
+    private final ConversionFailureCounter mConversionFailures;
+    private final ConversionPlans mConversionPlans;
+    private final TypeConverterRegistry mTypeConverters;
+
+    protected AbstractJsonCursor(final FieldAccessor fieldAccessor,
+                                 final String _idAlias,
+                                 final EasyQueryModel model) {
+        this(fieldAccessor, _idAlias, model, new TypeConverterRegistry());
+    }
+
+    /**
+     * @param typeConverters the type converters, which views of another cursor share with it
+     */
+    protected AbstractJsonCursor(final FieldAccessor fieldAccessor,
+                                 final String _idAlias,
+                                 final EasyQueryModel model,
+                                 final TypeConverterRegistry typeConverters) {
+        final int columnCount = fieldAccessor.getFieldNames().length;
+        mObjectConverter = new ObjectConverter();
+        mFieldAccessor = fieldAccessor;
+        mConversionFailures = new ConversionFailureCounter(columnCount);
+        mConversionPlans = new ConversionPlans(columnCount);
+        mTypeConverters = typeConverters;
+
+        m_IdAlias = _idAlias;
+        mQueryModel = model;
+    }
+
+    protected String applyAlias(final String columnName) {
+        if (m_IdAlias != null && _ID.equals(columnName)) {
+            return m_IdAlias;
+        }
+
+        return columnName;
+    }
+
+    @Override
+    public byte[] getBlob(final String name) {
+        throw new UnsupportedOperationException("getBlob is not supported");
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        final boolean result = mObjectConverter.tryToBoolean(getValueOrThrow(name), DEFAULT_BOOLEAN);
+        onConversion(name);
+        return result;
+    }
+
+    @Override
+    public int getColumnIndex(final String name) {
+        final String column = applyAlias(name);
+        return mFieldAccessor.getFieldIndexByName(column);
+    }
+
+    @Override
+    public int getColumnIndexOrThrow(final String name) {
+        final String column = applyAlias(name);
+        final int index = mFieldAccessor.getFieldIndexByName(column);
+
+        if (index == -1) {
+            throw new IllegalArgumentException("There is no column named '" + column + "'");
+        } else {
+            return index;
+        }
+    }
+
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return mFieldAccessor.getFieldNameByIndex(columnIndex);
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return mFieldAccessor.getFieldNames();
+    }
+
+    /**
+     * Returns how many values of a column could not be converted to the type requested from this cursor,
+     * since the cursor was created or the counts were last reset. Null values are not counted.
+     *
+     * @param column the column index
+     * @return the failure count
+     */
+    public int getConversionFailureCount(final int column) {
+        return mConversionFailures.get(column);
+    }
+
+    public int getConversionFailureCount(final String name) {
+        return mConversionFailures.get(mFieldAccessor.getFieldIndexByName(applyAlias(name)));
+    }
+
+    @Override
+    public double getDouble(final int column) {
+        return getDouble(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    @Override
+    public double getDouble(final String name) {
+        final double result = mObjectConverter.tryToDouble(getValueOrThrow(name), DEFAULT_DOUBLE);
+        onConversion(name);
+        return result;
+    }
+
+    @Override
+    public float getFloat(final int column) {
+        return getFloat(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    @Override
+    public float getFloat(final String name) {
+        final float result = mObjectConverter.tryToFloat(getValueOrThrow(name), DEFAULT_FLOAT);
+        onConversion(name);
+        return result;
+    }
+
+    @Override
+    public int getInt(final int column) {
+        return getInt(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    @Override
+    public int getInt(final String name) {
+        final int result = mObjectConverter.tryToInt(getValueOrThrow(name), DEFAULT_INT);
+        onConversion(name);
+        return result;
+    }
+
+    @Override
+    public long getLong(final int column) {
+        return getLong(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    @Override
+    public long getLong(final String name) {
+        final long result = mObjectConverter.tryToLong(getValueOrThrow(name), DEFAULT_LONG);
+        onConversion(name);
+        return result;
+    }
+
+    @Override
+    public EasyQueryModel getQueryModel() {
+        return mQueryModel;
+    }
+
+    @Override
+    public short getShort(final int column) {
+        return getShort(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    public short getShort(final String name) {
+        final short result = mObjectConverter.tryToShort(getValueOrThrow(name), DEFAULT_SHORT);
+        onConversion(name);
+        return result;
+    }
+
+    @Override
+    public String getString(final int column) {
+        return getString(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    @Override
+    public String getString(final String name) {
+        return toStringValue(name, getValueOrThrow(name));
+    }
+
+    @Override
+    public TypeConverterRegistry getTypeConverters() {
+        return mTypeConverters;
+    }
+
+    public <R> R getValue(final int column, final Class<R> type) {
+        return getValue(mFieldAccessor.getFieldNameByIndex(column), type);
+    }
+
+    @Override
+    public <R> R getValue(final String name, final Class<R> type) {
+        return convert(name, getValueOrThrow(name), type);
+    }
+
+    private Object getValueOrThrow(final String name) {
+        final String alias = applyAlias(name);
+        final Object value = optFieldValue(alias);
+
+        if (value == MISSING) {
+            throw new IllegalArgumentException("Field '" + alias + "' does not exist");
+        }
+
+        return value;
+    }
+
+    public String get_IdAlias() {
+        return m_IdAlias;
+    }
+
+    @Override
+    public boolean isNull(final int column) {
+        return isNull(mFieldAccessor.getFieldNameByIndex(column));
+    }
+
+    @Override
+    public boolean isNull(final String name) {
+        final Object value = optFieldValue(applyAlias(name));
+        return value == null || value == MISSING;
+    }
+
+    private <R> R convert(final String name, final Object value, final Class<R> type) {
+        final int column = mFieldAccessor.getFieldIndexByName(applyAlias(name));
+        return mConversionPlans.convert(mTypeConverters, column, value, type);
+    }
+
+    private void onConversion(final String name) {
+        if (mObjectConverter.getLastStatus() == ConversionStatus.FAILED) {
+            onConversionFailure(name);
+        }
+    }
+
+    private void onConversionFailure(final String name) {
+        // Fields which are not part of the column set are not counted
+        mConversionFailures.increment(mFieldAccessor.getFieldIndexByName(applyAlias(name)));
+    }
+
+    @Override
+    public boolean optBoolean(final String name) {
+        return optBoolean(name, DEFAULT_BOOLEAN);
+    }
+
+    @Override
+    public boolean optBoolean(final String name, final boolean fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            final boolean result = mObjectConverter.tryToBoolean(value, DEFAULT_BOOLEAN);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public Boolean optBooleanAsWrapperType(final String name) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        } else {
+            final boolean result = mObjectConverter.tryToBoolean(value, DEFAULT_BOOLEAN);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public double optDouble(final String name) {
+        return optDouble(name, DEFAULT_DOUBLE);
+    }
+
+    @Override
+    public double optDouble(final String name, final double fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            final double result = mObjectConverter.tryToDouble(value, DEFAULT_DOUBLE);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public Double optDoubleAsWrapperType(final String name) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        } else {
+            final double result = mObjectConverter.tryToDouble(value, DEFAULT_DOUBLE);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public float optFloat(final String name) {
+        return optFloat(name, DEFAULT_FLOAT);
+    }
+
+    @Override
+    public float optFloat(final String name, final float fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            final float result = mObjectConverter.tryToFloat(value, DEFAULT_FLOAT);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public Float optFloatAsWrapperType(final String name) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        } else {
+            final float result = mObjectConverter.tryToFloat(value, DEFAULT_FLOAT);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public int optInt(final String name) {
+        return optInt(name, DEFAULT_INT);
+    }
+
+    @Override
+    public int optInt(final String name, final int fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            final int result = mObjectConverter.tryToInt(value, DEFAULT_INT);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public Integer optIntAsWrapperType(final String name) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        } else {
+            final int result = mObjectConverter.tryToInt(value, DEFAULT_INT);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public long optLong(final String name) {
+        return optLong(name, DEFAULT_LONG);
+    }
+
+    @Override
+    public long optLong(final String name, final long fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            final long result = mObjectConverter.tryToLong(value, DEFAULT_LONG);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public Long optLongAsWrapperType(final String name) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        } else {
+            final long result = mObjectConverter.tryToLong(value, DEFAULT_LONG);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    public short optShort(final String name) {
+        return optShort(name, DEFAULT_SHORT);
+    }
+
+    public short optShort(final String name, final short fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            final short result = mObjectConverter.tryToShort(value, DEFAULT_SHORT);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    public Short optShortAsWrapperType(final String name) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        } else {
+            final short result = mObjectConverter.tryToShort(value, DEFAULT_SHORT);
+            onConversion(name);
+            return result;
+        }
+    }
+
+    @Override
+    public <R> R optValue(final String name, final Class<R> type) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return null;
+        }
+
+        try {
+            return convert(name, value, type);
+        } catch (final ConversionErrorException e) {
+            onConversionFailure(name);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value of a field of the current row.
+     *
+     * @param field the field name, with any "_id" alias already applied
+     * @return {@link #MISSING} if the current row has no such field, null if the field is null, the value otherwise
+     */
+    protected abstract Object optFieldValue(final String field);
+
+    private Object optValue(final String name) {
+        return optFieldValue(applyAlias(name));
+    }
+
+    public void resetConversionFailureCounts() {
+        mConversionFailures.reset();
+    }
+
+    @Override
+    public String optString(final String name) {
+        return optString(name, DEFAULT_STRING);
+    }
+
+    @Override
+    public String optString(final String name, final String fallback) {
+        final Object value = optValue(name);
+        if (value == MISSING) {
+            return fallback;
+        } else {
+            return toStringValue(name, value);
+        }
+    }
+
+    private String toStringValue(final String name, final Object value) {
+        try {
+            return (String) mObjectConverter.toType(ObjectType.STRING, value);
+        } catch (final ConversionErrorException e) {
+            onConversionFailure(name);
+            return DEFAULT_STRING;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import android.database.CursorIndexOutOfBoundsException;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import dev.alt236.easycursor.EasyQueryModel;
+import dev.alt236.easycursor.internal.ParallelRanges;
+
+/**
+ * A cursor which decodes a JSON array once, into one array per column, and then reads its values from those arrays.
+ * <p>
+ * Integral and floating point columns are stored as int[], long[] or double[], string columns as a table of
+ * the distinct values plus an int[] of indexes into it, and anything else as the decoded values.
+ * Null and missing values are kept in bitmaps. See {@link JsonColumnEncoding}.
+ * <p>
+ * Building the columns takes a full pass over the array, so this is worth it when the rows are read more than once.
+ * {@link #getBuildTimeNanos()} and {@link #getEstimatedMemoryUsage()} can be used to make that choice for a dataset.
+ * <p>
+ * The columns are found with {@link SchemaInference#FULL_SCAN} by default.
+ * Fields which are not part of the columns are treated as missing.
+ */
+public class ColumnarJsonCursor extends AbstractJsonCursor {
+    // Below this many rows per thread, splitting the decoding costs more than it saves
+    private static final int MIN_ROWS_PER_THREAD = 4096;
+
+    private final JsonSchema mSchema;
+    private final MaterialisedColumn[] mColumns;
+    private final int mCount;
+    private final long mBuildTimeNanos;
+
+    public ColumnarJsonCursor(final JSONArray array, final String _idAlias) {
+        this(array, _idAlias, null);
+    }
+
+    public ColumnarJsonCursor(final JSONArray array, final String _idAlias, final EasyQueryModel model) {
+        this(array, _idAlias, model, SchemaInference.FULL_SCAN);
+    }
+
+    /**
+     * Creates a cursor whose columns are found using the given inference.
+     *
+     * @param array     the rows
+     * @param _idAlias  the field to use when "_id" is requested, or null
+     * @param model     the query model, or null
+     * @param inference which rows to inspect to find the columns
+     */
+    public ColumnarJsonCursor(final JSONArray array,
+                              final String _idAlias,
+                              final EasyQueryModel model,
+                              final SchemaInference inference) {
+        this(array, _idAlias, model, inference, System.nanoTime());
+    }
+
+    private ColumnarJsonCursor(final JSONArray array,
+                               final String _idAlias,
+                               final EasyQueryModel model,
+                               final SchemaInference inference,
+                               final long startNanos) {
+        this(array, _idAlias, model, new JsonFieldAccessor(array, inference), startNanos);
+    }
+
+    private ColumnarJsonCursor(final JSONArray array,
+                               final String _idAlias,
+                               final EasyQueryModel model,
+                               final JsonFieldAccessor fieldAccessor,
+                               final long startNanos) {
+        super(fieldAccessor, _idAlias, model);
+        mSchema = fieldAccessor.getSchema();
+        mCount = array == null ? 0 : array.length();
+        mColumns = materialise(array, mSchema.getColumnNames(), mCount);
+        mBuildTimeNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Returns how long it took to find the columns and decode the array into them.
+     *
+     * @return the build time, in nanoseconds
+     */
+    public long getBuildTimeNanos() {
+        return mBuildTimeNanos;
+    }
+
+    public JsonColumnEncoding getColumnEncoding(final int column) {
+        return mColumns[column].getEncoding();
+    }
+
+    @Override
+    public int getCount() {
+        return mCount;
+    }
+
+    @Override
+    public double getDouble(final int column) {
+        final int row = getRow();
+        return hasNumber(column, row) ? mColumns[column].getDouble(row) : super.getDouble(column);
+    }
+
+    @Override
+    public double getDouble(final String name) {
+        final int row = getRow();
+        final int column = getColumnIndex(name);
+        return hasNumber(column, row) ? mColumns[column].getDouble(row) : super.getDouble(name);
+    }
+
+    /**
+     * Returns an estimate of the memory used by the decoded columns, in bytes.
+     * Nested objects and arrays are only counted as references.
+     *
+     * @return the estimated size
+     */
+    public long getEstimatedMemoryUsage() {
+        long size = 0;
+        for (final MaterialisedColumn column : mColumns) {
+            size += column.getEstimatedSize();
+        }
+        return size;
+    }
+
+    @Override
+    public float getFloat(final int column) {
+        final int row = getRow();
+        return hasNumber(column, row) ? mColumns[column].getFloat(row) : super.getFloat(column);
+    }
+
+    @Override
+    public float getFloat(final String name) {
+        final int row = getRow();
+        final int column = getColumnIndex(name);
+        return hasNumber(column, row) ? mColumns[column].getFloat(row) : super.getFloat(name);
+    }
+
+    @Override
+    public int getInt(final int column) {
+        final int row = getRow();
+        return hasNumber(column, row) ? mColumns[column].getInt(row) : super.getInt(column);
+    }
+
+    @Override
+    public int getInt(final String name) {
+        final int row = getRow();
+        final int column = getColumnIndex(name);
+        return hasNumber(column, row) ? mColumns[column].getInt(row) : super.getInt(name);
+    }
+
+    @Override
+    public long getLong(final int column) {
+        final int row = getRow();
+        return hasNumber(column, row) ? mColumns[column].getLong(row) : super.getLong(column);
+    }
+
+    @Override
+    public long getLong(final String name) {
+        final int row = getRow();
+        final int column = getColumnIndex(name);
+        return hasNumber(column, row) ? mColumns[column].getLong(row) : super.getLong(name);
+    }
+
+    /**
+     * Returns the current position, which unlike the other cursors' is checked as every value is read by index.
+     */
+    private int getRow() {
+        final int row = getPosition();
+        if (row < 0 || row >= mCount) {
+            throw new CursorIndexOutOfBoundsException(row, mCount);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the columns of this cursor and the JSON types observed in them.
+     *
+     * @return the schema
+     */
+    public JsonSchema getSchema() {
+        return mSchema;
+    }
+
+    @Override
+    public short getShort(final int column) {
+        final int row = getRow();
+        return hasNumber(column, row) ? mColumns[column].getShort(row) : super.getShort(column);
+    }
+
+    @Override
+    public short getShort(final String name) {
+        final int row = getRow();
+        final int column = getColumnIndex(name);
+        return hasNumber(column, row) ? mColumns[column].getShort(row) : super.getShort(name);
+    }
+
+    @Override
+    public String getString(final int column) {
+        final int row = getRow();
+        return hasString(column, row) ? mColumns[column].getString(row) : super.getString(column);
+    }
+
+    @Override
+    public String getString(final String name) {
+        final int row = getRow();
+        final int column = getColumnIndex(name);
+        return hasString(column, row) ? mColumns[column].getString(row) : super.getString(name);
+    }
+
+    /**
+     * Returns true if the value can be read with the primitive getters of its column,
+     * false if it has to go through the usual conversions instead.
+     */
+    private boolean hasNumber(final int column, final int row) {
+        return column >= 0 && mColumns[column].isNumeric() && !mColumns[column].isNull(row);
+    }
+
+    private boolean hasString(final int column, final int row) {
+        return column >= 0
+                && mColumns[column].getEncoding() == JsonColumnEncoding.DICTIONARY
+                && !mColumns[column].isNull(row);
+    }
+
+    @Override
+    public boolean isNull(final int column) {
+        return mColumns[column].isNull(getRow());
+    }
+
+    @Override
+    protected Object optFieldValue(final String field) {
+        final int column = mSchema.getColumnIndex(field);
+        if (column == -1) {
+            return MISSING;
+        }
+
+        final MaterialisedColumn values = mColumns[column];
+        final int row = getRow();
+        return values.isMissing(row) ? MISSING : values.get(row);
+    }
+
+    private static MaterialisedColumn[] materialise(final JSONArray array, final String[] columnNames, final int count) {
+        final Object[][] values = new Object[columnNames.length][count];
+
+        // Each range writes its own rows of the shared arrays
+        ParallelRanges.map(count, MIN_ROWS_PER_THREAD, new ParallelRanges.RangeTask<Void>() {
+            @Override
+            public Void run(final int from, final int to) {
+                for (int row = from; row < to; row++) {
+                    final JSONObject object = array.optJSONObject(row);
+                    if (object == null) {
+                        continue;
+                    }
+
+                    for (int column = 0; column < columnNames.length; column++) {
+                        values[column][row] = object.opt(columnNames[column]);
+                    }
+                }
+                return null;
+            }
+        });
+
+        final MaterialisedColumn[] columns = new MaterialisedColumn[columnNames.length];
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = MaterialisedColumn.encode(values[column]);
+            values[column] = null;
+        }
+        return columns;
+    }
+}
@@ -19,136 +19,178 @@
 
 package dev.alt236.easycursor.jsoncursor;
 
-import android.database.AbstractCursor;
-
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import dev.alt236.easycursor.EasyCursor;
+import java.util.Arrays;
+import java.util.Comparator;
+
 import dev.alt236.easycursor.EasyQueryModel;
-import dev.alt236.easycursor.exceptions.ConversionErrorException;
-import dev.alt236.easycursor.internal.FieldAccessor;
-import dev.alt236.easycursor.internal.conversion.ObjectConverter;
-import dev.alt236.easycursor.internal.conversion.ObjectType;
-
-public class EasyJsonCursor extends AbstractCursor implements EasyCursor {
-    public static final String DEFAULT_STRING = null;
-    public static final boolean DEFAULT_BOOLEAN = false;
-    public static final double DEFAULT_DOUBLE = 0d;
-    public static final float DEFAULT_FLOAT = 0f;
-    public static final int DEFAULT_INT = 0;
-    public static final long DEFAULT_LONG = 0l;
-    public static final short DEFAULT_SHORT = 0;
-    private static final String _ID = "_id";
-    private final ObjectConverter mObjectConverter;
-    private final EasyQueryModel mQueryModel;
+import dev.alt236.easycursor.RowIndex;
+import dev.alt236.easycursor.RowPredicate;
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
+import dev.alt236.easycursor.internal.RowIndexes;
+import dev.alt236.easycursor.internal.RowOrder;
+
+public class EasyJsonCursor extends AbstractJsonCursor {
     private final JSONArray mJsonArray;
-    private final String m_IdAlias;
-    private final FieldAccessor mFieldAccessor;
+    private final JsonSchema mSchema;
+    private final JsonFieldAccessor mFieldAccessor;
+    private final int[] mRows;
+    private final RowIndexes mIndexes = new RowIndexes();
+    private JSONObject mCurrentObject;
+    private int mCurrentObjectPosition = -1;
 
     public EasyJsonCursor(final JSONArray array, final String _idAlias) {
         this(array, _idAlias, null);
     }
 
     public EasyJsonCursor(final JSONArray array, final String _idAlias, final EasyQueryModel model) {
-        mObjectConverter = new ObjectConverter();
-        mFieldAccessor = new JsonFieldAccessor(array);
-
-        m_IdAlias = _idAlias;
-        mQueryModel = model;
+        this(array, _idAlias, model, SchemaInference.FIRST_ROW);
+    }
+
+    /**
+     * Creates a cursor whose columns are found using the given inference.
+     *
+     * @param array     the rows
+     * @param _idAlias  the field to use when "_id" is requested, or null
+     * @param model     the query model, or null
+     * @param inference which rows to inspect to find the columns
+     */
+    public EasyJsonCursor(final JSONArray array,
+                          final String _idAlias,
+                          final EasyQueryModel model,
+                          final SchemaInference inference) {
+        this(array, _idAlias, model, new JsonFieldAccessor(array, inference), null, new TypeConverterRegistry());
+    }
+
+    /**
+     * @param rows the positions in array of the rows of this cursor, or null for all of them in order
+     */
+    private EasyJsonCursor(final JSONArray array,
+                           final String _idAlias,
+                           final EasyQueryModel model,
+                           final JsonFieldAccessor fieldAccessor,
+                           final int[] rows,
+                           final TypeConverterRegistry typeConverters) {
+        super(fieldAccessor, _idAlias, model, typeConverters);
         mJsonArray = array;
-    }
-
-    private String applyAlias(final String columnName) {
-        if (_ID.equals(columnName)) {
-            if (m_IdAlias != null) {
-                return m_IdAlias;
-            }
+        mSchema = fieldAccessor.getSchema();
+        mFieldAccessor = fieldAccessor;
+        mRows = rows;
+    }
+
+    /**
+     * Attaches an index which was built from another cursor over the same rows, for example
+     * a cursor which was created again for the same JSONArray. See {@link #buildIndex(String, RowIndex.Type)}.
+     *
+     * @param index the index
+     * @throws IllegalArgumentException if this cursor does not have the column of the index,
+     *                                  or does not have the same number of rows
+     */
+    public void addIndex(final RowIndex index) {
+        if (mFieldAccessor.getFieldIndexByName(index.getColumnName()) == -1) {
+            throw new IllegalArgumentException("Field '" + index.getColumnName() + "' does not exist");
         }
-
-        return columnName;
-    }
-
-    @Override
-    public byte[] getBlob(final String name) {
-        throw new UnsupportedOperationException("getBlob is not supported");
-    }
-
-    @Override
-    public boolean getBoolean(final String name) {
-        return internalGet(ObjectType.BOOLEAN, name, DEFAULT_BOOLEAN);
-    }
-
-    @Override
-    public int getColumnIndex(final String name) {
-        final String column = applyAlias(name);
-        return mFieldAccessor.getFieldIndexByName(column);
-    }
-
-    @Override
-    public int getColumnIndexOrThrow(final String name) {
-        final String column = applyAlias(name);
-        final int index = mFieldAccessor.getFieldIndexByName(column);
-
-        if (index == -1) {
-            throw new IllegalArgumentException("There is no column named '" + column + "'");
-        } else {
-            return index;
+        if (index.getRowCount() != getCount()) {
+            throw new IllegalArgumentException("The index on '" + index.getColumnName() + "' was built over "
+                    + index.getRowCount() + " rows, but this cursor has " + getCount());
         }
-    }
-
-    @Override
-    public String getColumnName(final int columnIndex) {
-        return mFieldAccessor.getFieldNameByIndex(columnIndex);
-    }
-
-    @Override
-    public String[] getColumnNames() {
-        return mFieldAccessor.getFieldNames();
+        mIndexes.add(index);
+    }
+
+    /**
+     * Builds an index on a field of integral numbers and attaches it to this cursor,
+     * so that {@link #moveToKey(String, long)} and {@link #rangeScan(String, long, long)} can use it.
+     * Rows where the field is null or missing are not indexed.
+     * <p>
+     * Building reads the field once per row, without moving the cursor, so it can be done on a background thread
+     * while the cursor is in use. The index can then be attached to later cursors over the same rows
+     * with {@link #addIndex(RowIndex)}.
+     *
+     * @param name the field
+     * @param type the type of index
+     * @return the index
+     * @throws IllegalArgumentException if the field has values which are not integral numbers
+     */
+    public RowIndex buildIndex(final String name, final RowIndex.Type type) {
+        final String field = applyAlias(name);
+        final RowIndex index = RowIndexes.create(field, type, readField(field));
+        mIndexes.add(index);
+        return index;
+    }
+
+    private EasyJsonCursor createView(final int[] rows) {
+        return new EasyJsonCursor(
+                mJsonArray,
+                get_IdAlias(),
+                getQueryModel(),
+                mFieldAccessor,
+                RowOrder.compose(mRows, rows),
+                getTypeConverters());
+    }
+
+    /**
+     * Returns a view of the rows of this cursor which the predicate accepts, in the same order.
+     * The view shares the JSONArray, columns and type converters of this cursor.
+     * Which rows it has is decided once, when it is created.
+     *
+     * @param predicate the predicate. Rows which are not JSON objects are passed as null.
+     * @return the view, positioned before the first row
+     */
+    public EasyJsonCursor filtered(final RowPredicate<? super JSONObject> predicate) {
+        final int count = getCount();
+        final int[] rows = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (predicate.accept(getJsonObjectAt(i))) {
+                rows[size++] = i;
+            }
+        }
+        return createView(Arrays.copyOf(rows, size));
     }
 
     @Override
     public int getCount() {
-        return mJsonArray.length();
+        return mRows == null ? mJsonArray.length() : mRows.length;
     }
 
     public JSONObject getCurrentJsonObject() {
-        return mJsonArray.optJSONObject(getPosition());
-    }
-
-    @Override
-    public double getDouble(final int column) {
-        return getDouble(mFieldAccessor.getFieldNameByIndex(column));
-    }
-
-    @Override
-    public double getDouble(final String name) {
-        return internalGet(ObjectType.DOUBLE, name, DEFAULT_DOUBLE);
-    }
-
-    @Override
-    public float getFloat(final int column) {
-        return getFloat(mFieldAccessor.getFieldNameByIndex(column));
-    }
+        final int position = getPosition();
+        if (position != mCurrentObjectPosition) {
+            // Normally done by onMove(), but the position can also change without a move (e.g. to -1)
+            mCurrentObject = getJsonObjectAt(position);
+            mCurrentObjectPosition = position;
+        }
 
-    @Override
-    public float getFloat(final String name) {
-        return internalGet(ObjectType.FLOAT, name, DEFAULT_FLOAT);
+        return mCurrentObject;
     }
 
-    @Override
-    public int getInt(final int column) {
-        return getInt(mFieldAccessor.getFieldNameByIndex(column));
+    /**
+     * @return the value of a field or path column of a row, or null if it is missing or null
+     */
+    private Object getFieldValue(final JSONObject object, final String field) {
+        final JsonPath path = mFieldAccessor.getPath(field);
+        if (path != null) {
+            return path.read(object);
+        } else {
+            return object == null ? null : unwrapNull(object.opt(field));
+        }
     }
 
-    @Override
-    public int getInt(final String name) {
-        return internalGet(ObjectType.INTEGER, name, DEFAULT_INT);
+    private JSONObject getJsonObjectAt(final int position) {
+        if (mRows == null) {
+            return mJsonArray.optJSONObject(position);
+        } else if (position < 0 || position >= mRows.length) {
+            return null;
+        } else {
+            return mJsonArray.optJSONObject(mRows[position]);
+        }
     }
 
     public JSONArray getJSONArray(final int column) {
-        return getJSONArray(mFieldAccessor.getFieldNameByIndex(column));
+        return getJSONArray(getColumnName(column));
     }
 
     public JSONArray getJSONArray(final String name) {
@@ -160,7 +202,7 @@ public class EasyJsonCursor extends AbstractCursor implements EasyCursor {
     }
 
     public JSONObject getJSONObject(final int column) {
-        return getJSONObject(mFieldAccessor.getFieldNameByIndex(column));
+        return getJSONObject(getColumnName(column));
     }
 
     public JSONObject getJSONObject(final String name) {
@@ -171,164 +213,17 @@ public class EasyJsonCursor extends AbstractCursor implements EasyCursor {
         }
     }
 
-    @Override
-    public long getLong(final int column) {
-        return getLong(mFieldAccessor.getFieldNameByIndex(column));
-    }
-
-    @Override
-    public long getLong(final String name) {
-        return internalGet(ObjectType.LONG, name, DEFAULT_LONG);
-    }
-
-    @Override
-    public EasyQueryModel getQueryModel() {
-        return mQueryModel;
-    }
-
-    @Override
-    public short getShort(final int column) {
-        return getShort(mFieldAccessor.getFieldNameByIndex(column));
-    }
-
-    public short getShort(final String name) {
-        return internalGet(ObjectType.SHORT, name, DEFAULT_SHORT);
-    }
-
-    @Override
-    public String getString(final int column) {
-        return getString(mFieldAccessor.getFieldNameByIndex(column));
-    }
-
-    @Override
-    public String getString(final String name) {
-        return internalGet(ObjectType.STRING, name, DEFAULT_STRING);
-    }
-
-    public String get_IdAlias() {
-        return m_IdAlias;
-    }
-
-    @SuppressWarnings("unchecked")
-    private <R> R internalGet(final ObjectType type,
-                              final String name,
-                              final R conversionErrorFallback) {
-        final String alias = applyAlias(name);
-
-        if (!getCurrentJsonObject().has(alias)) {
-            throw new IllegalArgumentException("Field '" + alias + "' does not exist");
-        }
-
-        try {
-
-            if (getCurrentJsonObject().isNull(alias)) {
-                return (R) mObjectConverter.toType(type, null);
-            } else {
-                final Object value = getCurrentJsonObject().get(alias);
-                return (R) mObjectConverter.toType(type, value);
-            }
-        } catch (final ConversionErrorException e) {
-            return conversionErrorFallback;
-        } catch (final JSONException e) {
-            return null;
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private <R> R internalOpt(final ObjectType type,
-                              final String fieldName,
-                              final R fieldMissingFallback,
-                              final R conversionErrorFallback) {
-        final String alias = applyAlias(fieldName);
-
-        if (!getCurrentJsonObject().has(alias)) {
-            return fieldMissingFallback;
-        } else {
-            try {
-                if (getCurrentJsonObject().isNull(alias)) {
-                    return (R) mObjectConverter.toType(type, null);
-                } else {
-                    final Object value = getCurrentJsonObject().opt(alias);
-                    return (R) mObjectConverter.toType(type, value);
-                }
-            } catch (final ConversionErrorException e) {
-                return conversionErrorFallback;
-            }
-        }
-    }
-
-    @Override
-    public boolean isNull(final int column) {
-        return isNull(mFieldAccessor.getFieldNameByIndex(column));
-    }
-
-    @Override
-    public boolean isNull(final String name) {
-        return getCurrentJsonObject().isNull(applyAlias(name));
-    }
-
-    @Override
-    public boolean optBoolean(final String name) {
-        return internalOpt(ObjectType.BOOLEAN, name, DEFAULT_BOOLEAN, DEFAULT_BOOLEAN);
-    }
-
-    @Override
-    public boolean optBoolean(final String name, final boolean fallback) {
-        return internalOpt(ObjectType.BOOLEAN, name, fallback, DEFAULT_BOOLEAN);
-    }
-
-    @Override
-    public Boolean optBooleanAsWrapperType(final String name) {
-        return internalOpt(ObjectType.BOOLEAN, name, null, DEFAULT_BOOLEAN);
-    }
-
-    @Override
-    public double optDouble(final String name) {
-        return internalOpt(ObjectType.DOUBLE, name, DEFAULT_DOUBLE, DEFAULT_DOUBLE);
-    }
-
-    @Override
-    public double optDouble(final String name, final double fallback) {
-        return internalOpt(ObjectType.DOUBLE, name, fallback, DEFAULT_DOUBLE);
-    }
-
-    @Override
-    public Double optDoubleAsWrapperType(final String name) {
-        return internalOpt(ObjectType.DOUBLE, name, null, DEFAULT_DOUBLE);
-    }
-
-    @Override
-    public float optFloat(final String name) {
-        return internalOpt(ObjectType.FLOAT, name, DEFAULT_FLOAT, DEFAULT_FLOAT);
-    }
-
-    @Override
-    public float optFloat(final String name, final float fallback) {
-        return internalOpt(ObjectType.FLOAT, name, fallback, DEFAULT_FLOAT);
-    }
-
-    @Override
-    public Float optFloatAsWrapperType(final String name) {
-        return internalOpt(ObjectType.FLOAT, name, null, DEFAULT_FLOAT);
-    }
-
-    @Override
-    public int optInt(final String name) {
-        return internalOpt(ObjectType.INTEGER, name, DEFAULT_INT, DEFAULT_INT);
-    }
-
-    @Override
-    public int optInt(final String name, final int fallback) {
-        return internalOpt(ObjectType.INTEGER, name, fallback, DEFAULT_INT);
-    }
-
-    @Override
-    public Integer optIntAsWrapperType(final String name) {
-        return internalOpt(ObjectType.INTEGER, name, null, DEFAULT_INT);
+    /**
+     * Returns the columns of this cursor and the JSON types observed in them.
+     *
+     * @return the schema
+     */
+    public JsonSchema getSchema() {
+        return mSchema;
     }
 
     public JSONArray optJSONArray(final int column) {
-        return optJSONArray(mFieldAccessor.getFieldNameByIndex(column));
+        return optJSONArray(getColumnName(column));
     }
 
     public JSONArray optJSONArray(final String name) {
@@ -336,47 +231,158 @@ public class EasyJsonCursor extends AbstractCursor implements EasyCursor {
     }
 
     public JSONObject optJSONObject(final int column) {
-        return optJSONObject(mFieldAccessor.getFieldNameByIndex(column));
+        return optJSONObject(getColumnName(column));
     }
 
     public JSONObject optJSONObject(final String name) {
         return getCurrentJsonObject().optJSONObject(applyAlias(name));
     }
 
-    @Override
-    public long optLong(final String name) {
-        return internalOpt(ObjectType.LONG, name, DEFAULT_LONG, DEFAULT_LONG);
-    }
-
-    @Override
-    public long optLong(final String name, final long fallback) {
-        return internalOpt(ObjectType.LONG, name, fallback, DEFAULT_LONG);
-    }
+    /**
+     * Moves to the first row whose field is a key.
+     * <p>
+     * This is a lookup if an index was built or added for the field, and a scan of every row otherwise.
+     *
+     * @param name the field
+     * @param key  the value to look for
+     * @return true if a row was found. If not, the position of the cursor does not change.
+     */
+    public boolean moveToKey(final String name, final long key) {
+        final String field = applyAlias(name);
+        final RowIndex index = mIndexes.getForKey(field);
+
+        if (index != null) {
+            final int row = index.getRow(key);
+            return row != -1 && moveToPosition(row);
+        }
 
-    @Override
-    public Long optLongAsWrapperType(final String name) {
-        return internalOpt(ObjectType.LONG, name, null, DEFAULT_LONG);
+        final int count = getCount();
+        for (int i = 0; i < count; i++) {
+            final JSONObject object = getJsonObjectAt(i);
+            final Object value = getFieldValue(object, field);
+            if (RowIndexes.isKey(value) && ((Number) value).longValue() == key) {
+                return moveToPosition(i);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean onMove(final int oldPosition, final int newPosition) {
+        mCurrentObject = getJsonObjectAt(newPosition);
+        mCurrentObjectPosition = newPosition;
+        return true;
+    }
+
+    /**
+     * Returns a view of the rows whose field is within a range, ordered by that field.
+     * The view shares the JSONArray, columns and type converters of this cursor.
+     *
+     * @param name the field
+     * @param from the lowest value, inclusive
+     * @param to   the highest value, inclusive
+     * @return the view, positioned before the first row
+     * @throws IllegalStateException if no {@link RowIndex.Type#SORTED} index was built or added for the field
+     */
+    public EasyJsonCursor rangeScan(final String name, final long from, final long to) {
+        final String field = applyAlias(name);
+        final RowIndex index = mIndexes.getForRange(field);
+        if (index == null) {
+            throw new IllegalStateException("No sorted index on '" + field + "'. Build one with buildIndex()");
+        }
+        return createView(index.getRows(from, to));
     }
 
-    public short optShort(final String name) {
-        return internalOpt(ObjectType.SHORT, name, DEFAULT_SHORT, DEFAULT_SHORT);
-    }
+    private Object[] readField(final String field) {
+        final int count = getCount();
+        final Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            final JSONObject object = getJsonObjectAt(i);
+            values[i] = getFieldValue(object, field);
+        }
+        return values;
+    }
+
+    /**
+     * Returns a view of the rows of this cursor in the order given by a comparator. Equal rows keep their order.
+     * The view shares the JSONArray, columns and type converters of this cursor.
+     * <p>
+     * Large cursors are sorted in parallel, so the comparator must be safe to call from several threads at once.
+     *
+     * @param comparator the comparator. Rows which are not JSON objects are passed as null.
+     * @return the view, positioned before the first row
+     */
+    public EasyJsonCursor sorted(final Comparator<? super JSONObject> comparator) {
+        final int count = getCount();
+        final JSONObject[] objects = new JSONObject[count];
+        for (int i = 0; i < count; i++) {
+            objects[i] = getJsonObjectAt(i);
+        }
 
-    public short optShort(final String name, final short fallback) {
-        return internalOpt(ObjectType.SHORT, name, fallback, DEFAULT_SHORT);
-    }
+        return createView(RowOrder.sort(count, new RowOrder.RowComparator() {
+            @Override
+            public int compare(final int first, final int second) {
+                return comparator.compare(objects[first], objects[second]);
+            }
+        }, true));
+    }
+
+    /**
+     * Returns a view of the rows of this cursor, sorted on a field. Equal rows keep their order.
+     * The view shares the JSONArray, columns and type converters of this cursor.
+     * <p>
+     * The field is read once per row before sorting. Numbers are compared as numbers, other values by
+     * their natural order, and null or missing values come first when ascending.
+     *
+     * @param name      the field
+     * @param ascending false to sort in descending order
+     * @return the view, positioned before the first row
+     * @throws IllegalArgumentException if the values of the field cannot be compared
+     */
+    public EasyJsonCursor sorted(final String name, final boolean ascending) {
+        return createView(RowOrder.sort(getCount(), RowOrder.onValues(readField(applyAlias(name))), ascending));
+    }
+
+    @Override
+    protected Object optFieldValue(final String field) {
+        final JsonPath path = mFieldAccessor.getPath(field);
+        if (path != null) {
+            return path.read(getCurrentJsonObject());
+        }
 
-    public Short optShortAsWrapperType(final String name) {
-        return internalOpt(ObjectType.SHORT, name, null, DEFAULT_SHORT);
-    }
+        // opt() tells missing (null) and null (JSONObject.NULL) fields apart with a single lookup
+        final Object value = getCurrentJsonObject().opt(field);
 
-    @Override
-    public String optString(final String name) {
-        return internalOpt(ObjectType.STRING, name, DEFAULT_STRING, DEFAULT_STRING);
+        if (value == null) {
+            return MISSING;
+        } else {
+            return unwrapNull(value);
+        }
     }
 
-    @Override
-    public String optString(final String name, final String fallback) {
-        return internalOpt(ObjectType.STRING, name, fallback, DEFAULT_STRING);
+    private static Object unwrapNull(final Object value) {
+        return value == JSONObject.NULL ? null : value;
+    }
+
+    /**
+     * Returns a cursor over the same rows which also has a column for each of the given nested fields,
+     * after the columns of this cursor. A path is either dotted ("meta.stats.plays") or a JSON pointer
+     * ("/meta/stats/plays"), and steps which are numbers also index into arrays.
+     * <p>
+     * Paths are split into their steps once, here. If any step is missing or null, the column is null for that row.
+     * Path columns are not part of {@link #getSchema()}.
+     *
+     * @param paths the paths. They are also the names of the new columns.
+     * @return the new cursor, positioned before the first row
+     * @throws IllegalArgumentException if a path is empty, or a column with the same name already exists
+     */
+    public EasyJsonCursor withPaths(final String... paths) {
+        return new EasyJsonCursor(
+                mJsonArray,
+                get_IdAlias(),
+                getQueryModel(),
+                mFieldAccessor.withPaths(paths),
+                mRows,
+                getTypeConverters());
     }
 }
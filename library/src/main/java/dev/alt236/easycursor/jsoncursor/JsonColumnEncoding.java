@@ -0,0 +1,46 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+/**
+ * How a {@link ColumnarJsonCursor} stores the values of a column.
+ */
+public enum JsonColumnEncoding {
+    /**
+     * Strings only, stored as an index into a table of the distinct values.
+     */
+    DICTIONARY,
+    /**
+     * Floating point numbers only, stored in a double[].
+     */
+    DOUBLE,
+    /**
+     * Integral numbers which all fit in 32 bits, stored in an int[].
+     */
+    INT,
+    /**
+     * Integral numbers which need 64 bits, stored in a long[]. The values are returned as Longs.
+     */
+    LONG,
+    /**
+     * Anything else (booleans, nested objects and arrays, mixed types), stored as the decoded values.
+     */
+    RAW
+}
@@ -0,0 +1,58 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+/**
+ * The JSON type observed in a column of a {@link JsonSchema}.
+ */
+public enum JsonColumnType {
+    ARRAY,
+    BOOLEAN,
+    /**
+     * Floating point numbers, or a mix of floating point and integral numbers.
+     */
+    DOUBLE,
+    /**
+     * Integral numbers only.
+     */
+    INTEGER,
+    /**
+     * Values of more than one type.
+     */
+    MIXED,
+    /**
+     * Only nulls (or no values at all) were seen.
+     */
+    NULL,
+    OBJECT,
+    STRING;
+
+    /* package */ static JsonColumnType merge(final JsonColumnType first, final JsonColumnType second) {
+        if (first == null || first == NULL) {
+            return second;
+        } else if (second == null || second == NULL || first == second) {
+            return first;
+        } else if ((first == INTEGER && second == DOUBLE) || (first == DOUBLE && second == INTEGER)) {
+            return DOUBLE;
+        } else {
+            return MIXED;
+        }
+    }
+}
@@ -20,13 +20,12 @@
 package dev.alt236.easycursor.jsoncursor;
 
 import org.json.JSONArray;
-import org.json.JSONObject;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import dev.alt236.easycursor.internal.FieldAccessor;
 
@@ -34,45 +33,90 @@ import dev.alt236.easycursor.internal.FieldAccessor;
  *
  */
 class JsonFieldAccessor implements FieldAccessor {
-    private final List<String> mPropertyList;
-    private final Map<String, Integer> mPropertyToIndexMap;
+    private final JsonSchema mSchema;
+    private final String[] mPathNames;
+    private final JsonPath[] mPaths;
+    private final Map<String, Integer> mPathToIndexMap;
 
     public JsonFieldAccessor(final JSONArray array) {
-        mPropertyList = new ArrayList<>();
-        mPropertyToIndexMap = new HashMap<>();
-        populateMethodList(array);
+        this(array, SchemaInference.FIRST_ROW);
+    }
+
+    public JsonFieldAccessor(final JSONArray array, final SchemaInference inference) {
+        this(JsonSchema.infer(array, inference), new String[0], new JsonPath[0]);
+    }
+
+    private JsonFieldAccessor(final JsonSchema schema, final String[] pathNames, final JsonPath[] paths) {
+        mSchema = schema;
+        mPathNames = pathNames;
+        mPaths = paths;
+        mPathToIndexMap = new HashMap<>();
+        for (int i = 0; i < pathNames.length; i++) {
+            mPathToIndexMap.put(pathNames[i], i);
+        }
     }
 
     @Override
     public int getFieldIndexByName(final String name) {
-        if (mPropertyToIndexMap.containsKey(name)) {
-            return mPropertyToIndexMap.get(name);
-        } else {
-            return -1;
+        final int index = mSchema.getColumnIndex(name);
+        if (index == -1 && mPaths.length > 0) {
+            final Integer pathIndex = mPathToIndexMap.get(name);
+            return pathIndex == null ? -1 : mSchema.getColumnCount() + pathIndex;
         }
+        return index;
     }
 
     @Override
     public String getFieldNameByIndex(final int index) {
-        return mPropertyList.get(index);
+        final int columnCount = mSchema.getColumnCount();
+        return index < columnCount ? mSchema.getColumnName(index) : mPathNames[index - columnCount];
     }
 
     @Override
     public String[] getFieldNames() {
-        return mPropertyList.toArray(new String[mPropertyList.size()]);
+        final String[] columns = mSchema.getColumnNames();
+        if (mPaths.length == 0) {
+            return columns;
+        }
+
+        final String[] names = Arrays.copyOf(columns, columns.length + mPathNames.length);
+        System.arraycopy(mPathNames, 0, names, columns.length, mPathNames.length);
+        return names;
     }
 
-    private void populateMethodList(final JSONArray array) {
-        int count = 0;
-        final JSONObject obj = array.optJSONObject(0);
-
-        @SuppressWarnings("unchecked")
-        final Iterator<String> keyIterator = obj.keys();
-        while (keyIterator.hasNext()) {
-            final String key = keyIterator.next();
-            mPropertyList.add(key);
-            mPropertyToIndexMap.put(key, count);
-            count++;
+    /**
+     * @return the path of a path column, or null if the field is not one
+     */
+    public JsonPath getPath(final String field) {
+        if (mPaths.length == 0) {
+            return null;
+        }
+
+        final Integer index = mPathToIndexMap.get(field);
+        return index == null ? null : mPaths[index];
+    }
+
+    public JsonSchema getSchema() {
+        return mSchema;
+    }
+
+    /**
+     * Returns an accessor with the same columns, followed by a column for each path.
+     *
+     * @throws IllegalArgumentException if a path is empty, or a column with the same name already exists
+     */
+    public JsonFieldAccessor withPaths(final String[] paths) {
+        final String[] pathNames = Arrays.copyOf(mPathNames, mPathNames.length + paths.length);
+        final JsonPath[] compiled = Arrays.copyOf(mPaths, mPaths.length + paths.length);
+        final Set<String> added = new HashSet<>();
+
+        for (int i = 0; i < paths.length; i++) {
+            if (getFieldIndexByName(paths[i]) != -1 || !added.add(paths[i])) {
+                throw new IllegalArgumentException("There already is a column named '" + paths[i] + "'");
+            }
+            pathNames[mPathNames.length + i] = paths[i];
+            compiled[mPaths.length + i] = JsonPath.compile(paths[i]);
         }
+        return new JsonFieldAccessor(mSchema, pathNames, compiled);
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * A path to a nested value of a JSON object, split into its steps once so that reads only walk the tree.
+ * <p>
+ * Paths are either dotted ("meta.stats.plays") or JSON pointers ("/meta/stats/plays", see RFC 6901).
+ * A step which is a number also indexes into an array, so "tracks.0.name" reads the name of the first track.
+ */
+/* package */ final class JsonPath {
+    private static final int NOT_AN_INDEX = -1;
+
+    private final String[] mSteps;
+    private final int[] mIndexes;
+
+    private JsonPath(final String[] steps) {
+        mSteps = steps;
+        mIndexes = new int[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            mIndexes[i] = toIndex(steps[i]);
+        }
+    }
+
+    /**
+     * Reads the value at this path.
+     *
+     * @param object the object to start from
+     * @return the value, or null if it or any step before it is missing or null
+     */
+    public Object read(final JSONObject object) {
+        Object current = object;
+        for (int i = 0; i < mSteps.length && current != null; i++) {
+            if (current instanceof JSONObject) {
+                current = ((JSONObject) current).opt(mSteps[i]);
+            } else if (current instanceof JSONArray && mIndexes[i] != NOT_AN_INDEX) {
+                current = ((JSONArray) current).opt(mIndexes[i]);
+            } else {
+                return null;
+            }
+        }
+        return current == JSONObject.NULL ? null : current;
+    }
+
+    /**
+     * @param path a dotted path or a JSON pointer
+     * @return the compiled path
+     * @throws IllegalArgumentException if the path has no steps
+     */
+    public static JsonPath compile(final String path) {
+        final String[] steps;
+        if (path.startsWith("/")) {
+            steps = path.substring(1).split("/", -1);
+            for (int i = 0; i < steps.length; i++) {
+                // The order matters, so that "~01" becomes "~1" and not "/"
+                steps[i] = steps[i].replace("~1", "/").replace("~0", "~");
+            }
+        } else {
+            steps = path.split("\\.", -1);
+        }
+
+        if (path.isEmpty() || path.equals("/")) {
+            throw new IllegalArgumentException("'" + path + "' is not a path");
+        }
+        return new JsonPath(steps);
+    }
+
+    private static int toIndex(final String step) {
+        if (step.isEmpty() || step.length() > 9) {
+            return NOT_AN_INDEX;
+        }
+        for (int i = 0; i < step.length(); i++) {
+            if (step.charAt(i) < '0' || step.charAt(i) > '9') {
+                return NOT_AN_INDEX;
+            }
+        }
+        return Integer.parseInt(step);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+import android.util.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes JSON objects from a {@link JsonReader} into compact rows.
+ * <p>
+ * A row is an Object[] indexed by column, where columns are assigned in the order their names are first seen.
+ * A null slot (or a slot past the end of the row) means the field is missing, and {@link #NULL} means the field is null.
+ * Numbers are decoded as Integer, Long or Double like org.json does, and nested objects and arrays are kept as their JSON text.
+ */
+/* package */ final class JsonRowDecoder {
+    /* package */ static final Object NULL = new Object();
+
+    private final List<String> mColumnNames = new ArrayList<>();
+    private final Map<String, Integer> mColumnIndexes = new HashMap<>();
+    private Object[] mScratch = new Object[16];
+
+    public int getColumnCount() {
+        return mColumnNames.size();
+    }
+
+    public int getColumnIndex(final String name) {
+        final Integer index = mColumnIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public String[] getColumnNames() {
+        return mColumnNames.toArray(new String[mColumnNames.size()]);
+    }
+
+    private int getOrAddColumn(final String name) {
+        final Integer index = mColumnIndexes.get(name);
+        if (index != null) {
+            return index;
+        }
+
+        final int newIndex = mColumnNames.size();
+        mColumnNames.add(name);
+        mColumnIndexes.put(name, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Reads the next value of the reader as a row.
+     * Values which are not objects are consumed and produce a row with no fields.
+     *
+     * @param reader the reader
+     * @return the row, trimmed after its last present field
+     * @throws IOException if the JSON cannot be read
+     */
+    public Object[] readRow(final JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return new Object[0];
+        }
+
+        int length = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final int column = getOrAddColumn(reader.nextName());
+            if (column >= mScratch.length) {
+                mScratch = Arrays.copyOf(mScratch, Math.max(column + 1, mScratch.length * 2));
+            }
+
+            mScratch[column] = readValue(reader);
+            length = Math.max(length, column + 1);
+        }
+        reader.endObject();
+
+        final Object[] row = Arrays.copyOf(mScratch, length);
+        Arrays.fill(mScratch, 0, length, null);
+        return row;
+    }
+
+    private static Number readNumber(final String literal) {
+        if (isIntegral(literal)) {
+            try {
+                final long value = Long.parseLong(literal);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                } else {
+                    return value;
+                }
+            } catch (final NumberFormatException e) {
+                // Too big for a long
+            }
+        }
+
+        return Double.valueOf(literal);
+    }
+
+    private static Object readValue(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return readNumber(reader.nextString());
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return NULL;
+            default:
+                final StringWriter json = new StringWriter();
+                final JsonWriter writer = new JsonWriter(json);
+                copyValue(reader, writer);
+                writer.flush();
+                return json.toString();
+        }
+    }
+
+    private static void copyValue(final JsonReader reader, final JsonWriter writer) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                writer.beginArray();
+                while (reader.hasNext()) {
+                    copyValue(reader, writer);
+                }
+                reader.endArray();
+                writer.endArray();
+                break;
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                writer.beginObject();
+                while (reader.hasNext()) {
+                    writer.name(reader.nextName());
+                    copyValue(reader, writer);
+                }
+                reader.endObject();
+                writer.endObject();
+                break;
+            case STRING:
+                writer.value(reader.nextString());
+                break;
+            case NUMBER:
+                writer.value(readNumber(reader.nextString()));
+                break;
+            case BOOLEAN:
+                writer.value(reader.nextBoolean());
+                break;
+            case NULL:
+                reader.nextNull();
+                writer.nullValue();
+                break;
+            default:
+                reader.skipValue();
+                break;
+        }
+    }
+
+    private static boolean isIntegral(final String literal) {
+        final int start = literal.startsWith("-") ? 1 : 0;
+        if (literal.length() == start) {
+            return false;
+        }
+
+        for (int i = start; i < literal.length(); i++) {
+            final char c = literal.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
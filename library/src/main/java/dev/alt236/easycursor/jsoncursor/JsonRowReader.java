@@ -0,0 +1,174 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * Reads the rows of a JSON payload one at a time, without building the whole tree.
+ * <p>
+ * The payload can either be a JSON array of objects or newline delimited JSON (one object per line).
+ * Only the current row is held in memory, so this can be used to scan feeds which are too big for a cursor.
+ * Columns are discovered as the rows are read, so {@link #getColumnNames()} can grow after each call to {@link #next()}.
+ */
+public final class JsonRowReader implements Closeable {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final JsonReader mReader;
+    private final JsonRowDecoder mDecoder;
+    private Object[] mRow;
+    private int mRowIndex = -1;
+    private boolean mStarted;
+    private boolean mDelimited;
+    private boolean mFinished;
+
+    /**
+     * @param stream the UTF-8 encoded payload
+     */
+    public JsonRowReader(final InputStream stream) {
+        this(new InputStreamReader(stream, UTF_8));
+    }
+
+    public JsonRowReader(final Reader reader) {
+        this(new JsonReader(reader), new JsonRowDecoder());
+    }
+
+    /* package */ JsonRowReader(final JsonReader reader, final JsonRowDecoder decoder) {
+        mReader = reader;
+        mDecoder = decoder;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mReader.close();
+    }
+
+    public int getColumnIndex(final String name) {
+        return mDecoder.getColumnIndex(name);
+    }
+
+    /**
+     * Returns the names of the columns seen so far.
+     *
+     * @return the column names
+     */
+    public String[] getColumnNames() {
+        return mDecoder.getColumnNames();
+    }
+
+    /* package */ JsonRowDecoder getDecoder() {
+        return mDecoder;
+    }
+
+    /* package */ Object[] getRow() {
+        return mRow;
+    }
+
+    /**
+     * Returns the index of the current row, or -1 if {@link #next()} has not been called yet.
+     *
+     * @return the row index
+     */
+    public int getRowIndex() {
+        return mRowIndex;
+    }
+
+    /**
+     * Returns the value of a field of the current row.
+     * Numbers are returned as Integer, Long or Double and nested objects and arrays as their JSON text.
+     *
+     * @param name the field name
+     * @return the value, or null if the field is null or missing
+     */
+    public Object getValue(final String name) {
+        final Object value = optRowValue(mRow, mDecoder.getColumnIndex(name));
+        return value == JsonRowDecoder.NULL ? null : value;
+    }
+
+    /**
+     * Returns true if the current row has the given field, even if its value is null.
+     *
+     * @param name the field name
+     * @return whether the field exists
+     */
+    public boolean has(final String name) {
+        return optRowValue(mRow, mDecoder.getColumnIndex(name)) != null;
+    }
+
+    /**
+     * Moves to the next row.
+     *
+     * @return false if there are no more rows
+     * @throws IOException if the payload cannot be read or is not valid JSON
+     */
+    public boolean next() throws IOException {
+        if (mFinished) {
+            return false;
+        }
+
+        if (!mStarted) {
+            mStarted = true;
+            if (mReader.peek() == JsonToken.BEGIN_ARRAY) {
+                mReader.beginArray();
+            } else {
+                // Newline delimited JSON is a sequence of top level values, which needs a lenient reader
+                mDelimited = true;
+                mReader.setLenient(true);
+            }
+        }
+
+        if (hasNextRow()) {
+            mRow = mDecoder.readRow(mReader);
+            mRowIndex++;
+            return true;
+        } else {
+            if (!mDelimited) {
+                mReader.endArray();
+            }
+            mRow = null;
+            mFinished = true;
+            return false;
+        }
+    }
+
+    private boolean hasNextRow() throws IOException {
+        if (mDelimited) {
+            return mReader.peek() != JsonToken.END_DOCUMENT;
+        } else {
+            return mReader.hasNext();
+        }
+    }
+
+    /* package */ static Object optRowValue(final Object[] row, final int column) {
+        if (row == null || column < 0 || column >= row.length) {
+            return null;
+        } else {
+            return row[column];
+        }
+    }
+}
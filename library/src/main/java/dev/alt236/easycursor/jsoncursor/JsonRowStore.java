@@ -0,0 +1,89 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.alt236.easycursor.internal.FieldAccessor;
+
+/**
+ * The rows of a fully read JSON payload, in the compact form produced by {@link JsonRowDecoder}.
+ * The columns are the union of the fields of all rows, in the order they were first seen.
+ */
+/* package */ final class JsonRowStore implements FieldAccessor {
+    private final String[] mColumnNames;
+    private final Map<String, Integer> mColumnIndexes;
+    private final Object[][] mRows;
+
+    private JsonRowStore(final String[] columnNames, final Object[][] rows) {
+        mColumnNames = columnNames;
+        mRows = rows;
+        mColumnIndexes = new HashMap<>(columnNames.length * 2);
+        for (int i = 0; i < columnNames.length; i++) {
+            mColumnIndexes.put(columnNames[i], i);
+        }
+    }
+
+    public int getCount() {
+        return mRows.length;
+    }
+
+    @Override
+    public int getFieldIndexByName(final String name) {
+        final Integer index = mColumnIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    @Override
+    public String getFieldNameByIndex(final int index) {
+        return mColumnNames[index];
+    }
+
+    @Override
+    public String[] getFieldNames() {
+        return mColumnNames.clone();
+    }
+
+    public Object[] getRow(final int position) {
+        return mRows[position];
+    }
+
+    /**
+     * Reads all the remaining rows of a reader.
+     *
+     * @param reader the reader
+     * @return the store
+     * @throws IOException if the payload cannot be read or is not valid JSON
+     */
+    public static JsonRowStore read(final JsonRowReader reader) throws IOException {
+        final List<Object[]> rows = new ArrayList<>();
+        while (reader.next()) {
+            rows.add(reader.getRow());
+        }
+
+        return new JsonRowStore(
+                reader.getColumnNames(),
+                rows.toArray(new Object[rows.size()][]));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.alt236.easycursor.internal.ParallelRanges;
+
+/**
+ * The columns of a JSON array, as found by a {@link SchemaInference}, and the JSON type observed in each of them.
+ * <p>
+ * Columns are ordered by where their field first appears. The types and nullability only reflect the inspected rows.
+ */
+public final class JsonSchema {
+    // Below this many rows per thread, splitting a full scan costs more than it saves
+    private static final int MIN_ROWS_PER_THREAD = 4096;
+
+    private final String[] mColumnNames;
+    private final JsonColumnType[] mColumnTypes;
+    private final boolean[] mNullable;
+    private final Map<String, Integer> mColumnIndexes;
+    private final int mInspectedRowCount;
+
+    private JsonSchema(final ColumnCollector collector) {
+        final int size = collector.mColumns.size();
+        mColumnNames = new String[size];
+        mColumnTypes = new JsonColumnType[size];
+        mNullable = new boolean[size];
+        mColumnIndexes = new HashMap<>(size * 2);
+        mInspectedRowCount = collector.mRowCount;
+
+        int index = 0;
+        for (final Map.Entry<String, ColumnStats> entry : collector.mColumns.entrySet()) {
+            final ColumnStats stats = entry.getValue();
+            mColumnNames[index] = entry.getKey();
+            mColumnTypes[index] = stats.mType == null ? JsonColumnType.NULL : stats.mType;
+            mNullable[index] = stats.mHasNulls || stats.mPresentCount < collector.mRowCount;
+            mColumnIndexes.put(entry.getKey(), index);
+            index++;
+        }
+    }
+
+    public int getColumnCount() {
+        return mColumnNames.length;
+    }
+
+    /**
+     * @param name the column name
+     * @return the index of the column, or -1 if there is no such column
+     */
+    public int getColumnIndex(final String name) {
+        final Integer index = mColumnIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public String getColumnName(final int index) {
+        return mColumnNames[index];
+    }
+
+    public String[] getColumnNames() {
+        return mColumnNames.clone();
+    }
+
+    public JsonColumnType getColumnType(final int index) {
+        return mColumnTypes[index];
+    }
+
+    /**
+     * Returns how many rows were inspected to build this schema.
+     *
+     * @return the row count
+     */
+    public int getInspectedRowCount() {
+        return mInspectedRowCount;
+    }
+
+    /**
+     * Returns true if the column was null, or missing, in at least one of the inspected rows.
+     *
+     * @param index the column index
+     * @return whether the column is nullable
+     */
+    public boolean isNullable(final int index) {
+        return mNullable[index];
+    }
+
+    /* package */ static JsonSchema infer(final JSONArray array, final SchemaInference inference) {
+        final int rowCount = array == null ? 0 : Math.min(array.length(), inference.getRowLimit());
+
+        final List<ColumnCollector> parts = ParallelRanges.map(
+                rowCount,
+                MIN_ROWS_PER_THREAD,
+                new ParallelRanges.RangeTask<ColumnCollector>() {
+                    @Override
+                    public ColumnCollector run(final int from, final int to) {
+                        final ColumnCollector collector = new ColumnCollector();
+                        for (int i = from; i < to; i++) {
+                            collector.add(array.optJSONObject(i));
+                        }
+                        return collector;
+                    }
+                });
+
+        final ColumnCollector result = parts.get(0);
+        for (int i = 1; i < parts.size(); i++) {
+            result.addAll(parts.get(i));
+        }
+        return new JsonSchema(result);
+    }
+
+    /* package */ static JsonColumnType typeOf(final Object value) {
+        if (value == null || value == JSONObject.NULL) {
+            return JsonColumnType.NULL;
+        } else if (value instanceof String) {
+            return JsonColumnType.STRING;
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return JsonColumnType.INTEGER;
+        } else if (value instanceof Number) {
+            return JsonColumnType.DOUBLE;
+        } else if (value instanceof Boolean) {
+            return JsonColumnType.BOOLEAN;
+        } else if (value instanceof JSONObject) {
+            return JsonColumnType.OBJECT;
+        } else if (value instanceof JSONArray) {
+            return JsonColumnType.ARRAY;
+        } else {
+            return JsonColumnType.MIXED;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("JsonSchema{");
+        for (int i = 0; i < mColumnNames.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(mColumnNames[i]).append(':').append(mColumnTypes[i]);
+            if (mNullable[i]) {
+                sb.append('?');
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static final class ColumnCollector {
+        private final Map<String, ColumnStats> mColumns = new LinkedHashMap<>();
+        private int mRowCount;
+
+        private void add(final JSONObject object) {
+            mRowCount++;
+            if (object == null) {
+                return;
+            }
+
+            @SuppressWarnings("unchecked")
+            final Iterator<String> keyIterator = object.keys();
+            while (keyIterator.hasNext()) {
+                final String key = keyIterator.next();
+                getStats(key).add(typeOf(object.opt(key)));
+            }
+        }
+
+        private void addAll(final ColumnCollector other) {
+            mRowCount += other.mRowCount;
+            for (final Map.Entry<String, ColumnStats> entry : other.mColumns.entrySet()) {
+                getStats(entry.getKey()).addAll(entry.getValue());
+            }
+        }
+
+        private ColumnStats getStats(final String key) {
+            ColumnStats stats = mColumns.get(key);
+            if (stats == null) {
+                stats = new ColumnStats();
+                mColumns.put(key, stats);
+            }
+            return stats;
+        }
+    }
+
+    private static final class ColumnStats {
+        private JsonColumnType mType;
+        private boolean mHasNulls;
+        private int mPresentCount;
+
+        private void add(final JsonColumnType type) {
+            mPresentCount++;
+            if (type == JsonColumnType.NULL) {
+                mHasNulls = true;
+            } else {
+                mType = JsonColumnType.merge(mType, type);
+            }
+        }
+
+        private void addAll(final ColumnStats other) {
+            mPresentCount += other.mPresentCount;
+            mHasNulls |= other.mHasNulls;
+            mType = JsonColumnType.merge(mType, other.mType);
+        }
+    }
+}
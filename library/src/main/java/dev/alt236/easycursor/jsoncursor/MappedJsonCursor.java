@@ -0,0 +1,255 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import android.util.JsonReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import dev.alt236.easycursor.EasyQueryModel;
+import dev.alt236.easycursor.internal.FieldAccessor;
+
+/**
+ * A JSON cursor over a file which is memory mapped rather than read.
+ * <p>
+ * The file can either be a JSON array of objects or newline delimited JSON (one object per line), encoded in UTF-8.
+ * On creation the file is scanned once to build an index of where each row starts, and the first row is parsed
+ * to find the columns, the same way {@link EasyJsonCursor} does. Any other row is only parsed when the cursor is
+ * moved to it and one of its fields is read, so jumping to row 400,000 costs a single row parse.
+ * <p>
+ * Only objects are counted as rows. Files must be smaller than 2GB.
+ */
+public class MappedJsonCursor extends AbstractJsonCursor {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int INITIAL_INDEX_SIZE = 1024;
+
+    private final ByteBuffer mBuffer;
+    private final long[] mRowOffsets;
+    private final JsonRowDecoder mDecoder;
+    private int mParsedPosition = -1;
+    private Object[] mParsedRow;
+    private int mRowParseCount;
+
+    public MappedJsonCursor(final File file, final String _idAlias) throws IOException {
+        this(file, _idAlias, null);
+    }
+
+    /**
+     * Maps and indexes a file.
+     *
+     * @param file     the file
+     * @param _idAlias the field to use when "_id" is requested, or null
+     * @param model    the query model, or null
+     * @throws IOException if the file cannot be mapped, is too big, or its first row is malformed.
+     *                     Other rows are only checked when they are read, and throw an IllegalStateException if malformed.
+     */
+    public MappedJsonCursor(final File file, final String _idAlias, final EasyQueryModel model) throws IOException {
+        this(map(file), new JsonRowDecoder(), _idAlias, model);
+    }
+
+    private MappedJsonCursor(final ByteBuffer buffer,
+                             final JsonRowDecoder decoder,
+                             final String _idAlias,
+                             final EasyQueryModel model) throws IOException {
+        this(buffer, indexRows(buffer), decoder, _idAlias, model);
+    }
+
+    private MappedJsonCursor(final ByteBuffer buffer,
+                             final long[] rowOffsets,
+                             final JsonRowDecoder decoder,
+                             final String _idAlias,
+                             final EasyQueryModel model) throws IOException {
+        super(getFirstRowColumns(buffer, rowOffsets, decoder), _idAlias, model);
+        mBuffer = buffer;
+        mRowOffsets = rowOffsets;
+        mDecoder = decoder;
+    }
+
+    @Override
+    public int getCount() {
+        return mRowOffsets.length;
+    }
+
+    private Object[] getParsedRow(final int position) {
+        if (position != mParsedPosition) {
+            try {
+                mParsedRow = parseRow(mBuffer, mRowOffsets, position, mDecoder);
+            } catch (final IOException e) {
+                // The file was fully scanned on creation, so this means that a row is not valid JSON
+                throw new IllegalStateException("Unable to parse row " + position, e);
+            }
+            mParsedPosition = position;
+            mRowParseCount++;
+        }
+
+        return mParsedRow;
+    }
+
+    /* package */ int getRowParseCount() {
+        return mRowParseCount;
+    }
+
+    @Override
+    protected Object optFieldValue(final String field) {
+        final Object[] row = getParsedRow(getPosition());
+        final Object value = JsonRowReader.optRowValue(row, mDecoder.getColumnIndex(field));
+
+        if (value == null) {
+            return MISSING;
+        } else if (value == JsonRowDecoder.NULL) {
+            return null;
+        } else {
+            return value;
+        }
+    }
+
+    private static FieldAccessor getFirstRowColumns(final ByteBuffer buffer,
+                                                    final long[] rowOffsets,
+                                                    final JsonRowDecoder decoder) throws IOException {
+        if (rowOffsets.length > 0) {
+            parseRow(buffer, rowOffsets, 0, decoder);
+        }
+
+        final String[] names = decoder.getColumnNames();
+        return new FieldAccessor() {
+            @Override
+            public int getFieldIndexByName(final String fieldName) {
+                // The decoder assigns indexes in the order it sees names, so the first row's names keep theirs
+                final int index = decoder.getColumnIndex(fieldName);
+                return index < names.length ? index : -1;
+            }
+
+            @Override
+            public String getFieldNameByIndex(final int index) {
+                return names[index];
+            }
+
+            @Override
+            public String[] getFieldNames() {
+                return names.clone();
+            }
+        };
+    }
+
+    /**
+     * Scans the buffer once and returns the offset at which each row starts.
+     * Rows are the objects at the top level of the file, or inside the top level array.
+     */
+    private static long[] indexRows(final ByteBuffer buffer) {
+        final int limit = buffer.limit();
+        long[] offsets = new long[INITIAL_INDEX_SIZE];
+        int count = 0;
+        int depth = 0;
+        int rowDepth = 0;
+        boolean first = true;
+        boolean inString = false;
+
+        for (int i = 0; i < limit; i++) {
+            final byte b = buffer.get(i);
+
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (b) {
+                case '"':
+                    inString = true;
+                    break;
+                case '[':
+                    if (first) {
+                        rowDepth = 1;
+                    }
+                    depth++;
+                    break;
+                case '{':
+                    if (depth == rowDepth) {
+                        if (count == offsets.length) {
+                            offsets = Arrays.copyOf(offsets, count * 2);
+                        }
+                        offsets[count++] = i;
+                    }
+                    depth++;
+                    break;
+                case ']':
+                case '}':
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+
+            // A UTF-8 byte order mark is negative as a byte, so it is skipped like whitespace
+            if (first && b > ' ') {
+                first = false;
+            }
+        }
+
+        return Arrays.copyOf(offsets, count);
+    }
+
+    private static ByteBuffer map(final File file) throws IOException {
+        final FileInputStream stream = new FileInputStream(file);
+        try {
+            final FileChannel channel = stream.getChannel();
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too big to map: " + file + " (" + size + " bytes)");
+            }
+
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static Object[] parseRow(final ByteBuffer buffer,
+                                     final long[] rowOffsets,
+                                     final int position,
+                                     final JsonRowDecoder decoder) throws IOException {
+        final int start = (int) rowOffsets[position];
+        final int end = position + 1 < rowOffsets.length ? (int) rowOffsets[position + 1] : buffer.limit();
+
+        final byte[] bytes = new byte[end - start];
+        final ByteBuffer slice = buffer.duplicate();
+        slice.position(start);
+        slice.get(bytes);
+
+        // The slice may end with the separator before the next row, which the reader never gets to
+        final JsonReader reader = new JsonReader(new StringReader(new String(bytes, UTF_8)));
+        try {
+            return decoder.readRow(reader);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import org.json.JSONObject;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The values of a single column of a {@link ColumnarJsonCursor}.
+ * <p>
+ * Null and missing values are tracked in bitmaps, so the typed arrays hold no boxed values.
+ * The size estimates assume a 32 bit VM with 4 byte references and 16 byte object and array headers.
+ */
+/* package */ abstract class MaterialisedColumn {
+    private static final int HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int BOXED_NUMBER_SIZE = 16;
+    private static final int STRING_SIZE = 40;
+
+    private final JsonColumnEncoding mEncoding;
+    private final BitSet mNulls;
+    private final BitSet mMissing;
+
+    private MaterialisedColumn(final JsonColumnEncoding encoding, final Object[] values) {
+        mEncoding = encoding;
+        mNulls = new BitSet(values.length);
+
+        BitSet missing = null;
+        for (int i = 0; i < values.length; i++) {
+            final Object value = values[i];
+            if (value == null || value == JSONObject.NULL) {
+                mNulls.set(i);
+            }
+
+            if (value == null) {
+                if (missing == null) {
+                    missing = new BitSet(values.length);
+                }
+                missing.set(i);
+            }
+        }
+        mMissing = missing;
+    }
+
+    /**
+     * Encodes the values of a column with the most compact encoding which keeps them unchanged.
+     *
+     * @param values the values, with null for missing fields and {@link JSONObject#NULL} for null ones
+     * @return the column
+     */
+    public static MaterialisedColumn encode(final Object[] values) {
+        boolean allInts = true;
+        boolean allIntegral = true;
+        boolean allDoubles = true;
+        boolean allStrings = true;
+        int valueCount = 0;
+
+        for (final Object value : values) {
+            if (value == null || value == JSONObject.NULL) {
+                continue;
+            }
+
+            valueCount++;
+            allInts &= value instanceof Integer;
+            allIntegral &= value instanceof Integer || value instanceof Long;
+            allDoubles &= value instanceof Double;
+            allStrings &= value instanceof String;
+        }
+
+        if (valueCount == 0) {
+            return new RawColumn(values);
+        } else if (allInts) {
+            return new IntColumn(values);
+        } else if (allIntegral) {
+            return new LongColumn(values);
+        } else if (allDoubles) {
+            return new DoubleColumn(values);
+        } else if (allStrings) {
+            return new DictionaryColumn(values);
+        } else {
+            return new RawColumn(values);
+        }
+    }
+
+    /**
+     * @param row the row
+     * @return the value, or null if it is null or missing
+     */
+    public abstract Object get(final int row);
+
+    public double getDouble(final int row) {
+        throw new UnsupportedOperationException(mEncoding + " columns do not store numbers");
+    }
+
+    public JsonColumnEncoding getEncoding() {
+        return mEncoding;
+    }
+
+    /**
+     * Returns an estimate of the memory used by this column, in bytes.
+     *
+     * @return the estimated size
+     */
+    public long getEstimatedSize() {
+        return getBitmapSize(mNulls) + (mMissing == null ? 0 : getBitmapSize(mMissing)) + getValuesSize();
+    }
+
+    public float getFloat(final int row) {
+        return (float) getDouble(row);
+    }
+
+    public int getInt(final int row) {
+        return (int) getLong(row);
+    }
+
+    public long getLong(final int row) {
+        return (long) getDouble(row);
+    }
+
+    public short getShort(final int row) {
+        return (short) getInt(row);
+    }
+
+    public String getString(final int row) {
+        throw new UnsupportedOperationException(mEncoding + " columns do not store strings");
+    }
+
+    protected abstract long getValuesSize();
+
+    /**
+     * @param row the row
+     * @return true if the value is null or missing
+     */
+    public boolean isNull(final int row) {
+        return mNulls.get(row);
+    }
+
+    public boolean isMissing(final int row) {
+        return mMissing != null && mMissing.get(row);
+    }
+
+    /**
+     * @return true if the getters for primitive numbers can be used on the rows which are not null
+     */
+    public boolean isNumeric() {
+        return false;
+    }
+
+    private static long getArraySize(final int length, final int elementSize) {
+        return HEADER_SIZE + (long) length * elementSize;
+    }
+
+    private static long getBitmapSize(final BitSet bitmap) {
+        return HEADER_SIZE + getArraySize(bitmap.size() / Long.SIZE, 8);
+    }
+
+    private static long getStringSize(final String value) {
+        return STRING_SIZE + getArraySize(value.length(), 2);
+    }
+
+    private static final class DictionaryColumn extends MaterialisedColumn {
+        private final int[] mCodes;
+        private final String[] mDictionary;
+
+        private DictionaryColumn(final Object[] values) {
+            super(JsonColumnEncoding.DICTIONARY, values);
+            mCodes = new int[values.length];
+
+            final Map<String, Integer> codes = new HashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof String) {
+                    final String value = (String) values[i];
+                    Integer code = codes.get(value);
+                    if (code == null) {
+                        code = codes.size();
+                        codes.put(value, code);
+                    }
+                    mCodes[i] = code;
+                }
+            }
+
+            mDictionary = new String[codes.size()];
+            for (final Map.Entry<String, Integer> entry : codes.entrySet()) {
+                mDictionary[entry.getValue()] = entry.getKey();
+            }
+        }
+
+        @Override
+        public Object get(final int row) {
+            return isNull(row) ? null : mDictionary[mCodes[row]];
+        }
+
+        @Override
+        public String getString(final int row) {
+            return mDictionary[mCodes[row]];
+        }
+
+        @Override
+        protected long getValuesSize() {
+            long size = getArraySize(mCodes.length, 4) + getArraySize(mDictionary.length, REFERENCE_SIZE);
+            for (final String value : mDictionary) {
+                size += getStringSize(value);
+            }
+            return size;
+        }
+    }
+
+    private static final class DoubleColumn extends MaterialisedColumn {
+        private final double[] mValues;
+
+        private DoubleColumn(final Object[] values) {
+            super(JsonColumnEncoding.DOUBLE, values);
+            mValues = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof Double) {
+                    mValues[i] = (Double) values[i];
+                }
+            }
+        }
+
+        @Override
+        public Object get(final int row) {
+            return isNull(row) ? null : mValues[row];
+        }
+
+        @Override
+        public double getDouble(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        public int getInt(final int row) {
+            // Not via getLong(), to saturate the same way Double.intValue() does
+            return (int) mValues[row];
+        }
+
+        @Override
+        protected long getValuesSize() {
+            return getArraySize(mValues.length, 8);
+        }
+
+        @Override
+        public boolean isNumeric() {
+            return true;
+        }
+    }
+
+    private static final class IntColumn extends MaterialisedColumn {
+        private final int[] mValues;
+
+        private IntColumn(final Object[] values) {
+            super(JsonColumnEncoding.INT, values);
+            mValues = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof Integer) {
+                    mValues[i] = (Integer) values[i];
+                }
+            }
+        }
+
+        @Override
+        public Object get(final int row) {
+            return isNull(row) ? null : mValues[row];
+        }
+
+        @Override
+        public double getDouble(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        public int getInt(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        public long getLong(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        protected long getValuesSize() {
+            return getArraySize(mValues.length, 4);
+        }
+
+        @Override
+        public boolean isNumeric() {
+            return true;
+        }
+    }
+
+    private static final class LongColumn extends MaterialisedColumn {
+        private final long[] mValues;
+
+        private LongColumn(final Object[] values) {
+            super(JsonColumnEncoding.LONG, values);
+            mValues = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof Number) {
+                    mValues[i] = ((Number) values[i]).longValue();
+                }
+            }
+        }
+
+        @Override
+        public Object get(final int row) {
+            return isNull(row) ? null : mValues[row];
+        }
+
+        @Override
+        public double getDouble(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        public float getFloat(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        public long getLong(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        protected long getValuesSize() {
+            return getArraySize(mValues.length, 8);
+        }
+
+        @Override
+        public boolean isNumeric() {
+            return true;
+        }
+    }
+
+    private static final class RawColumn extends MaterialisedColumn {
+        private final Object[] mValues;
+
+        private RawColumn(final Object[] values) {
+            super(JsonColumnEncoding.RAW, values);
+            mValues = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mValues[i] = values[i] == JSONObject.NULL ? null : values[i];
+            }
+        }
+
+        @Override
+        public Object get(final int row) {
+            return mValues[row];
+        }
+
+        @Override
+        protected long getValuesSize() {
+            // Nested objects and arrays are only counted as references
+            long size = getArraySize(mValues.length, REFERENCE_SIZE);
+            for (final Object value : mValues) {
+                if (value instanceof String) {
+                    size += getStringSize((String) value);
+                } else if (value instanceof Number) {
+                    size += BOXED_NUMBER_SIZE;
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+/**
+ * Defines which rows of a JSON array are looked at to find its columns.
+ * <p>
+ * The columns are the union of the fields of the inspected rows. Fields which only appear in other rows
+ * can still be read by name via the optXXX() methods, but are not part of getColumnNames().
+ */
+public final class SchemaInference {
+    /**
+     * Only the first row is inspected. This is the default, and the cheapest option.
+     */
+    public static final SchemaInference FIRST_ROW = new SchemaInference(1);
+
+    /**
+     * Every row is inspected. Large arrays are scanned in parallel.
+     */
+    public static final SchemaInference FULL_SCAN = new SchemaInference(Integer.MAX_VALUE);
+
+    private final int mRowLimit;
+
+    private SchemaInference(final int rowLimit) {
+        mRowLimit = rowLimit;
+    }
+
+    /**
+     * Returns an inference which inspects the first rowCount rows.
+     *
+     * @param rowCount the number of rows, at least 1
+     * @return the inference
+     */
+    public static SchemaInference firstRows(final int rowCount) {
+        if (rowCount < 1) {
+            throw new IllegalArgumentException("Row count must be at least 1, was " + rowCount);
+        }
+
+        return new SchemaInference(rowCount);
+    }
+
+    public int getRowLimit() {
+        return mRowLimit;
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaInference{" +
+                "mRowLimit=" + mRowLimit +
+                '}';
+    }
+}
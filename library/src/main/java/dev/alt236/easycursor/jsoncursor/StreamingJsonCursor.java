@@ -0,0 +1,94 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+import dev.alt236.easycursor.EasyQueryModel;
+
+/**
+ * A JSON cursor which is read straight from a stream, rather than from an already parsed JSONArray.
+ * <p>
+ * The payload (a JSON array of objects, or newline delimited JSON) is decoded row by row with a pull parser
+ * into a compact row store, so neither the raw text nor an org.json tree of it is ever held in memory.
+ * Unlike {@link EasyJsonCursor}, the columns are the union of the fields of all rows, not just of the first one.
+ * <p>
+ * Numbers are read as Integer, Long or Double, and nested objects and arrays as their JSON text.
+ * To scan a payload without keeping any rows, use a {@link JsonRowReader} directly.
+ */
+public class StreamingJsonCursor extends AbstractJsonCursor {
+    private final JsonRowStore mRowStore;
+
+    /**
+     * Reads the whole stream. The stream is not closed.
+     *
+     * @param stream   the UTF-8 encoded payload
+     * @param _idAlias the field to use when "_id" is requested, or null
+     * @throws IOException if the payload cannot be read or is not valid JSON
+     */
+    public StreamingJsonCursor(final InputStream stream, final String _idAlias) throws IOException {
+        this(stream, _idAlias, null);
+    }
+
+    public StreamingJsonCursor(final InputStream stream, final String _idAlias, final EasyQueryModel model) throws IOException {
+        this(JsonRowStore.read(new JsonRowReader(stream)), _idAlias, model);
+    }
+
+    /**
+     * Reads the whole reader. The reader is not closed.
+     *
+     * @param reader   the payload
+     * @param _idAlias the field to use when "_id" is requested, or null
+     * @throws IOException if the payload cannot be read or is not valid JSON
+     */
+    public StreamingJsonCursor(final Reader reader, final String _idAlias) throws IOException {
+        this(reader, _idAlias, null);
+    }
+
+    public StreamingJsonCursor(final Reader reader, final String _idAlias, final EasyQueryModel model) throws IOException {
+        this(JsonRowStore.read(new JsonRowReader(reader)), _idAlias, model);
+    }
+
+    private StreamingJsonCursor(final JsonRowStore rowStore, final String _idAlias, final EasyQueryModel model) {
+        super(rowStore, _idAlias, model);
+        mRowStore = rowStore;
+    }
+
+    @Override
+    public int getCount() {
+        return mRowStore.getCount();
+    }
+
+    @Override
+    protected Object optFieldValue(final String field) {
+        final Object[] row = mRowStore.getRow(getPosition());
+        final Object value = JsonRowReader.optRowValue(row, mRowStore.getFieldIndexByName(field));
+
+        if (value == null) {
+            return MISSING;
+        } else if (value == JsonRowDecoder.NULL) {
+            return null;
+        } else {
+            return value;
+        }
+    }
+}
@@ -22,17 +22,28 @@ package dev.alt236.easycursor.objectcursor;
 import android.database.AbstractCursor;
 import android.util.Log;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import dev.alt236.easycursor.EasyCursor;
 import dev.alt236.easycursor.EasyQueryModel;
+import dev.alt236.easycursor.RowIndex;
+import dev.alt236.easycursor.RowPredicate;
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
 import dev.alt236.easycursor.exceptions.ConversionErrorException;
+import dev.alt236.easycursor.internal.ColumnNameIndex;
+import dev.alt236.easycursor.internal.RowIndexes;
+import dev.alt236.easycursor.internal.RowOrder;
+import dev.alt236.easycursor.internal.conversion.ConversionFailureCounter;
+import dev.alt236.easycursor.internal.conversion.ConversionPlans;
+import dev.alt236.easycursor.internal.conversion.ConversionStatus;
 import dev.alt236.easycursor.internal.conversion.ObjectConverter;
 import dev.alt236.easycursor.internal.conversion.ObjectType;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetterFactory;
 
 public class EasyObjectCursor<T> extends AbstractCursor implements EasyCursor {
     public static final String DEFAULT_STRING = null;
@@ -46,35 +57,135 @@ public class EasyObjectCursor<T> extends AbstractCursor implements EasyCursor {
 
     private final ObjectConverter mObjectConverter;
     private final EasyQueryModel mQueryModel;
-    private final List<T> mObjectList;
+    private final RowSource<T> mRows;
+    private final Class<T> mRowClass;
     private final String TAG = this.getClass().getName();
     private final String m_IdAlias;
-    private final ObjectFieldAccessor<T> mFieldAccessor;
+    private final int m_IdAliasIndex;
+    private final TypedFieldAccessor<T> mFieldAccessor;
+    private final ColumnNameIndex mColumnNameIndex;
+    private final ConversionFailureCounter mConversionFailures;
+    private final ConversionPlans mConversionPlans;
+    private final TypeConverterRegistry mTypeConverters;
+    private final RowIndexes mIndexes = new RowIndexes();
     private boolean mDebugEnabled;
+    private Object[] mRowCache;
+    private int[] mRowCacheGenerations;
+    private int mRowCacheGeneration;
+    private int mRowCachePosition = -1;
 
     public EasyObjectCursor(final Class<T> clazz, final List<T> objectList, final String _idAlias) {
         this(clazz, objectList, _idAlias, null);
     }
 
     public EasyObjectCursor(final Class<T> clazz, final List<T> objectList, final String _idAlias, final EasyQueryModel model) {
+        this(clazz, RowSources.of(objectList), _idAlias, model);
+    }
+
+    public EasyObjectCursor(final Class<T> clazz, final RowSource<T> rows, final String _idAlias) {
+        this(clazz, rows, _idAlias, null);
+    }
+
+    /**
+     * Creates a cursor over the rows of a {@link RowSource}. See {@link RowSources} for sources over arrays and lists.
+     *
+     * @param clazz    the class of the objects
+     * @param rows     the rows
+     * @param _idAlias the column to use when "_id" is requested, or null
+     * @param model    the query model, or null
+     */
+    public EasyObjectCursor(final Class<T> clazz, final RowSource<T> rows, final String _idAlias, final EasyQueryModel model) {
+        this(clazz, rows, _idAlias, model, FieldAccessorCache.get(clazz), new TypeConverterRegistry());
+    }
+
+    /**
+     * Creates a new cursor which binds its column getters using the given factory.
+     * <p>
+     * The factory is called once per column at construction time. Getters extending one of the
+     * typed {@link ColumnGetter} subclasses are read by the typed getters of this cursor without boxing.
+     * Any accessor generated for an {@link dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow}
+     * class is ignored when a factory is passed explicitly.
+     *
+     * @param clazz         the class of the objects in the list
+     * @param objectList    the objects backing this cursor
+     * @param _idAlias      the column to use when "_id" is requested, or null
+     * @param model         the query model, or null
+     * @param getterFactory the factory which binds the getters of clazz
+     */
+    public EasyObjectCursor(final Class<T> clazz,
+                            final List<T> objectList,
+                            final String _idAlias,
+                            final EasyQueryModel model,
+                            final ColumnGetterFactory getterFactory) {
+        this(clazz, RowSources.of(objectList), _idAlias, model, new ObjectFieldAccessor<>(clazz, getterFactory), new TypeConverterRegistry());
+    }
+
+    private EasyObjectCursor(final Class<T> clazz,
+                             final RowSource<T> rows,
+                             final String _idAlias,
+                             final EasyQueryModel model,
+                             final TypedFieldAccessor<T> fieldAccessor,
+                             final TypeConverterRegistry typeConverters) {
         mObjectConverter = new ObjectConverter();
         mQueryModel = model;
-        mObjectList = objectList;
+        mRows = rows;
+        mRowClass = clazz;
         m_IdAlias = _idAlias;
-        mFieldAccessor = new ObjectFieldAccessor<>(clazz);
+        mFieldAccessor = fieldAccessor;
+
+        final String[] columnNames = fieldAccessor.getFieldNames();
+        mColumnNameIndex = new ColumnNameIndex(columnNames);
+        m_IdAliasIndex = _idAlias == null ? -1 : mColumnNameIndex.indexOf(_idAlias);
+        mConversionFailures = new ConversionFailureCounter(columnNames.length);
+        mConversionPlans = new ConversionPlans(columnNames.length);
+        mTypeConverters = typeConverters;
+    }
+
+    /**
+     * Creates a cursor over objects which are loaded a page at a time, keeping up to
+     * {@link PagedObjectList#DEFAULT_MAX_RESIDENT_PAGES} pages in memory.
+     * Use a {@link PagedObjectList} directly to change that, or to prefetch pages in the background.
+     *
+     * @param clazz    the class of the objects
+     * @param source   the source of the pages
+     * @param _idAlias the column to use when "_id" is requested, or null
+     */
+    public EasyObjectCursor(final Class<T> clazz,
+                            final PagedObjectSource<T> source,
+                            final String _idAlias) {
+        this(clazz, RowSources.of(new PagedObjectList<>(source)), _idAlias, null);
     }
 
     public EasyObjectCursor(final Class<T> clazz,
                             final T[] objectArray,
                             final String _idAlias) {
-        this(clazz, new ArrayList<>(Arrays.asList(objectArray)), _idAlias, null);
+        this(clazz, RowSources.of(objectArray), _idAlias, null);
     }
 
     public EasyObjectCursor(final Class<T> clazz,
                             final T[] objectArray,
                             final String _idAlias,
                             final EasyQueryModel model) {
-        this(clazz, new ArrayList<>(Arrays.asList(objectArray)), _idAlias, model);
+        this(clazz, RowSources.of(objectArray), _idAlias, model);
+    }
+
+    /**
+     * Attaches an index which was built from another cursor over the same rows, for example
+     * a cursor which was created again for the same list. See {@link #buildIndex(String, RowIndex.Type)}.
+     *
+     * @param index the index
+     * @throws IllegalArgumentException if this cursor does not have the column of the index,
+     *                                  or does not have the same number of rows
+     */
+    public void addIndex(final RowIndex index) {
+        if (findColumn(index.getColumnName()) == -1) {
+            throw new IllegalArgumentException("Could not find getter for field '" + index.getColumnName() + "'");
+        }
+        if (index.getRowCount() != getCount()) {
+            throw new IllegalArgumentException("The index on '" + index.getColumnName() + "' was built over "
+                    + index.getRowCount() + " rows, but this cursor has " + getCount());
+        }
+        mIndexes.add(index);
     }
 
     private String applyAlias(final String columnName) {
@@ -87,41 +198,150 @@ public class EasyObjectCursor<T> extends AbstractCursor implements EasyCursor {
         return columnName;
     }
 
-    @Override
-    public byte[] getBlob(final String fieldName) {
-        final Method method = getGetterForFieldOrThrow(applyAlias(fieldName));
-        final Object result = internalGet(ObjectType.BYTE_ARRAY, method);
-        if (result == null) {
-            return null;
+    /**
+     * Builds an index on a column of integral numbers and attaches it to this cursor,
+     * so that {@link #moveToKey(String, long)} and {@link #rangeScan(String, long, long)} can use it.
+     * <p>
+     * Building reads the column once per row, without moving the cursor, so it can be done on a background thread
+     * while the cursor is in use. The index can then be attached to later cursors over the same rows
+     * with {@link #addIndex(RowIndex)}.
+     *
+     * @param fieldName the column
+     * @param type      the type of index
+     * @return the index
+     * @throws IllegalArgumentException if the column does not exist, or has values which are not integral numbers
+     */
+    public RowIndex buildIndex(final String fieldName, final RowIndex.Type type) {
+        final int column = getColumnForFieldOrThrow(fieldName);
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        final ObjectType primitiveType = getter == null ? null : getter.getPrimitiveType();
+        final String columnName = getColumnName(column);
+        final int count = getCount();
+        final RowIndex index;
+
+        if (isIntegral(primitiveType)) {
+            final long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = getter.getLong(mRows.getRow(i));
+            }
+            index = RowIndex.create(columnName, type, keys, null);
+        } else {
+            final Object[] values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = runGetter(getter, mRows.getRow(i));
+            }
+            index = RowIndexes.create(columnName, type, values);
+        }
+
+        mIndexes.add(index);
+        return index;
+    }
+
+    private EasyObjectCursor<T> createView(final int[] rows) {
+        final EasyObjectCursor<T> view = new EasyObjectCursor<>(
+                mRowClass,
+                RowSources.permute(mRows, rows),
+                m_IdAlias,
+                mQueryModel,
+                mFieldAccessor,
+                mTypeConverters);
+
+        view.setDebugEnabled(mDebugEnabled);
+        return view;
+    }
+
+    /**
+     * Returns a view of the rows of this cursor which the predicate accepts, in the same order.
+     * The view shares the objects, getters and type converters of this cursor.
+     * Which rows it has is decided once, when it is created.
+     *
+     * @param predicate the predicate
+     * @return the view, positioned before the first row
+     */
+    public EasyObjectCursor<T> filtered(final RowPredicate<? super T> predicate) {
+        final int count = getCount();
+        final int[] rows = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (predicate.accept(mRows.getRow(i))) {
+                rows[size++] = i;
+            }
+        }
+        return createView(Arrays.copyOf(rows, size));
+    }
+
+    private int findColumn(final String columnName) {
+        if (m_IdAlias != null && _ID.equals(columnName)) {
+            return m_IdAliasIndex;
         } else {
-            return (byte[]) result;
+            return mColumnNameIndex.indexOf(columnName);
+        }
+    }
+
+    @Override
+    public byte[] getBlob(final int column) {
+        return getBlobInternal(column);
+    }
+
+    /**
+     * Copies the byte[] representation of a column into a caller owned buffer, so that
+     * blob heavy rows can be read without allocating a new array per cell.
+     * Primitive values are encoded directly into the buffer.
+     *
+     * @param column the column index
+     * @param reuse  the buffer to copy into. If it is too small, only the first reuse.length bytes are copied.
+     * @return the full length of the blob, or -1 if the value is null or cannot be converted
+     */
+    public int getBlob(final int column, final byte[] reuse) {
+        final Object value = readValue(mFieldAccessor.getGetter(column), column);
+        try {
+            return mObjectConverter.toByteArray(value, reuse);
+        } catch (final ConversionErrorException e) {
+            onConversionFailure(column, ObjectType.BYTE_ARRAY);
+            return -1;
         }
     }
 
+    @Override
+    public byte[] getBlob(final String fieldName) {
+        return getBlobInternal(getColumnForFieldOrThrow(fieldName));
+    }
+
+    public int getBlob(final String fieldName, final byte[] reuse) {
+        return getBlob(getColumnForFieldOrThrow(fieldName), reuse);
+    }
+
+    private byte[] getBlobInternal(final int column) {
+        return (byte[]) internalGet(ObjectType.BYTE_ARRAY, column);
+    }
+
     @Override
     public boolean getBoolean(final String fieldName) {
-        final Method method = getGetterForFieldOrThrow(applyAlias(fieldName));
-        final Object result = internalGet(ObjectType.BOOLEAN, method);
-        if (result == null) {
-            return DEFAULT_BOOLEAN;
-        } else {
-            return (boolean) result;
+        return getBooleanInternal(getColumnForFieldOrThrow(fieldName));
+    }
+
+    private boolean getBooleanInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter.getPrimitiveType() == ObjectType.BOOLEAN) {
+            return getter.getBoolean(getItem(getPosition()));
         }
+
+        final boolean result = mObjectConverter.tryToBoolean(readValue(getter, column), DEFAULT_BOOLEAN);
+        onConversion(column, ObjectType.BOOLEAN);
+        return result;
     }
 
     @Override
     public int getColumnIndex(final String columnName) {
-        final String column = applyAlias(columnName);
-        return mFieldAccessor.getFieldIndexByName(column);
+        return findColumn(columnName);
     }
 
     @Override
     public int getColumnIndexOrThrow(final String columnName) {
-        final String column = applyAlias(columnName);
-        final int index = mFieldAccessor.getFieldIndexByName(column);
+        final int index = findColumn(columnName);
 
         if (index == -1) {
-            throw new IllegalArgumentException("There is no column named '" + column + "'");
+            throw new IllegalArgumentException("There is no column named '" + applyAlias(columnName) + "'");
         } else {
             return index;
         }
@@ -137,114 +357,158 @@ public class EasyObjectCursor<T> extends AbstractCursor implements EasyCursor {
         return mFieldAccessor.getFieldNames();
     }
 
+    /**
+     * Returns how many values of a column could not be converted to the type requested from this cursor,
+     * since the cursor was created or the counts were last reset. Null values are not counted.
+     *
+     * @param column the column index
+     * @return the failure count
+     */
+    public int getConversionFailureCount(final int column) {
+        return mConversionFailures.get(column);
+    }
+
+    public int getConversionFailureCount(final String columnName) {
+        return mConversionFailures.get(findColumn(columnName));
+    }
+
     @Override
     public int getCount() {
-        return mObjectList.size();
+        return mRows.getCount();
     }
 
     @Override
     public double getDouble(final int column) {
-        return getDoubleIntenal(mFieldAccessor.getMethod(column));
+        return getDoubleIntenal(column);
     }
 
     @Override
     public double getDouble(final String fieldName) {
-        return getDoubleIntenal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getDoubleIntenal(getColumnForFieldOrThrow(fieldName));
     }
 
-    private double getDoubleIntenal(final Method method) {
-        final Object result = internalGet(ObjectType.DOUBLE, method);
-        if (result == null) {
-            return DEFAULT_DOUBLE;
-        } else {
-            return (double) result;
+    private double getDoubleIntenal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter.isPrimitiveNumber()) {
+            return getter.getDouble(getItem(getPosition()));
         }
+
+        final double result = mObjectConverter.tryToDouble(readValue(getter, column), DEFAULT_DOUBLE);
+        onConversion(column, ObjectType.DOUBLE);
+        return result;
     }
 
     @Override
     public float getFloat(final int column) {
-        return getFloatInternal(mFieldAccessor.getMethod(column));
+        return getFloatInternal(column);
     }
 
     @Override
     public float getFloat(final String fieldName) {
-        return getFloatInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getFloatInternal(getColumnForFieldOrThrow(fieldName));
     }
 
-    private float getFloatInternal(final Method method) {
-        final Object result = internalGet(ObjectType.FLOAT, method);
-        if (result == null) {
-            return DEFAULT_FLOAT;
-        } else {
-            return (float) result;
+    private float getFloatInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter.isPrimitiveNumber()) {
+            return getter.getFloat(getItem(getPosition()));
         }
+
+        final float result = mObjectConverter.tryToFloat(readValue(getter, column), DEFAULT_FLOAT);
+        onConversion(column, ObjectType.FLOAT);
+        return result;
     }
 
-    private Method getGetterForFieldOrThrow(final String fieldName) {
-        final Method method = mFieldAccessor.getGetterForField(applyAlias(fieldName));
-        if (method == null) {
+    private int getColumnForFieldOrThrow(final String fieldName) {
+        final int column = findColumn(fieldName);
+        if (column == -1) {
             throw new IllegalArgumentException("Could not find getter for field '" + applyAlias(fieldName) + "'");
         } else {
-            return method;
+            return column;
+        }
+    }
+
+    private int getColumnForOpt(final String fieldName, final Object type) {
+        final int column = findColumn(fieldName);
+        if (column == -1) {
+            final String message = String.format(
+                    "No getter for '%s'. Type Requested: %s",
+                    fieldName,
+                    type);
+            Log.w(TAG, message);
         }
+        return column;
     }
 
     @Override
     public int getInt(final int column) {
-        return getIntInternal(mFieldAccessor.getMethod(column));
+        return getIntInternal(column);
     }
 
     @Override
     public int getInt(final String fieldName) {
-        return getIntInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getIntInternal(getColumnForFieldOrThrow(fieldName));
     }
 
-    private int getIntInternal(final Method method) {
-        final Object result = internalGet(ObjectType.INTEGER, method);
-        if (result == null) {
-            return DEFAULT_INT;
-        } else {
-            return (int) result;
+    private int getIntInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter.isPrimitiveNumber()) {
+            return getter.getInt(getItem(getPosition()));
         }
+
+        final int result = mObjectConverter.tryToInt(readValue(getter, column), DEFAULT_INT);
+        onConversion(column, ObjectType.INTEGER);
+        return result;
     }
 
     public T getItem(final int position) {
-        return mObjectList.get(position);
+        return mRows.getRow(position);
     }
 
     @Override
     public long getLong(final int column) {
-        return getLongInternal(mFieldAccessor.getMethod(column));
+        return getLongInternal(column);
     }
 
     @Override
     public long getLong(final String fieldName) {
-        return getLongInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getLongInternal(getColumnForFieldOrThrow(fieldName));
     }
 
-    private long getLongInternal(final Method method) {
-        final Object result = internalGet(ObjectType.LONG, method);
-        if (result == null) {
-            return DEFAULT_LONG;
-        } else {
-            return (long) result;
+    private long getLongInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter.isPrimitiveNumber()) {
+            return getter.getLong(getItem(getPosition()));
         }
+
+        final long result = mObjectConverter.tryToLong(readValue(getter, column), DEFAULT_LONG);
+        onConversion(column, ObjectType.LONG);
+        return result;
+    }
+
+    /* package */ TypedFieldAccessor<T> getFieldAccessor() {
+        return mFieldAccessor;
     }
 
     /* package */ List<Method> getMethods() {
-        return mFieldAccessor.getMethodList();
+        if (mFieldAccessor instanceof ObjectFieldAccessor) {
+            return ((ObjectFieldAccessor<T>) mFieldAccessor).getMethodList();
+        } else {
+            return Collections.emptyList();
+        }
     }
 
     public Object getObject(final int column) {
-        return getObjectInternal(mFieldAccessor.getMethod(column));
+        return getObjectInternal(column);
     }
 
     public Object getObject(final String fieldName) {
-        return getObjectInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getObjectInternal(getColumnForFieldOrThrow(fieldName));
     }
 
-    private Object getObjectInternal(final Method method) {
-        return runGetter(method, getItem(getPosition()));
+    private Object getObjectInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        return readValue(getter, column);
     }
 
     @Override
@@ -254,76 +518,128 @@ public class EasyObjectCursor<T> extends AbstractCursor implements EasyCursor {
 
     @Override
     public short getShort(final int column) {
-        return getShortInternal(mFieldAccessor.getMethod(column));
+        return getShortInternal(column);
     }
 
     public short getShort(final String fieldName) {
-        return getShortInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getShortInternal(getColumnForFieldOrThrow(fieldName));
     }
 
-    private short getShortInternal(final Method method) {
-        final Object result = internalGet(ObjectType.SHORT, method);
-        if (result == null) {
-            return DEFAULT_SHORT;
+    private short getShortInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter.isPrimitiveNumber()) {
+            return getter.getShort(getItem(getPosition()));
+        }
+
+        final short result = mObjectConverter.tryToShort(readValue(getter, column), DEFAULT_SHORT);
+        onConversion(column, ObjectType.SHORT);
+        return result;
+    }
+
+    private RowOrder.RowComparator getSortKeys(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        final ObjectType type = getter == null ? null : getter.getPrimitiveType();
+        final int count = getCount();
+
+        if (type == ObjectType.DOUBLE || type == ObjectType.FLOAT) {
+            final double[] keys = new double[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = getter.getDouble(mRows.getRow(i));
+            }
+            return RowOrder.onDoubles(keys, null);
+        } else if (type == ObjectType.INTEGER || type == ObjectType.LONG || type == ObjectType.SHORT) {
+            final long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = getter.getLong(mRows.getRow(i));
+            }
+            return RowOrder.onLongs(keys, null);
+        } else if (type == ObjectType.BOOLEAN) {
+            final long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = getter.getBoolean(mRows.getRow(i)) ? 1 : 0;
+            }
+            return RowOrder.onLongs(keys, null);
         } else {
-            return (short) result;
+            final Object[] values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = runGetter(getter, mRows.getRow(i));
+            }
+            return RowOrder.onValues(values);
         }
     }
 
     @Override
     public String getString(final int column) {
-        return getStringInternal(mFieldAccessor.getMethod(column));
+        return getStringInternal(column);
     }
 
     @Override
     public String getString(final String fieldName) {
-        return getStringInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return getStringInternal(getColumnForFieldOrThrow(fieldName));
+    }
+
+    private String getStringInternal(final int column) {
+        return (String) internalGet(ObjectType.STRING, column);
+    }
+
+    @Override
+    public TypeConverterRegistry getTypeConverters() {
+        return mTypeConverters;
+    }
+
+    public <R> R getValue(final int column, final Class<R> type) {
+        return getValueInternal(column, type);
+    }
+
+    @Override
+    public <R> R getValue(final String fieldName, final Class<R> type) {
+        return getValueInternal(getColumnForFieldOrThrow(fieldName), type);
     }
 
-    private String getStringInternal(final Method method) {
-        return (String) internalGet(ObjectType.STRING, method);
+    private <R> R getValueInternal(final int column, final Class<R> type) {
+        final Object value = readValue(mFieldAccessor.getGetter(column), column);
+        return mConversionPlans.convert(mTypeConverters, column, value, type);
     }
 
-    @SuppressWarnings("unchecked")
-    private Object internalGet(final ObjectType type, final Method method) {
+    private Object internalGet(final ObjectType type, final int column) {
+        final Object value = readValue(mFieldAccessor.getGetter(column), column);
         try {
-            return mObjectConverter.toType(type, runGetter(method, getItem(getPosition())));
+            return mObjectConverter.toType(type, value);
         } catch (final ConversionErrorException e) {
+            if (value != null) {
+                onConversionFailure(column, type);
+            }
             return null;
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <R> R internalOpt(final ObjectType type,
-                              final String fieldName,
-                              final R getterMissingFallback,
-                              final R conversionErrorFallback) {
+    private void onConversion(final int column, final ObjectType type) {
+        if (mObjectConverter.getLastStatus() == ConversionStatus.FAILED) {
+            onConversionFailure(column, type);
+        }
+    }
 
-        final Method method = mFieldAccessor.getGetterForField(applyAlias(fieldName));
+    private void onConversionFailure(final int column, final Object type) {
+        mConversionFailures.increment(column);
 
-        if (method == null) {
+        if (mDebugEnabled) {
             final String message = String.format(
-                    "No getter for '%s'. Type Requested: %s",
-                    fieldName,
+                    "Failed to convert field '%s' at %d/%d. Type Requested: %s",
+                    getColumnName(column),
+                    getPosition(),
+                    getCount(),
                     type);
-            Log.w(TAG, message + type);
-            return getterMissingFallback;
-        } else {
-            try {
-                return (R) mObjectConverter.toType(type, runGetter(method, getItem(getPosition())));
-            } catch (final ConversionErrorException e) {
-                if (mDebugEnabled) {
-                    final String message = String.format(
-                            "Failed to convert field '%s' at %d/%d. Type Requested: %s",
-                            fieldName,
-                            getPosition(),
-                            getCount(),
-                            type);
-                    Log.w(TAG, message, e);
-                    e.printStackTrace();
-                }
-                return conversionErrorFallback;
-            }
+            Log.w(TAG, message);
+        }
+    }
+
+    private void invalidateRowCache(final int position) {
+        mRowCachePosition = position;
+        mRowCacheGeneration++;
+        if (mRowCacheGeneration == 0) {
+            // Wrapped around, so a stale stamp could look current again
+            Arrays.fill(mRowCacheGenerations, 0);
+            mRowCacheGeneration = 1;
         }
     }
 
@@ -331,132 +647,423 @@ public class EasyObjectCursor<T> extends AbstractCursor implements EasyCursor {
         return mDebugEnabled;
     }
 
+    public boolean isRowCacheEnabled() {
+        return mRowCache != null;
+    }
+
     public void setDebugEnabled(final boolean enabled) {
         mDebugEnabled = enabled;
     }
 
+    /**
+     * Enables or disables the row cache. It is disabled by default.
+     * <p>
+     * When enabled, the value of each column is read from the current object at most once per position, the first
+     * time it is needed, and reused by later reads of the same column until the cursor moves. This helps when getters
+     * are expensive and the same column is read more than once, for example by isNull() and then getString().
+     * Getters which produce primitives are still called directly, so that reading them never boxes.
+     * <p>
+     * The cache assumes that the current object does not change while the cursor stays on it.
+     *
+     * @param enabled whether to cache the values of the current row
+     */
+    public void setRowCacheEnabled(final boolean enabled) {
+        if (!enabled) {
+            mRowCache = null;
+            mRowCacheGenerations = null;
+        } else if (mRowCache == null) {
+            final int columnCount = mFieldAccessor.getFieldNames().length;
+            mRowCache = new Object[columnCount];
+            mRowCacheGenerations = new int[columnCount];
+            mRowCacheGeneration = 1;
+            mRowCachePosition = -1;
+        }
+    }
+
     @Override
     public boolean isNull(final int column) {
-        return isNullInternal(mFieldAccessor.getMethod(column));
+        return isNullInternal(column);
     }
 
     @Override
     public boolean isNull(final String fieldName) {
-        return isNullInternal(getGetterForFieldOrThrow(applyAlias(fieldName)));
+        return isNullInternal(getColumnForFieldOrThrow(fieldName));
+    }
+
+    private boolean isNullInternal(final int column) {
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        if (getter == null) {
+            return true;
+        } else if (mRowCache != null && getter.getPrimitiveType() == null) {
+            return readValue(getter, column) == null;
+        } else {
+            return getter.isNull(getItem(getPosition()));
+        }
     }
 
-    private boolean isNullInternal(final Method method) {
-        return (runGetter(method, getItem(getPosition())) == null);
+    private static boolean isIntegral(final ObjectType type) {
+        return type == ObjectType.INTEGER || type == ObjectType.LONG || type == ObjectType.SHORT;
+    }
+
+    /**
+     * Moves to the first row whose value in a column is a key.
+     * <p>
+     * This is a lookup if an index was built or added for the column, and a scan of every row otherwise.
+     *
+     * @param fieldName the column
+     * @param key       the value to look for
+     * @return true if a row was found. If not, the position of the cursor does not change.
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public boolean moveToKey(final String fieldName, final long key) {
+        final int column = getColumnForFieldOrThrow(fieldName);
+        final RowIndex index = mIndexes.getForKey(getColumnName(column));
+
+        if (index != null) {
+            final int row = index.getRow(key);
+            return row != -1 && moveToPosition(row);
+        }
+
+        final ColumnGetter<T> getter = mFieldAccessor.getGetter(column);
+        final boolean primitive = getter != null && isIntegral(getter.getPrimitiveType());
+        final int count = getCount();
+        for (int i = 0; i < count; i++) {
+            final T item = mRows.getRow(i);
+            if (primitive) {
+                if (getter.getLong(item) == key) {
+                    return moveToPosition(i);
+                }
+            } else {
+                final Object value = runGetter(getter, item);
+                if (RowIndexes.isKey(value) && ((Number) value).longValue() == key) {
+                    return moveToPosition(i);
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean onMove(final int oldPosition, final int newPosition) {
+        if (mRowCache != null) {
+            invalidateRowCache(newPosition);
+        }
+        return true;
     }
 
     @Override
     public boolean optBoolean(final String fieldName) {
-        return internalOpt(ObjectType.BOOLEAN, fieldName, DEFAULT_BOOLEAN, DEFAULT_BOOLEAN);
+        return optBoolean(fieldName, DEFAULT_BOOLEAN);
     }
 
     @Override
     public boolean optBoolean(final String fieldName, final boolean fallback) {
-        return internalOpt(ObjectType.BOOLEAN, fieldName, fallback, DEFAULT_BOOLEAN);
+        final int column = getColumnForOpt(fieldName, ObjectType.BOOLEAN);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getBooleanInternal(column);
+        }
     }
 
     @Override
     public Boolean optBooleanAsWrapperType(final String fieldName) {
-        return internalOpt(ObjectType.BOOLEAN, fieldName, null, DEFAULT_BOOLEAN);
+        final int column = getColumnForOpt(fieldName, ObjectType.BOOLEAN);
+        if (column == -1) {
+            return null;
+        } else {
+            return getBooleanInternal(column);
+        }
     }
 
     @Override
     public double optDouble(final String fieldName) {
-        return internalOpt(ObjectType.DOUBLE, fieldName, DEFAULT_DOUBLE, DEFAULT_DOUBLE);
+        return optDouble(fieldName, DEFAULT_DOUBLE);
     }
 
     @Override
     public double optDouble(final String fieldName, final double fallback) {
-        return internalOpt(ObjectType.DOUBLE, fieldName, fallback, DEFAULT_DOUBLE);
+        final int column = getColumnForOpt(fieldName, ObjectType.DOUBLE);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getDoubleIntenal(column);
+        }
     }
 
     @Override
     public Double optDoubleAsWrapperType(final String fieldName) {
-        return internalOpt(ObjectType.DOUBLE, fieldName, null, DEFAULT_DOUBLE);
+        final int column = getColumnForOpt(fieldName, ObjectType.DOUBLE);
+        if (column == -1) {
+            return null;
+        } else {
+            return getDoubleIntenal(column);
+        }
     }
 
     @Override
     public float optFloat(final String fieldName) {
-        return internalOpt(ObjectType.FLOAT, fieldName, DEFAULT_FLOAT, DEFAULT_FLOAT);
+        return optFloat(fieldName, DEFAULT_FLOAT);
     }
 
     @Override
     public float optFloat(final String fieldName, final float fallback) {
-        return internalOpt(ObjectType.FLOAT, fieldName, fallback, DEFAULT_FLOAT);
+        final int column = getColumnForOpt(fieldName, ObjectType.FLOAT);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getFloatInternal(column);
+        }
     }
 
     @Override
     public Float optFloatAsWrapperType(final String fieldName) {
-        return internalOpt(ObjectType.FLOAT, fieldName, null, DEFAULT_FLOAT);
+        final int column = getColumnForOpt(fieldName, ObjectType.FLOAT);
+        if (column == -1) {
+            return null;
+        } else {
+            return getFloatInternal(column);
+        }
     }
 
     @Override
     public int optInt(final String fieldName) {
-        return internalOpt(ObjectType.INTEGER, fieldName, DEFAULT_INT, DEFAULT_INT);
+        return optInt(fieldName, DEFAULT_INT);
     }
 
     @Override
     public int optInt(final String fieldName, final int fallback) {
-        return internalOpt(ObjectType.INTEGER, fieldName, fallback, DEFAULT_INT);
+        final int column = getColumnForOpt(fieldName, ObjectType.INTEGER);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getIntInternal(column);
+        }
     }
 
     @Override
     public Integer optIntAsWrapperType(final String fieldName) {
-        return internalOpt(ObjectType.INTEGER, fieldName, null, DEFAULT_INT);
+        final int column = getColumnForOpt(fieldName, ObjectType.INTEGER);
+        if (column == -1) {
+            return null;
+        } else {
+            return getIntInternal(column);
+        }
     }
 
     @Override
     public long optLong(final String fieldName) {
-        return internalOpt(ObjectType.LONG, fieldName, DEFAULT_LONG, DEFAULT_LONG);
+        return optLong(fieldName, DEFAULT_LONG);
     }
 
     @Override
     public long optLong(final String fieldName, final long fallback) {
-        return internalOpt(ObjectType.LONG, fieldName, fallback, DEFAULT_LONG);
+        final int column = getColumnForOpt(fieldName, ObjectType.LONG);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getLongInternal(column);
+        }
     }
 
     @Override
     public Long optLongAsWrapperType(final String fieldName) {
-        return internalOpt(ObjectType.LONG, fieldName, null, DEFAULT_LONG);
+        final int column = getColumnForOpt(fieldName, ObjectType.LONG);
+        if (column == -1) {
+            return null;
+        } else {
+            return getLongInternal(column);
+        }
     }
 
     public short optShort(final String fieldName) {
-        return internalOpt(ObjectType.SHORT, fieldName, DEFAULT_SHORT, DEFAULT_SHORT);
+        return optShort(fieldName, DEFAULT_SHORT);
     }
 
     public short optShort(final String fieldName, final short fallback) {
-        return internalOpt(ObjectType.SHORT, fieldName, fallback, DEFAULT_SHORT);
+        final int column = getColumnForOpt(fieldName, ObjectType.SHORT);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getShortInternal(column);
+        }
     }
 
     public Short optShortAsWrapperType(final String fieldName) {
-        return internalOpt(ObjectType.SHORT, fieldName, null, DEFAULT_SHORT);
+        final int column = getColumnForOpt(fieldName, ObjectType.SHORT);
+        if (column == -1) {
+            return null;
+        } else {
+            return getShortInternal(column);
+        }
     }
 
     @Override
     public String optString(final String fieldName) {
-        return internalOpt(ObjectType.STRING, fieldName, DEFAULT_STRING, DEFAULT_STRING);
+        return optString(fieldName, DEFAULT_STRING);
     }
 
     @Override
     public String optString(final String fieldName, final String fallback) {
-        return internalOpt(ObjectType.STRING, fieldName, fallback, DEFAULT_STRING);
+        final int column = getColumnForOpt(fieldName, ObjectType.STRING);
+        if (column == -1) {
+            return fallback;
+        } else {
+            return getStringInternal(column);
+        }
     }
 
-    private Object runGetter(final Method method, final T object) {
-        if (method != null) {
-            try {
-                return method.invoke(object);
-            } catch (final IllegalAccessException e) {
-                Log.w(TAG, "Could not determine method: " + method.getName());
-            } catch (final InvocationTargetException e) {
-                Log.w(TAG, "Could not determine method: " + method.getName());
+    @Override
+    public <R> R optValue(final String fieldName, final Class<R> type) {
+        final int column = getColumnForOpt(fieldName, type.getSimpleName());
+        if (column == -1) {
+            return null;
+        }
+
+        try {
+            return getValueInternal(column, type);
+        } catch (final ConversionErrorException e) {
+            onConversionFailure(column, type.getSimpleName());
+            return null;
+        }
+    }
+
+    public void resetConversionFailureCounts() {
+        mConversionFailures.reset();
+    }
+
+    /**
+     * Reads every column of every object once and returns a cursor over the values read.
+     * <p>
+     * The snapshot stores primitive values in primitive arrays, with a bitmap for the null values of
+     * nullable Integer, Long, Double and Boolean columns, and keeps any other values as returned by the getters.
+     * It does not reference the objects or the list, so later changes to either do not affect it,
+     * and reading it calls no getters and does not allocate.
+     * <p>
+     * Large lists are read in parallel, so the getters must be safe to call from other threads.
+     * The snapshot shares the type converters of this cursor.
+     *
+     * @return the snapshot, positioned before the first row
+     */
+    public EasyObjectCursor<SnapshotRow> snapshot() {
+        final SnapshotFieldAccessor fieldAccessor = SnapshotFieldAccessor.create(mFieldAccessor, mRows);
+        final EasyObjectCursor<SnapshotRow> snapshot = new EasyObjectCursor<>(
+                SnapshotRow.class,
+                fieldAccessor.getRows(),
+                m_IdAlias,
+                mQueryModel,
+                fieldAccessor,
+                mTypeConverters);
+
+        snapshot.setDebugEnabled(mDebugEnabled);
+        return snapshot;
+    }
+
+    /**
+     * Returns a view of the rows whose value in a column is within a range, ordered by that value.
+     * The view shares the objects, getters and type converters of this cursor.
+     *
+     * @param fieldName the column
+     * @param from      the lowest value, inclusive
+     * @param to        the highest value, inclusive
+     * @return the view, positioned before the first row
+     * @throws IllegalArgumentException if the column does not exist
+     * @throws IllegalStateException    if no {@link RowIndex.Type#SORTED} index was built or added for the column
+     */
+    public EasyObjectCursor<T> rangeScan(final String fieldName, final long from, final long to) {
+        final String columnName = getColumnName(getColumnForFieldOrThrow(fieldName));
+        final RowIndex index = mIndexes.getForRange(columnName);
+        if (index == null) {
+            throw new IllegalStateException("No sorted index on '" + columnName + "'. Build one with buildIndex()");
+        }
+        return createView(index.getRows(from, to));
+    }
+
+    private Object readValue(final ColumnGetter<T> getter, final int column) {
+        final int position = getPosition();
+        if (mRowCache == null) {
+            return runGetter(getter, getItem(position));
+        }
+
+        if (position != mRowCachePosition) {
+            // Normally done by onMove(), but the position can also change without a move (e.g. to -1)
+            invalidateRowCache(position);
+        }
+
+        if (mRowCacheGenerations[column] != mRowCacheGeneration) {
+            mRowCache[column] = runGetter(getter, getItem(position));
+            mRowCacheGenerations[column] = mRowCacheGeneration;
+        }
+        return mRowCache[column];
+    }
+
+    /**
+     * Returns a view of the rows of this cursor in the order given by a comparator. Equal rows keep their order.
+     * The view shares the objects, getters and type converters of this cursor.
+     * <p>
+     * Large cursors are sorted in parallel, so the comparator must be safe to call from several threads at once.
+     *
+     * @param comparator the comparator
+     * @return the view, positioned before the first row
+     */
+    public EasyObjectCursor<T> sorted(final Comparator<? super T> comparator) {
+        final RowSource<T> rows = mRows;
+        return createView(RowOrder.sort(getCount(), new RowOrder.RowComparator() {
+            @Override
+            public int compare(final int first, final int second) {
+                return comparator.compare(rows.getRow(first), rows.getRow(second));
             }
+        }, true));
+    }
+
+    /**
+     * Returns a view of the rows of this cursor, sorted on a column. Equal rows keep their order.
+     * The view shares the objects, getters and type converters of this cursor.
+     * <p>
+     * The column is read once per row before sorting. Numbers are compared as numbers,
+     * other values by their natural order, and nulls come first when ascending.
+     *
+     * @param fieldName the column
+     * @param ascending false to sort in descending order
+     * @return the view, positioned before the first row
+     * @throws IllegalArgumentException if the column does not exist, or its values cannot be compared
+     */
+    public EasyObjectCursor<T> sorted(final String fieldName, final boolean ascending) {
+        final int column = getColumnForFieldOrThrow(fieldName);
+        return createView(RowOrder.sort(getCount(), getSortKeys(column), ascending));
+    }
+
+    private Object runGetter(final ColumnGetter<T> getter, final T object) {
+        if (getter != null) {
+            return getter.get(object);
         }
 
         return null;
     }
+
+    /**
+     * Returns a cursor over the same rows which also has a column for each of the given nested properties,
+     * after the columns of this cursor. A path is made of column names separated by dots, such as "album.artist.name",
+     * and its column is read by calling the getter of each step in turn.
+     * <p>
+     * Paths are resolved once, here, from the declared return types of the getters. If any step returns null,
+     * the column is null for that row. Columns of primitive numbers are still read without boxing.
+     *
+     * @param paths the paths. They are also the names of the new columns.
+     * @return the new cursor, positioned before the first row
+     * @throws IllegalArgumentException if a step of a path does not exist, a step other than the last
+     *                                  does not return an object, or a column with the same name already exists
+     */
+    public EasyObjectCursor<T> withPaths(final String... paths) {
+        final EasyObjectCursor<T> cursor = new EasyObjectCursor<>(
+                mRowClass,
+                mRows,
+                m_IdAlias,
+                mQueryModel,
+                new PathFieldAccessor<>(mRowClass, mFieldAccessor, paths),
+                mTypeConverters);
+
+        cursor.setDebugEnabled(mDebugEnabled);
+        return cursor;
+    }
 }
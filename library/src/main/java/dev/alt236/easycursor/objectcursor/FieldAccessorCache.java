@@ -0,0 +1,118 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.alt236.easycursor.objectcursor.getters.ReflectiveColumnGetterFactory;
+
+/**
+ * A process-wide cache of the field accessors used by {@link EasyObjectCursor}.
+ * <p>
+ * Accessors are immutable once built, so all cursors for the same class share a single instance.
+ * Accessors are softly referenced. They reference their class, so a cached class and its class loader stay
+ * reachable until the entry is dropped, either by {@link #clear()} or when the garbage collector clears
+ * the soft reference under memory pressure.
+ * <p>
+ * Only the default accessors are cached, i.e. the ones used when a cursor is created without an explicit
+ * {@link dev.alt236.easycursor.objectcursor.getters.ColumnGetterFactory}.
+ */
+public final class FieldAccessorCache {
+    private static final Map<Class<?>, SoftReference<TypedFieldAccessor<?>>> CACHE = new WeakHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private FieldAccessorCache() {
+    }
+
+    /**
+     * Removes all cached accessors and resets the hit/miss counters.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+        HITS.set(0);
+        MISSES.set(0);
+    }
+
+    private static <T> TypedFieldAccessor<T> create(final Class<T> clazz) {
+        final TypedFieldAccessor<T> generated = GeneratedAccessorLoader.load(clazz);
+        if (generated == null) {
+            return new ObjectFieldAccessor<>(clazz, new ReflectiveColumnGetterFactory());
+        } else {
+            return generated;
+        }
+    }
+
+    /**
+     * Returns the default accessor for a class, creating it if needed.
+     *
+     * @param clazz the row class
+     * @param <T>   the row type
+     * @return the accessor
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <T> TypedFieldAccessor<T> get(final Class<T> clazz) {
+        final TypedFieldAccessor<T> cached = (TypedFieldAccessor<T>) peek(clazz);
+        if (cached != null) {
+            HITS.incrementAndGet();
+            return cached;
+        }
+
+        MISSES.incrementAndGet();
+        // Built outside of the lock, as this can be slow. If two threads race, the first one to finish wins.
+        final TypedFieldAccessor<T> accessor = create(clazz);
+        synchronized (CACHE) {
+            final TypedFieldAccessor<T> existing = (TypedFieldAccessor<T>) peek(clazz);
+            if (existing != null) {
+                return existing;
+            }
+
+            CACHE.put(clazz, new SoftReference<TypedFieldAccessor<?>>(accessor));
+        }
+
+        return accessor;
+    }
+
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    public static int getSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static TypedFieldAccessor<?> peek(final Class<?> clazz) {
+        synchronized (CACHE) {
+            final SoftReference<TypedFieldAccessor<?>> reference = CACHE.get(clazz);
+            return reference == null ? null : reference.get();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import android.util.Log;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Finds the accessors generated for classes annotated with
+ * {@link dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow}.
+ */
+final class GeneratedAccessorLoader {
+    /* package */ static final String GENERATED_SUFFIX = "_EasyCursorAccessor";
+    private static final String TAG = GeneratedAccessorLoader.class.getSimpleName();
+
+    private GeneratedAccessorLoader() {
+    }
+
+    /**
+     * Returns the name of the generated accessor for a class.
+     * Nested classes are flattened, so the accessor of Outer.Inner is Outer_Inner_EasyCursorAccessor.
+     *
+     * @param clazz the row class
+     * @return the fully qualified name of the generated accessor
+     */
+    /* package */ static String getAccessorClassName(final Class<?> clazz) {
+        final String name = clazz.getName();
+        final int packageEnd = name.lastIndexOf('.');
+        final String packagePrefix = packageEnd == -1 ? "" : name.substring(0, packageEnd + 1);
+        final String simpleBinaryName = name.substring(packageEnd + 1).replace('$', '_');
+
+        return packagePrefix + simpleBinaryName + GENERATED_SUFFIX;
+    }
+
+    /**
+     * Instantiates the generated accessor for a class.
+     *
+     * @param clazz the row class
+     * @param <T>   the row type
+     * @return the accessor, or null if none was generated
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <T> TypedFieldAccessor<T> load(final Class<T> clazz) {
+        final String accessorName = getAccessorClassName(clazz);
+
+        try {
+            final Class<?> accessorClass = Class.forName(accessorName, true, clazz.getClassLoader());
+            if (TypedFieldAccessor.class.isAssignableFrom(accessorClass)) {
+                return (TypedFieldAccessor<T>) accessorClass.getDeclaredConstructor().newInstance();
+            } else {
+                Log.w(TAG, accessorName + " does not implement " + TypedFieldAccessor.class.getName());
+            }
+        } catch (final ClassNotFoundException e) {
+            // Nothing was generated for this class
+        } catch (final InstantiationException e) {
+            Log.w(TAG, "Could not instantiate: " + accessorName);
+        } catch (final IllegalAccessException e) {
+            Log.w(TAG, "Could not instantiate: " + accessorName);
+        } catch (final NoSuchMethodException e) {
+            Log.w(TAG, "No default constructor: " + accessorName);
+        } catch (final InvocationTargetException e) {
+            Log.w(TAG, "Could not instantiate: " + accessorName, e.getCause());
+        }
+
+        return null;
+    }
+}
@@ -28,25 +28,27 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import dev.alt236.easycursor.internal.FieldAccessor;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetterFactory;
 
 /**
  *
  */
-class ObjectFieldAccessor<T> implements FieldAccessor {
+class ObjectFieldAccessor<T> implements TypedFieldAccessor<T> {
     private static final String IS = "is";
     private static final String GET = "get";
     private final Map<String, Integer> mFieldToIndexMap;
-    private final Map<String, Method> mFieldToMethodMap;
     private final List<Method> mMethodList;
+    private final List<ColumnGetter<T>> mGetterList;
     private final List<String> mFieldNameList;
 
-    public ObjectFieldAccessor(final Class<T> clazz) {
-        mFieldToMethodMap = Collections.synchronizedMap(new HashMap<String, Method>());
+    public ObjectFieldAccessor(final Class<T> clazz, final ColumnGetterFactory getterFactory) {
         mMethodList = new ArrayList<>();
+        mGetterList = new ArrayList<>();
         mFieldToIndexMap = new HashMap<>();
         mFieldNameList = new ArrayList<>();
         populateMethodList(clazz);
+        populateGetterList(clazz, getterFactory);
     }
 
     @Override
@@ -68,35 +70,23 @@ class ObjectFieldAccessor<T> implements FieldAccessor {
         return mFieldNameList.toArray(new String[mFieldNameList.size()]);
     }
 
-    public synchronized Method getGetterForField(final String field) {
-        if (mFieldToMethodMap.containsKey(field)) {
-            return mFieldToMethodMap.get(field);
-        } else {
-            final String booleanField = IS + field.toLowerCase(Locale.US);
-            final String otherField = GET + field.toLowerCase(Locale.US);
-
-            Method methodResult = null;
-            for (final Method method : mMethodList) {
-                if (method.getName().toLowerCase(Locale.US).equals(booleanField)) {
-                    methodResult = method;
-                    break;
-                } else if (method.getName().toLowerCase(Locale.US).equals(otherField)) {
-                    methodResult = method;
-                    break;
-                }
-            }
-
-            mFieldToMethodMap.put(field, methodResult);
-            return methodResult;
-        }
+    @Override
+    public ColumnGetter<T> getGetter(final int index) {
+        return mGetterList.get(index);
     }
 
-    public Method getMethod(final int index) {
-        return mMethodList.get(index);
+    public List<Method> getMethodList() {
+        return Collections.unmodifiableList(mMethodList);
     }
 
-    public List<Method> getMethodList() {
-        return mMethodList;
+    private void populateGetterList(final Class<T> clazz, final ColumnGetterFactory getterFactory) {
+        for (final Method method : mMethodList) {
+            final ColumnGetter<T> getter = getterFactory.create(clazz, method);
+            if (getter == null) {
+                throw new IllegalStateException(getterFactory.getClass().getName() + " returned a null getter for " + method.getName());
+            }
+            mGetterList.add(getter);
+        }
     }
 
     private void populateMethodList(final Class<T> clazz) {
@@ -0,0 +1,236 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A read only list which loads its objects from a {@link PagedObjectSource}, one page at a time.
+ * <p>
+ * At most a fixed number of pages are kept in memory; the least recently used page is dropped when another one
+ * is loaded. If a prefetch executor is given, the next page is loaded on it once a read gets close to
+ * the end of the current page, so that sequential reads (e.g. a scrolling list) rarely wait for a page.
+ * <p>
+ * Pass it to an {@link EasyObjectCursor} like any other list. Reads are thread safe.
+ *
+ * @param <T> the type of the objects
+ */
+public final class PagedObjectList<T> extends AbstractList<T> implements RandomAccess {
+    public static final int DEFAULT_MAX_RESIDENT_PAGES = 4;
+
+    private final PagedObjectSource<T> mSource;
+    private final int mCount;
+    private final int mPageSize;
+    private final int mPrefetchOffset;
+    private final Executor mPrefetchExecutor;
+    private final Object mLock = new Object();
+    private final Map<Integer, List<T>> mPages; // Guarded by mLock
+    private final Map<Integer, FutureTask<List<T>>> mPrefetches; // Guarded by mLock
+    private volatile Page<T> mLastPage;
+    private int mLoadCount; // Guarded by mLock
+
+    public PagedObjectList(final PagedObjectSource<T> source) {
+        this(source, DEFAULT_MAX_RESIDENT_PAGES, null);
+    }
+
+    /**
+     * @param source           the source of the pages
+     * @param maxResidentPages how many pages to keep in memory, at least 1
+     * @param prefetchExecutor the executor to load the next page on, or null to only load pages when they are read
+     */
+    public PagedObjectList(final PagedObjectSource<T> source,
+                           final int maxResidentPages,
+                           final Executor prefetchExecutor) {
+        if (maxResidentPages < 1) {
+            throw new IllegalArgumentException("maxResidentPages must be at least 1, was " + maxResidentPages);
+        }
+
+        mSource = source;
+        mCount = source.getCount();
+        mPageSize = source.getPageSize();
+        if (mPageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1, was " + mPageSize);
+        }
+
+        // Start on the next page when a read gets to the last quarter of the current one
+        mPrefetchOffset = mPageSize - Math.max(1, mPageSize / 4);
+        mPrefetchExecutor = prefetchExecutor;
+        mPrefetches = new HashMap<>();
+        mPages = new LinkedHashMap<Integer, List<T>>(maxResidentPages * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxResidentPages;
+            }
+        };
+    }
+
+    @Override
+    public T get(final int location) {
+        if (location < 0 || location >= mCount) {
+            throw new IndexOutOfBoundsException("Index: " + location + ", Size: " + mCount);
+        }
+
+        final int pageIndex = location / mPageSize;
+        final int offset = location - pageIndex * mPageSize;
+
+        Page<T> page = mLastPage;
+        if (page == null || page.mIndex != pageIndex) {
+            page = new Page<>(pageIndex, getPage(pageIndex));
+            mLastPage = page;
+        }
+
+        if (offset >= mPrefetchOffset) {
+            prefetch(pageIndex + 1);
+        }
+        return page.mObjects.get(offset);
+    }
+
+    /**
+     * Returns how many pages have been loaded from the source so far, including prefetched ones.
+     *
+     * @return the load count
+     */
+    public int getLoadCount() {
+        synchronized (mLock) {
+            return mLoadCount;
+        }
+    }
+
+    private List<T> getPage(final int pageIndex) {
+        final FutureTask<List<T>> prefetch;
+        synchronized (mLock) {
+            final List<T> page = mPages.get(pageIndex);
+            if (page != null) {
+                return page;
+            }
+            prefetch = mPrefetches.get(pageIndex);
+        }
+
+        if (prefetch != null) {
+            final List<T> page = awaitPrefetch(prefetch);
+            if (page != null) {
+                return page;
+            }
+        }
+
+        return loadPage(pageIndex);
+    }
+
+    /**
+     * @return the prefetched page, or null if the prefetch failed (in which case the page is loaded again,
+     * so that the failure is thrown to the reader)
+     */
+    private List<T> awaitPrefetch(final FutureTask<List<T>> prefetch) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return prefetch.get();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                } catch (final ExecutionException e) {
+                    return null;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<T> loadPage(final int pageIndex) {
+        final int expectedSize = Math.min(mPageSize, mCount - pageIndex * mPageSize);
+        final List<T> objects = mSource.loadPage(pageIndex);
+        final int size = objects == null ? 0 : objects.size();
+        if (size < expectedSize) {
+            throw new IllegalStateException(
+                    "Page " + pageIndex + " has " + size + " objects, expected " + expectedSize);
+        }
+
+        synchronized (mLock) {
+            mLoadCount++;
+            mPages.put(pageIndex, objects);
+            mPrefetches.remove(pageIndex);
+        }
+        return objects;
+    }
+
+    private void prefetch(final int pageIndex) {
+        if (mPrefetchExecutor == null || pageIndex * mPageSize >= mCount) {
+            return;
+        }
+
+        final FutureTask<List<T>> task;
+        synchronized (mLock) {
+            if (mPages.containsKey(pageIndex) || mPrefetches.containsKey(pageIndex)) {
+                return;
+            }
+
+            task = new FutureTask<>(new Callable<List<T>>() {
+                @Override
+                public List<T> call() {
+                    try {
+                        return loadPage(pageIndex);
+                    } finally {
+                        synchronized (mLock) {
+                            mPrefetches.remove(pageIndex);
+                        }
+                    }
+                }
+            });
+            mPrefetches.put(pageIndex, task);
+        }
+
+        try {
+            mPrefetchExecutor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            // The page will be loaded when it is read instead
+            synchronized (mLock) {
+                mPrefetches.remove(pageIndex);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return mCount;
+    }
+
+    private static final class Page<T> {
+        private final int mIndex;
+        private final List<T> mObjects;
+
+        private Page(final int index, final List<T> objects) {
+            mIndex = index;
+            mObjects = objects;
+        }
+    }
+}
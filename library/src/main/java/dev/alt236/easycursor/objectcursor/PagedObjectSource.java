@@ -0,0 +1,59 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.util.List;
+
+/**
+ * Supplies the objects of an {@link EasyObjectCursor} one page at a time, for datasets which are too large
+ * to load up front (for example rows on a server or in a file).
+ * <p>
+ * Pages are loaded on demand through a {@link PagedObjectList}, which keeps a bounded number of them in memory.
+ *
+ * @param <T> the type of the objects
+ */
+public interface PagedObjectSource<T> {
+
+    /**
+     * Returns the number of objects. It is read once, when the {@link PagedObjectList} is created.
+     * <p>
+     * If the exact count is expensive to find, an estimate can be returned, as long as the pages
+     * are then padded or truncated to it: a page which is shorter than the count implies is an error.
+     *
+     * @return the number of objects
+     */
+    int getCount();
+
+    /**
+     * @return the number of objects per page. Read once, when the {@link PagedObjectList} is created.
+     */
+    int getPageSize();
+
+    /**
+     * Loads a page. Page n holds the objects from n * getPageSize(), and every page except the last one is full.
+     * <p>
+     * This is called on the thread reading the cursor, or on the prefetch executor if one was given
+     * to the {@link PagedObjectList}, so it must be safe to call from any thread.
+     *
+     * @param pageIndex the index of the page
+     * @return the objects of the page. Extra objects past the end of the page are ignored.
+     */
+    List<T> loadPage(final int pageIndex);
+}
@@ -0,0 +1,186 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+
+/**
+ * Reads a nested property, such as "album.artist.name", by chaining the getters of each step.
+ * <p>
+ * The chain is resolved once, from the declared return types of the getters, so a read only calls the
+ * bound getters one after the other. If any step returns null, the value of the path is null.
+ *
+ * @param <T> the type of the objects this getter reads from
+ */
+/* package */ final class PathColumnGetter<T> extends ColumnGetter<T> {
+    private static final String IS = "is";
+    private static final String GET = "get";
+    private final ColumnGetter<T> mFirst;
+    private final ColumnGetter<Object>[] mParents;
+    private final ColumnGetter<Object> mLeaf;
+
+    private PathColumnGetter(final String path,
+                             final ColumnGetter<T> first,
+                             final ColumnGetter<Object>[] parents,
+                             final ColumnGetter<Object> leaf) {
+        super(path);
+        mFirst = first;
+        mParents = parents;
+        mLeaf = leaf;
+    }
+
+    @Override
+    public Object get(final T item) {
+        final Object parent = getParent(item);
+        return parent == null ? null : mLeaf.get(parent);
+    }
+
+    @Override
+    public boolean getBoolean(final T item) {
+        final Object parent = getParent(item);
+        return parent != null && mLeaf.getBoolean(parent);
+    }
+
+    @Override
+    public double getDouble(final T item) {
+        final Object parent = getParent(item);
+        return parent == null ? 0d : mLeaf.getDouble(parent);
+    }
+
+    @Override
+    public float getFloat(final T item) {
+        final Object parent = getParent(item);
+        return parent == null ? 0f : mLeaf.getFloat(parent);
+    }
+
+    @Override
+    public int getInt(final T item) {
+        final Object parent = getParent(item);
+        return parent == null ? 0 : mLeaf.getInt(parent);
+    }
+
+    @Override
+    public long getLong(final T item) {
+        final Object parent = getParent(item);
+        return parent == null ? 0L : mLeaf.getLong(parent);
+    }
+
+    private Object getParent(final T item) {
+        Object current = mFirst.get(item);
+        for (int i = 0; i < mParents.length && current != null; i++) {
+            current = mParents[i].get(current);
+        }
+        return current;
+    }
+
+    @Override
+    public short getShort(final T item) {
+        final Object parent = getParent(item);
+        return parent == null ? 0 : mLeaf.getShort(parent);
+    }
+
+    @Override
+    public boolean isNull(final T item) {
+        final Object parent = getParent(item);
+        return parent == null || mLeaf.isNull(parent);
+    }
+
+    @Override
+    public boolean isPrimitiveNumber() {
+        // The primitive type is not reported, as the path can still be null
+        return mLeaf.isPrimitiveNumber();
+    }
+
+    /**
+     * Resolves a dotted path into a chain of getters.
+     *
+     * @param clazz    the class of the objects the path starts from
+     * @param accessor the accessor of clazz, which provides the getter of the first step
+     * @param path     the path, made of column names separated by dots
+     * @param <T>      the type of the objects the path starts from
+     * @return the getter
+     * @throws IllegalArgumentException if a step does not exist, or a step other than the last is not an object
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    /* package */ static <T> ColumnGetter<T> compile(final Class<T> clazz,
+                                                      final TypedFieldAccessor<T> accessor,
+                                                      final String path) {
+        final String[] steps = path.toLowerCase(Locale.US).split("\\.", -1);
+        if (steps.length < 2) {
+            throw new IllegalArgumentException("'" + path + "' is not a path");
+        }
+
+        final ColumnGetter<T> first = accessor.getGetter(getIndex(accessor, clazz, steps[0]));
+        Class<?> type = getReturnType(clazz, steps[0]);
+
+        final ColumnGetter<Object>[] parents = new ColumnGetter[steps.length - 2];
+        ColumnGetter<Object> leaf = null;
+        for (int i = 1; i < steps.length; i++) {
+            if (type.isPrimitive() || type.isArray()) {
+                throw new IllegalArgumentException("Cannot read '" + steps[i] + "' of '" + path
+                        + "', as the value before it is a " + type.getName());
+            }
+
+            final TypedFieldAccessor<Object> stepAccessor = FieldAccessorCache.get((Class<Object>) type);
+            final ColumnGetter<Object> getter = stepAccessor.getGetter(getIndex(stepAccessor, type, steps[i]));
+            if (i == steps.length - 1) {
+                leaf = getter;
+            } else {
+                parents[i - 1] = getter;
+                type = getReturnType(type, steps[i]);
+            }
+        }
+
+        return new PathColumnGetter<>(path, first, parents, leaf);
+    }
+
+    private static int getIndex(final TypedFieldAccessor<?> accessor, final Class<?> clazz, final String name) {
+        final int index = accessor.getFieldIndexByName(name);
+        if (index == -1) {
+            throw new IllegalArgumentException("Could not find getter for field '" + name + "' in " + clazz.getName());
+        }
+        return index;
+    }
+
+    /**
+     * Finds the getter method of a column, using the same naming rules as {@link ObjectFieldAccessor}.
+     */
+    private static Class<?> getReturnType(final Class<?> clazz, final String name) {
+        for (final Method method : clazz.getMethods()) {
+            final String methodName = method.getName();
+            if (!Modifier.isPublic(method.getModifiers())
+                    || methodName.length() <= 3
+                    || method.getParameterTypes().length != 0
+                    || method.getReturnType().equals(Void.TYPE)) {
+                continue;
+            }
+
+            if ((methodName.startsWith(GET) && methodName.substring(GET.length()).toLowerCase(Locale.US).equals(name))
+                    || (methodName.startsWith(IS) && methodName.substring(IS.length()).toLowerCase(Locale.US).equals(name))) {
+                return method.getReturnType();
+            }
+        }
+        throw new IllegalArgumentException("Could not find getter for field '" + name + "' in " + clazz.getName());
+    }
+}
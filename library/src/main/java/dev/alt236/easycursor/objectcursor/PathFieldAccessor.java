@@ -0,0 +1,89 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+
+/**
+ * Adds nested property columns, such as "album.artist.name", after the columns of another accessor.
+ *
+ * @param <T> the type of the objects the getters read from
+ */
+/* package */ class PathFieldAccessor<T> implements TypedFieldAccessor<T> {
+    private final TypedFieldAccessor<T> mBase;
+    private final int mBaseCount;
+    private final List<String> mPathList;
+    private final List<ColumnGetter<T>> mGetterList;
+    private final Map<String, Integer> mPathToIndexMap;
+
+    public PathFieldAccessor(final Class<T> clazz, final TypedFieldAccessor<T> base, final String[] paths) {
+        mBase = base;
+        mBaseCount = base.getFieldNames().length;
+        mPathList = new ArrayList<>();
+        mGetterList = new ArrayList<>();
+        mPathToIndexMap = new HashMap<>();
+
+        for (final String path : paths) {
+            if (base.getFieldIndexByName(path) != -1 || mPathToIndexMap.containsKey(path)) {
+                throw new IllegalArgumentException("There already is a column named '" + path + "'");
+            }
+
+            mGetterList.add(PathColumnGetter.compile(clazz, base, path));
+            mPathToIndexMap.put(path, mBaseCount + mPathList.size());
+            mPathList.add(path);
+        }
+    }
+
+    @Override
+    public int getFieldIndexByName(final String name) {
+        final int index = mBase.getFieldIndexByName(name);
+        if (index != -1) {
+            return index;
+        }
+
+        final Integer pathIndex = mPathToIndexMap.get(name);
+        return pathIndex == null ? -1 : pathIndex;
+    }
+
+    @Override
+    public String getFieldNameByIndex(final int index) {
+        return index < mBaseCount ? mBase.getFieldNameByIndex(index) : mPathList.get(index - mBaseCount);
+    }
+
+    @Override
+    public String[] getFieldNames() {
+        final String[] names = new String[mBaseCount + mPathList.size()];
+        System.arraycopy(mBase.getFieldNames(), 0, names, 0, mBaseCount);
+        for (int i = 0; i < mPathList.size(); i++) {
+            names[mBaseCount + i] = mPathList.get(i);
+        }
+        return names;
+    }
+
+    @Override
+    public ColumnGetter<T> getGetter(final int index) {
+        return index < mBaseCount ? mBase.getGetter(index) : mGetterList.get(index - mBaseCount);
+    }
+}
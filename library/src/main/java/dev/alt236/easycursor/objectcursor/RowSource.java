@@ -0,0 +1,44 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+/**
+ * The rows of an {@link EasyObjectCursor}.
+ * <p>
+ * The cursor asks for the object of the current row every time it reads a value, so
+ * {@link #getRow(int)} should be cheap and should not copy. {@link RowSources} has implementations
+ * over arrays and lists; other containers (for example objects which view into shared primitive arrays)
+ * can implement this directly, as long as every position has its own object.
+ *
+ * @param <T> the type of the objects
+ */
+public interface RowSource<T> {
+
+    /**
+     * @return the number of rows
+     */
+    int getCount();
+
+    /**
+     * @param position the position, from 0 to getCount() - 1
+     * @return the object of the row at the position
+     */
+    T getRow(final int position);
+}
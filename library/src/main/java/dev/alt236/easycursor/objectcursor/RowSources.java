@@ -0,0 +1,140 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import dev.alt236.easycursor.internal.RowOrder;
+
+/**
+ * Factories for the {@link RowSource}s of common containers.
+ */
+public final class RowSources {
+
+    private RowSources() {
+        // NOOP
+    }
+
+    /**
+     * Returns a source which reads straight from an array, without copying it.
+     * Changes to the array are visible through the source.
+     *
+     * @param array the array
+     * @param <T>   the type of the objects
+     * @return the source
+     */
+    public static <T> RowSource<T> of(final T[] array) {
+        return new ArrayRowSource<>(array);
+    }
+
+    /**
+     * Returns a source over a list.
+     * <p>
+     * Lists with fast random access (see {@link RandomAccess}) are read directly, without copying them,
+     * and changes to them are visible through the source. Other lists, such as a LinkedList, would cost
+     * O(n) per read, so they are copied once instead.
+     *
+     * @param list the list
+     * @param <T>  the type of the objects
+     * @return the source
+     */
+    public static <T> RowSource<T> of(final List<T> list) {
+        if (list instanceof RandomAccess) {
+            return new ListRowSource<>(list);
+        } else {
+            return new ListRowSource<>(new ArrayList<>(list));
+        }
+    }
+
+    /**
+     * Returns a view of some rows of a source, in the given order.
+     *
+     * @param source the source
+     * @param rows   the positions in source of the rows of the view
+     * @param <T>    the type of the objects
+     * @return the view
+     */
+    /* package */ static <T> RowSource<T> permute(final RowSource<T> source, final int[] rows) {
+        if (source instanceof PermutedRowSource) {
+            final PermutedRowSource<T> parent = (PermutedRowSource<T>) source;
+            return new PermutedRowSource<>(parent.mSource, RowOrder.compose(parent.mRows, rows));
+        } else {
+            return new PermutedRowSource<>(source, rows);
+        }
+    }
+
+    private static final class ArrayRowSource<T> implements RowSource<T> {
+        private final T[] mArray;
+
+        private ArrayRowSource(final T[] array) {
+            mArray = array;
+        }
+
+        @Override
+        public int getCount() {
+            return mArray.length;
+        }
+
+        @Override
+        public T getRow(final int position) {
+            return mArray[position];
+        }
+    }
+
+    private static final class ListRowSource<T> implements RowSource<T> {
+        private final List<T> mList;
+
+        private ListRowSource(final List<T> list) {
+            mList = list;
+        }
+
+        @Override
+        public int getCount() {
+            return mList.size();
+        }
+
+        @Override
+        public T getRow(final int position) {
+            return mList.get(position);
+        }
+    }
+
+    private static final class PermutedRowSource<T> implements RowSource<T> {
+        private final RowSource<T> mSource;
+        private final int[] mRows;
+
+        private PermutedRowSource(final RowSource<T> source, final int[] rows) {
+            mSource = source;
+            mRows = rows;
+        }
+
+        @Override
+        public int getCount() {
+            return mRows.length;
+        }
+
+        @Override
+        public T getRow(final int position) {
+            return mSource.getRow(mRows[position]);
+        }
+    }
+}
@@ -0,0 +1,592 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import dev.alt236.easycursor.internal.ColumnNameIndex;
+import dev.alt236.easycursor.internal.ParallelRanges;
+import dev.alt236.easycursor.internal.conversion.ObjectType;
+import dev.alt236.easycursor.objectcursor.getters.BooleanColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.DoubleColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.FloatColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.IntColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.LongColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.ShortColumnGetter;
+
+/**
+ * The columns of an {@link EasyObjectCursor#snapshot()}, read once from the source objects.
+ * <p>
+ * Primitive getters are stored in primitive arrays. Getters returning Integers, Longs, Doubles or Booleans
+ * are stored the same way, with a bitmap of the null rows, as long as every value of the column has that type.
+ * Anything else is stored as the values the getters returned.
+ */
+/* package */ final class SnapshotFieldAccessor implements TypedFieldAccessor<SnapshotRow> {
+    // Getters are cheap, so a range has to be this long before it is worth a thread of its own
+    private static final int MIN_ROWS_PER_THREAD = 4096;
+
+    private final String[] mFieldNames;
+    private final ColumnNameIndex mFieldIndex;
+    private final List<ColumnGetter<SnapshotRow>> mGetters;
+    private final RowSource<SnapshotRow> mRows;
+
+    private SnapshotFieldAccessor(final String[] fieldNames,
+                                  final List<ColumnGetter<SnapshotRow>> getters,
+                                  final int rowCount) {
+        mFieldNames = fieldNames;
+        mFieldIndex = new ColumnNameIndex(fieldNames);
+        mGetters = getters;
+
+        final SnapshotRow[] rows = new SnapshotRow[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new SnapshotRow(i);
+        }
+        mRows = RowSources.of(rows);
+    }
+
+    @Override
+    public int getFieldIndexByName(final String name) {
+        return mFieldIndex.indexOf(name);
+    }
+
+    @Override
+    public String getFieldNameByIndex(final int index) {
+        return mFieldNames[index];
+    }
+
+    @Override
+    public String[] getFieldNames() {
+        return mFieldNames.clone();
+    }
+
+    @Override
+    public ColumnGetter<SnapshotRow> getGetter(final int index) {
+        return mGetters.get(index);
+    }
+
+    public RowSource<SnapshotRow> getRows() {
+        return mRows;
+    }
+
+    /**
+     * Reads every column of every object.
+     * <p>
+     * Large lists are read in parallel ranges, so the getters of T must be safe to call from other threads.
+     *
+     * @param source the accessor of the objects
+     * @param items  the rows
+     * @param <T>    the type of the objects
+     * @return the snapshot
+     */
+    public static <T> SnapshotFieldAccessor create(final TypedFieldAccessor<T> source, final RowSource<T> items) {
+        // A private copy, so that the source can change while the columns are read
+        final int count = items.getCount();
+        final List<T> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(items.getRow(i));
+        }
+
+        final String[] fieldNames = source.getFieldNames();
+        final List<Column<T>> columns = new ArrayList<>(fieldNames.length);
+        for (int i = 0; i < fieldNames.length; i++) {
+            columns.add(Column.create(source.getGetter(i), rows.size()));
+        }
+
+        ParallelRanges.map(rows.size(), MIN_ROWS_PER_THREAD, new ParallelRanges.RangeTask<Void>() {
+            @Override
+            public Void run(final int from, final int to) {
+                for (final Column<T> column : columns) {
+                    column.read(rows, from, to);
+                }
+                return null;
+            }
+        });
+
+        final List<ColumnGetter<SnapshotRow>> getters = new ArrayList<>(columns.size());
+        for (final Column<T> column : columns) {
+            getters.add(column.toGetter());
+        }
+        return new SnapshotFieldAccessor(fieldNames, getters, rows.size());
+    }
+
+    /**
+     * Reads the values of one column into an array, and then turns the array into a getter.
+     * Ranges of rows may be read from different threads, each into its own part of the array.
+     */
+    private abstract static class Column<T> {
+        protected final ColumnGetter<T> mSource;
+        protected final String mName;
+
+        private Column(final ColumnGetter<T> source) {
+            mSource = source;
+            mName = source == null ? null : source.getName();
+        }
+
+        public static <T> Column<T> create(final ColumnGetter<T> source, final int size) {
+            final ObjectType type = source == null ? null : source.getPrimitiveType();
+            if (type == null) {
+                return new ObjectColumn<>(source, size);
+            }
+
+            switch (type) {
+                case BOOLEAN:
+                    return new BooleanColumn<>(source, size);
+                case DOUBLE:
+                    return new DoubleColumn<>(source, size);
+                case FLOAT:
+                    return new FloatColumn<>(source, size);
+                case INTEGER:
+                    return new IntColumn<>(source, size);
+                case LONG:
+                    return new LongColumn<>(source, size);
+                case SHORT:
+                    return new ShortColumn<>(source, size);
+                default:
+                    return new ObjectColumn<>(source, size);
+            }
+        }
+
+        public abstract void read(final List<T> items, final int from, final int to);
+
+        public abstract ColumnGetter<SnapshotRow> toGetter();
+    }
+
+    private static final class BooleanColumn<T> extends Column<T> {
+        private final boolean[] mValues;
+
+        private BooleanColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new boolean[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.getBoolean(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            return new BooleanColumnGetter<SnapshotRow>(mName) {
+                @Override
+                public boolean getBoolean(final SnapshotRow row) {
+                    return mValues[row.getPosition()];
+                }
+            };
+        }
+    }
+
+    private static final class DoubleColumn<T> extends Column<T> {
+        private final double[] mValues;
+
+        private DoubleColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new double[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.getDouble(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            return new DoubleColumnGetter<SnapshotRow>(mName) {
+                @Override
+                public double getDouble(final SnapshotRow row) {
+                    return mValues[row.getPosition()];
+                }
+            };
+        }
+    }
+
+    private static final class FloatColumn<T> extends Column<T> {
+        private final float[] mValues;
+
+        private FloatColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new float[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.getFloat(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            return new FloatColumnGetter<SnapshotRow>(mName) {
+                @Override
+                public float getFloat(final SnapshotRow row) {
+                    return mValues[row.getPosition()];
+                }
+            };
+        }
+    }
+
+    private static final class IntColumn<T> extends Column<T> {
+        private final int[] mValues;
+
+        private IntColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new int[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.getInt(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            return new IntColumnGetter<SnapshotRow>(mName) {
+                @Override
+                public int getInt(final SnapshotRow row) {
+                    return mValues[row.getPosition()];
+                }
+            };
+        }
+    }
+
+    private static final class LongColumn<T> extends Column<T> {
+        private final long[] mValues;
+
+        private LongColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new long[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.getLong(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            return new LongColumnGetter<SnapshotRow>(mName) {
+                @Override
+                public long getLong(final SnapshotRow row) {
+                    return mValues[row.getPosition()];
+                }
+            };
+        }
+    }
+
+    private static final class ShortColumn<T> extends Column<T> {
+        private final short[] mValues;
+
+        private ShortColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new short[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.getShort(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            return new ShortColumnGetter<SnapshotRow>(mName) {
+                @Override
+                public short getShort(final SnapshotRow row) {
+                    return mValues[row.getPosition()];
+                }
+            };
+        }
+    }
+
+    /**
+     * The values of a getter which returns objects. Once read, columns holding only Integers, Longs,
+     * Doubles or Booleans are unboxed into a primitive array and a null bitmap.
+     */
+    private static final class ObjectColumn<T> extends Column<T> {
+        private final Object[] mValues;
+
+        private ObjectColumn(final ColumnGetter<T> source, final int size) {
+            super(source);
+            mValues = new Object[size];
+        }
+
+        @Override
+        public void read(final List<T> items, final int from, final int to) {
+            if (mSource == null) {
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                mValues[i] = mSource.get(items.get(i));
+            }
+        }
+
+        @Override
+        public ColumnGetter<SnapshotRow> toGetter() {
+            final Class<?> type = getValueType();
+            if (type == Integer.class) {
+                return new NullableIntGetter(mName, mValues);
+            } else if (type == Long.class) {
+                return new NullableLongGetter(mName, mValues);
+            } else if (type == Double.class) {
+                return new NullableDoubleGetter(mName, mValues);
+            } else if (type == Boolean.class) {
+                return new NullableBooleanGetter(mName, mValues);
+            } else {
+                return new ObjectGetter(mName, mValues);
+            }
+        }
+
+        /**
+         * @return the class of all the non null values, or null if there are none or they differ
+         */
+        private Class<?> getValueType() {
+            Class<?> type = null;
+            for (final Object value : mValues) {
+                if (value == null) {
+                    continue;
+                }
+
+                if (type == null) {
+                    type = value.getClass();
+                } else if (type != value.getClass()) {
+                    return null;
+                }
+            }
+            return type;
+        }
+    }
+
+    private static BitSet getNulls(final Object[] values) {
+        final BitSet nulls = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                nulls.set(i);
+            }
+        }
+        return nulls;
+    }
+
+    private static final class ObjectGetter extends ColumnGetter<SnapshotRow> {
+        private final Object[] mValues;
+
+        private ObjectGetter(final String name, final Object[] values) {
+            super(name);
+            mValues = values;
+        }
+
+        @Override
+        public Object get(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+    }
+
+    /**
+     * The typed getters of a nullable column return 0 for null rows, which is what the cursor returns for nulls anyway.
+     */
+    private abstract static class NullableGetter extends ColumnGetter<SnapshotRow> {
+        private final BitSet mNulls;
+
+        private NullableGetter(final String name, final Object[] values) {
+            super(name);
+            mNulls = getNulls(values);
+        }
+
+        @Override
+        public boolean isNull(final SnapshotRow row) {
+            return mNulls.get(row.getPosition());
+        }
+    }
+
+    private static final class NullableBooleanGetter extends NullableGetter {
+        private final boolean[] mValues;
+
+        private NullableBooleanGetter(final String name, final Object[] values) {
+            super(name, values);
+            mValues = new boolean[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mValues[i] = values[i] != null && (Boolean) values[i];
+            }
+        }
+
+        @Override
+        public Object get(final SnapshotRow row) {
+            return isNull(row) ? null : Boolean.valueOf(mValues[row.getPosition()]);
+        }
+
+        @Override
+        public boolean getBoolean(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+    }
+
+    private static final class NullableDoubleGetter extends NullableGetter {
+        private final double[] mValues;
+
+        private NullableDoubleGetter(final String name, final Object[] values) {
+            super(name, values);
+            mValues = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mValues[i] = values[i] == null ? 0d : (Double) values[i];
+            }
+        }
+
+        @Override
+        public Object get(final SnapshotRow row) {
+            return isNull(row) ? null : Double.valueOf(mValues[row.getPosition()]);
+        }
+
+        @Override
+        public double getDouble(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public float getFloat(final SnapshotRow row) {
+            return (float) mValues[row.getPosition()];
+        }
+
+        @Override
+        public int getInt(final SnapshotRow row) {
+            return (int) mValues[row.getPosition()];
+        }
+
+        @Override
+        public long getLong(final SnapshotRow row) {
+            return (long) mValues[row.getPosition()];
+        }
+
+        @Override
+        public short getShort(final SnapshotRow row) {
+            return (short) mValues[row.getPosition()];
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+    }
+
+    private static final class NullableIntGetter extends NullableGetter {
+        private final int[] mValues;
+
+        private NullableIntGetter(final String name, final Object[] values) {
+            super(name, values);
+            mValues = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mValues[i] = values[i] == null ? 0 : (Integer) values[i];
+            }
+        }
+
+        @Override
+        public Object get(final SnapshotRow row) {
+            return isNull(row) ? null : Integer.valueOf(mValues[row.getPosition()]);
+        }
+
+        @Override
+        public double getDouble(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public float getFloat(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public int getInt(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public long getLong(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public short getShort(final SnapshotRow row) {
+            return (short) mValues[row.getPosition()];
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+    }
+
+    private static final class NullableLongGetter extends NullableGetter {
+        private final long[] mValues;
+
+        private NullableLongGetter(final String name, final Object[] values) {
+            super(name, values);
+            mValues = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                mValues[i] = values[i] == null ? 0L : (Long) values[i];
+            }
+        }
+
+        @Override
+        public Object get(final SnapshotRow row) {
+            return isNull(row) ? null : Long.valueOf(mValues[row.getPosition()]);
+        }
+
+        @Override
+        public double getDouble(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public float getFloat(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public int getInt(final SnapshotRow row) {
+            return (int) mValues[row.getPosition()];
+        }
+
+        @Override
+        public long getLong(final SnapshotRow row) {
+            return mValues[row.getPosition()];
+        }
+
+        @Override
+        public short getShort(final SnapshotRow row) {
+            return (short) mValues[row.getPosition()];
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+/**
+ * A row of a cursor created by {@link EasyObjectCursor#snapshot()}.
+ * <p>
+ * The values of a snapshot are stored per column, so a row only knows its position.
+ * Read the values through the cursor.
+ */
+public final class SnapshotRow {
+    private final int mPosition;
+
+    /* package */ SnapshotRow(final int position) {
+        mPosition = position;
+    }
+
+    public int getPosition() {
+        return mPosition;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotRow{" +
+                "mPosition=" + mPosition +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import dev.alt236.easycursor.internal.FieldAccessor;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+
+/**
+ * A {@link FieldAccessor} which also exposes a bound {@link ColumnGetter} for each column.
+ * <p>
+ * Field names are lowercase, and {@link #getFieldIndexByName(String)} expects a lowercase name.
+ * This is implemented by the classes generated for {@link dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow}.
+ *
+ * @param <T> the type of the objects the getters read from
+ */
+public interface TypedFieldAccessor<T> extends FieldAccessor {
+
+    ColumnGetter<T> getGetter(final int index);
+}
@@ -0,0 +1,43 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class as a row type for an {@link dev.alt236.easycursor.objectcursor.EasyObjectCursor}.
+ * <p>
+ * When the easycursor-processor annotation processor is on the compile classpath, it generates
+ * a {@link dev.alt236.easycursor.objectcursor.TypedFieldAccessor} for each annotated class.
+ * The generated accessor is named {@code <ClassName>_EasyCursorAccessor}, lives in the same package
+ * and is picked up automatically by the cursor, so no getters need to be discovered via reflection.
+ * <p>
+ * The generated accessor exposes the same columns as the reflective one: every public, zero argument,
+ * non-void getX()/isX() method, including inherited ones.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface EasyCursorRow {
+}
@@ -0,0 +1,47 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.getters;
+
+import dev.alt236.easycursor.internal.conversion.ObjectType;
+
+/**
+ * A {@link ColumnGetter} for columns backed by a boolean.
+ *
+ * @param <T> the type of the objects this getter reads from
+ */
+public abstract class BooleanColumnGetter<T> extends ColumnGetter<T> {
+
+    protected BooleanColumnGetter(final String name) {
+        super(name);
+    }
+
+    @Override
+    public final Object get(final T item) {
+        return getBoolean(item);
+    }
+
+    @Override
+    public abstract boolean getBoolean(final T item);
+
+    @Override
+    public final ObjectType getPrimitiveType() {
+        return ObjectType.BOOLEAN;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.getters;
+
+import dev.alt236.easycursor.internal.conversion.ObjectType;
+
+/**
+ * Reads the value of a single column from an object.
+ * <p>
+ * Getters are bound once per column and then reused for every row.
+ * Implementations which can produce a primitive value directly should extend one
+ * of the typed subclasses (for example {@link IntColumnGetter}) so that the typed
+ * cursor getters can read them without boxing.
+ *
+ * @param <T> the type of the objects this getter reads from
+ */
+public abstract class ColumnGetter<T> {
+    private final String mName;
+
+    protected ColumnGetter(final String name) {
+        mName = name;
+    }
+
+    /**
+     * Returns the value of this column for the given object, boxing it if needed.
+     *
+     * @param item the object to read from
+     * @return the column value
+     */
+    public abstract Object get(final T item);
+
+    public boolean getBoolean(final T item) {
+        throw unsupported(ObjectType.BOOLEAN);
+    }
+
+    public double getDouble(final T item) {
+        throw unsupported(ObjectType.DOUBLE);
+    }
+
+    public float getFloat(final T item) {
+        throw unsupported(ObjectType.FLOAT);
+    }
+
+    public int getInt(final T item) {
+        throw unsupported(ObjectType.INTEGER);
+    }
+
+    public long getLong(final T item) {
+        throw unsupported(ObjectType.LONG);
+    }
+
+    /**
+     * Returns the name of the underlying member (e.g. the getter method name).
+     *
+     * @return the name
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * Returns the primitive type this getter can produce without boxing,
+     * or null if it can only produce boxed values via {@link #get(Object)}.
+     *
+     * @return the primitive type, or null
+     */
+    public ObjectType getPrimitiveType() {
+        return null;
+    }
+
+    public short getShort(final T item) {
+        throw unsupported(ObjectType.SHORT);
+    }
+
+    /**
+     * Returns true if the value of this column is null for the given object.
+     * Getters which produce a primitive type are never null, unless they override this.
+     *
+     * @param item the object to read from
+     * @return whether the value is null
+     */
+    public boolean isNull(final T item) {
+        return getPrimitiveType() == null && get(item) == null;
+    }
+
+    /**
+     * Returns true if this getter produces a primitive number, in which case
+     * all of the numeric typed getters can be called without boxing.
+     *
+     * @return whether the numeric typed getters are supported
+     */
+    public boolean isPrimitiveNumber() {
+        return false;
+    }
+
+    private UnsupportedOperationException unsupported(final ObjectType type) {
+        return new UnsupportedOperationException("Getter '" + mName + "' cannot produce a primitive " + type);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "mName='" + mName + '\'' +
+                '}';
+    }
+}
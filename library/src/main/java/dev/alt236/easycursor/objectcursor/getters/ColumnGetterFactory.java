@@ -0,0 +1,41 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.getters;
+
+import java.lang.reflect.Method;
+
+/**
+ * Binds the getter methods discovered on a class into {@link ColumnGetter}s.
+ * <p>
+ * This is called once per column when an EasyObjectCursor is created, so implementations
+ * can afford to do expensive work here in order to make the returned getters cheap to call.
+ */
+public interface ColumnGetterFactory {
+
+    /**
+     * Creates a getter for the given method.
+     *
+     * @param clazz  the class the cursor was created for
+     * @param method a public, non-void, zero argument method of clazz
+     * @param <T>    the type of the objects the getter reads from
+     * @return the getter. Must not be null.
+     */
+    <T> ColumnGetter<T> create(final Class<T> clazz, final Method method);
+}
@@ -0,0 +1,74 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.getters;
+
+import dev.alt236.easycursor.internal.conversion.ObjectType;
+
+/**
+ * A {@link ColumnGetter} for columns backed by a double.
+ * <p>
+ * The other numeric getters follow the same narrowing/widening rules as {@link Number}.
+ *
+ * @param <T> the type of the objects this getter reads from
+ */
+public abstract class DoubleColumnGetter<T> extends ColumnGetter<T> {
+
+    protected DoubleColumnGetter(final String name) {
+        super(name);
+    }
+
+    @Override
+    public final Object get(final T item) {
+        return getDouble(item);
+    }
+
+    @Override
+    public abstract double getDouble(final T item);
+
+    @Override
+    public float getFloat(final T item) {
+        return (float) getDouble(item);
+    }
+
+    @Override
+    public int getInt(final T item) {
+        return (int) getDouble(item);
+    }
+
+    @Override
+    public long getLong(final T item) {
+        return (long) getDouble(item);
+    }
+
+    @Override
+    public final ObjectType getPrimitiveType() {
+        return ObjectType.DOUBLE;
+    }
+
+    @Override
+    public short getShort(final T item) {
+        return (short) getDouble(item);
+    }
+
+    @Override
+    public final boolean isPrimitiveNumber() {
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.getters;
+
+import android.util.Log;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A {@link ColumnGetter} which calls a getter method via reflection.
+ * <p>
+ * The method is resolved and made accessible once, but every read still goes through
+ * {@link Method#invoke(Object, Object...)} and so boxes primitive return values.
+ *
+ * @param <T> the type of the objects this getter reads from
+ */
+public class ReflectiveColumnGetter<T> extends ColumnGetter<T> {
+    private static final String TAG = ReflectiveColumnGetter.class.getSimpleName();
+
+    private final Method mMethod;
+
+    public ReflectiveColumnGetter(final Method method) {
+        super(method.getName());
+        mMethod = method;
+
+        try {
+            // Skips the per-call access check. Public methods of non-public classes also need it.
+            mMethod.setAccessible(true);
+        } catch (final SecurityException e) {
+            Log.w(TAG, "Could not make method accessible: " + method.getName());
+        }
+    }
+
+    @Override
+    public Object get(final T item) {
+        try {
+            return mMethod.invoke(item);
+        } catch (final IllegalAccessException e) {
+            Log.w(TAG, "Could not determine method: " + mMethod.getName());
+        } catch (final InvocationTargetException e) {
+            Log.w(TAG, "Could not determine method: " + mMethod.getName());
+        }
+
+        return null;
+    }
+
+    public Method getMethod() {
+        return mMethod;
+    }
+}
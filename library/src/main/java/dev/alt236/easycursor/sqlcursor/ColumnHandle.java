@@ -0,0 +1,71 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+/**
+ * A column of an {@link EasySqlCursor}, resolved once by {@link EasySqlCursor#column(String)}.
+ * <p>
+ * Reading through a handle skips the column name lookup, which otherwise happens on every
+ * name-based read. A handle can only be used with the cursor which created it.
+ */
+public final class ColumnHandle {
+    private final EasySqlCursor mCursor;
+    private final String mName;
+    private final int mIndex;
+
+    /* package */ ColumnHandle(final EasySqlCursor cursor, final String name, final int index) {
+        mCursor = cursor;
+        mName = name;
+        mIndex = index;
+    }
+
+    /* package */ EasySqlCursor getCursor() {
+        return mCursor;
+    }
+
+    /**
+     * @return the column index, or -1 if the cursor does not have the column
+     */
+    public int getIndex() {
+        return mIndex;
+    }
+
+    /**
+     * @return the name the handle was created with
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * @return true if the cursor has the column
+     */
+    public boolean isPresent() {
+        return mIndex != -1;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnHandle{" +
+                "mName='" + mName + '\'' +
+                ", mIndex=" + mIndex +
+                '}';
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import android.database.AbstractCursor;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteException;
+
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An immutable in-memory copy of the result of a query, stored per column as the values SQLite returned.
+ * Any number of cursors can read it at once.
+ * <p>
+ * Values convert between types as they do when read from SQLite, except that text which is not a number reads as 0
+ * and numbers read as text are formatted by Java.
+ */
+/* package */ final class CursorSnapshot {
+    // Rough heap costs, used to bound the size of a cache of snapshots
+    private static final int REFERENCE_BYTES = 8;
+    private static final int BOXED_NUMBER_BYTES = 16;
+    private static final int STRING_BYTES = 40;
+    private static final int ARRAY_BYTES = 16;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final String[] mColumnNames;
+    private final Object[][] mColumns;
+    private final int mRowCount;
+    private final int mEstimatedSize;
+    private final Set<String> mTableNames;
+
+    private CursorSnapshot(final String[] columnNames,
+                           final Object[][] columns,
+                           final int rowCount,
+                           final int estimatedSize,
+                           final Set<String> tableNames) {
+        mColumnNames = columnNames;
+        mColumns = columns;
+        mRowCount = rowCount;
+        mEstimatedSize = estimatedSize;
+        mTableNames = tableNames;
+    }
+
+    public int getEstimatedSize() {
+        return mEstimatedSize;
+    }
+
+    /**
+     * Returns a new cursor over this snapshot, positioned before the first row.
+     *
+     * @return the cursor
+     */
+    public Cursor newCursor() {
+        return new SnapshotCursor(this);
+    }
+
+    /**
+     * Checks whether the query behind this snapshot read a table.
+     *
+     * @param tableName the lower case table name
+     * @return true if it did, or if its tables are not known
+     */
+    public boolean readsTable(final String tableName) {
+        return mTableNames == null || mTableNames.contains(tableName);
+    }
+
+    /**
+     * Copies all of the rows of a cursor. The position of the cursor is not restored.
+     *
+     * @param cursor     the cursor
+     * @param tableNames the tables the query read, or null if they are not known
+     * @return the snapshot
+     */
+    public static CursorSnapshot of(final Cursor cursor, final String[] tableNames) {
+        final String[] columnNames = cursor.getColumnNames();
+        final int rowCount = cursor.getCount();
+        final Object[][] columns = new Object[columnNames.length][rowCount];
+        long size = (long) columnNames.length * (ARRAY_BYTES + (long) rowCount * REFERENCE_BYTES);
+
+        for (int row = 0; row < rowCount; row++) {
+            cursor.moveToPosition(row);
+            for (int column = 0; column < columnNames.length; column++) {
+                final Object value = readValue(cursor, column);
+                columns[column][row] = value;
+                size += getEstimatedSize(value);
+            }
+        }
+
+        return new CursorSnapshot(
+                columnNames,
+                columns,
+                rowCount,
+                (int) Math.min(Integer.MAX_VALUE, size),
+                normalise(tableNames));
+    }
+
+    private static long getEstimatedSize(final Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return STRING_BYTES + 2L * ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return ARRAY_BYTES + ((byte[]) value).length;
+        } else {
+            return BOXED_NUMBER_BYTES;
+        }
+    }
+
+    private static Set<String> normalise(final String[] tableNames) {
+        if (tableNames == null) {
+            return null;
+        }
+
+        final Set<String> result = new HashSet<>(tableNames.length * 2);
+        for (final String tableName : tableNames) {
+            result.add(tableName.toLowerCase(Locale.US));
+        }
+        return result;
+    }
+
+    private static Object readValue(final Cursor cursor, final int column) {
+        switch (cursor.getType(column)) {
+            case Cursor.FIELD_TYPE_NULL:
+                return null;
+            case Cursor.FIELD_TYPE_INTEGER:
+                return cursor.getLong(column);
+            case Cursor.FIELD_TYPE_FLOAT:
+                return cursor.getDouble(column);
+            case Cursor.FIELD_TYPE_BLOB:
+                return cursor.getBlob(column);
+            default:
+                return cursor.getString(column);
+        }
+    }
+
+    private static class SnapshotCursor extends AbstractCursor {
+        private final CursorSnapshot mSnapshot;
+
+        public SnapshotCursor(final CursorSnapshot snapshot) {
+            mSnapshot = snapshot;
+        }
+
+        @Override
+        public byte[] getBlob(final int column) {
+            final Object value = get(column);
+            if (value == null) {
+                return null;
+            } else if (value instanceof byte[]) {
+                // Copied, so that the snapshot cannot be changed through it
+                return ((byte[]) value).clone();
+            } else if (value instanceof String) {
+                return ((String) value).getBytes(UTF_8);
+            } else {
+                throw new SQLiteException("Unable to convert a number to a BLOB");
+            }
+        }
+
+        @Override
+        public String[] getColumnNames() {
+            return mSnapshot.mColumnNames;
+        }
+
+        @Override
+        public int getCount() {
+            return mSnapshot.mRowCount;
+        }
+
+        @Override
+        public double getDouble(final int column) {
+            final Object value = get(column);
+            if (value == null) {
+                return 0;
+            } else if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            } else {
+                return parseDouble(toText(value));
+            }
+        }
+
+        @Override
+        public float getFloat(final int column) {
+            return (float) getDouble(column);
+        }
+
+        @Override
+        public int getInt(final int column) {
+            return (int) getLong(column);
+        }
+
+        @Override
+        public long getLong(final int column) {
+            final Object value = get(column);
+            if (value == null) {
+                return 0;
+            } else if (value instanceof Long) {
+                return (Long) value;
+            } else if (value instanceof Double) {
+                return ((Double) value).longValue();
+            } else {
+                final String text = toText(value).trim();
+                try {
+                    return Long.parseLong(text);
+                } catch (final NumberFormatException e) {
+                    return (long) parseDouble(text);
+                }
+            }
+        }
+
+        @Override
+        public short getShort(final int column) {
+            return (short) getLong(column);
+        }
+
+        @Override
+        public String getString(final int column) {
+            final Object value = get(column);
+            return value == null ? null : toText(value);
+        }
+
+        @Override
+        public int getType(final int column) {
+            final Object value = get(column);
+            if (value == null) {
+                return FIELD_TYPE_NULL;
+            } else if (value instanceof Long) {
+                return FIELD_TYPE_INTEGER;
+            } else if (value instanceof Double) {
+                return FIELD_TYPE_FLOAT;
+            } else if (value instanceof byte[]) {
+                return FIELD_TYPE_BLOB;
+            } else {
+                return FIELD_TYPE_STRING;
+            }
+        }
+
+        @Override
+        public boolean isNull(final int column) {
+            return get(column) == null;
+        }
+
+        private Object get(final int column) {
+            checkPosition();
+            if (column < 0 || column >= mSnapshot.mColumns.length) {
+                throw new IndexOutOfBoundsException("Requested column: " + column + ", # of columns: " + mSnapshot.mColumns.length);
+            }
+            return mSnapshot.mColumns[column][getPosition()];
+        }
+
+        private static double parseDouble(final String text) {
+            try {
+                return Double.parseDouble(text);
+            } catch (final NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        private static String toText(final Object value) {
+            if (value instanceof byte[]) {
+                throw new SQLiteException("Unable to convert BLOB to string");
+            }
+            return value.toString();
+        }
+    }
+}
@@ -22,13 +22,21 @@ package dev.alt236.easycursor.sqlcursor;
 import android.annotation.TargetApi;
 import android.database.Cursor;
 import android.database.CursorWrapper;
+import android.database.sqlite.SQLiteCursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.os.Build;
 import android.util.Log;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+import dev.alt236.easycursor.internal.ColumnNameIndex;
+import dev.alt236.easycursor.internal.conversion.ConversionPlans;
+import dev.alt236.easycursor.objectcursor.EasyObjectCursor;
 import dev.alt236.easycursor.sqlcursor.querymodels.SqlQueryModel;
 
 public class EasySqlCursor extends CursorWrapper implements EasyCursor {
@@ -45,6 +53,9 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
     private final static int COLUMN_NOT_PRESENT = -1;
     private final BooleanLogic mBooleanLogic;
     private final SqlQueryModel mModel;
+    private final ConversionPlans mConversionPlans;
+    private final TypeConverterRegistry mTypeConverters;
+    private ColumnNameIndex mColumnNameIndex;
 
     private boolean mDebugEnabled;
 
@@ -85,6 +96,8 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         } else {
             mBooleanLogic = booleanLogic;
         }
+        mConversionPlans = new ConversionPlans(cursor.getColumnCount());
+        mTypeConverters = new TypeConverterRegistry();
     }
 
     /**
@@ -99,6 +112,20 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return mBooleanLogic.isTrue(this, columnNumber);
     }
 
+    /**
+     * Resolves a column once, so that it can be read without looking its name up again.
+     *
+     * @param columnName the column name
+     * @return the handle. If the column does not exist, reads through the handle behave as they do for the name.
+     */
+    public ColumnHandle column(final String columnName) {
+        return new ColumnHandle(this, columnName, getColumnIndex(columnName));
+    }
+
+    public byte[] getBlob(final ColumnHandle column) {
+        return getBlob(getIndexOrThrow(column));
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#getBlob(java.lang.String)
      */
@@ -123,6 +150,50 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return calcBoolean(columnNumber);
     }
 
+    public boolean getBoolean(final ColumnHandle column) {
+        return calcBoolean(getIndexOrThrow(column));
+    }
+
+    /**
+     * Returns the index of a column, ignoring case. Names qualified with a table, such as "tracks.name",
+     * are also matched against the part after the last dot, as the platform cursors do.
+     * <p>
+     * The lookup uses a table of the column names, which is built the first time it is needed.
+     * Of duplicate names, as in a join which selects "a._id" and "b._id", the last one wins when wrapping
+     * an {@link SQLiteCursor}, and the first one otherwise, as in the wrapped cursor itself.
+     *
+     * @param columnName the column name
+     * @return the column index, or -1 if there is no such column
+     */
+    @Override
+    public int getColumnIndex(final String columnName) {
+        if (mColumnNameIndex == null) {
+            mColumnNameIndex = new ColumnNameIndex(getColumnNames(), getWrappedCursor() instanceof SQLiteCursor);
+        }
+
+        final int index = mColumnNameIndex.indexOf(columnName);
+        if (index == COLUMN_NOT_PRESENT && columnName != null) {
+            final int periodIndex = columnName.lastIndexOf('.');
+            if (periodIndex != -1) {
+                return mColumnNameIndex.indexOf(columnName.substring(periodIndex + 1));
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public int getColumnIndexOrThrow(final String columnName) {
+        final int index = getColumnIndex(columnName);
+        if (index == COLUMN_NOT_PRESENT) {
+            throw new IllegalArgumentException("column '" + columnName + "' does not exist");
+        }
+        return index;
+    }
+
+    public double getDouble(final ColumnHandle column) {
+        return getDouble(getIndexOrThrow(column));
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#getDouble(java.lang.String)
      */
@@ -131,6 +202,10 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return getDouble(getColumnIndexOrThrow(columnName));
     }
 
+    public float getFloat(final ColumnHandle column) {
+        return getFloat(getIndexOrThrow(column));
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#getFloat(java.lang.String)
      */
@@ -139,6 +214,25 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return getFloat(getColumnIndexOrThrow(columnName));
     }
 
+    private int getIndex(final ColumnHandle column) {
+        if (column.getCursor() != this) {
+            throw new IllegalArgumentException("The handle of column '" + column.getName() + "' belongs to another cursor");
+        }
+        return column.getIndex();
+    }
+
+    private int getIndexOrThrow(final ColumnHandle column) {
+        final int index = getIndex(column);
+        if (index == COLUMN_NOT_PRESENT) {
+            throw new IllegalArgumentException("column '" + column.getName() + "' does not exist");
+        }
+        return index;
+    }
+
+    public int getInt(final ColumnHandle column) {
+        return getInt(getIndexOrThrow(column));
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#getInt(java.lang.String)
      */
@@ -147,6 +241,10 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return getInt(getColumnIndexOrThrow(columnName));
     }
 
+    public long getLong(final ColumnHandle column) {
+        return getLong(getIndexOrThrow(column));
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#getLong(java.lang.String)
      */
@@ -167,11 +265,19 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return mModel;
     }
 
+    public short getShort(final ColumnHandle column) {
+        return getShort(getIndexOrThrow(column));
+    }
+
     @Override
     public short getShort(final String columnName) {
         return getShort(getColumnIndexOrThrow(columnName));
     }
 
+    public String getString(final ColumnHandle column) {
+        return getString(getIndexOrThrow(column));
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#getString(java.lang.String)
      */
@@ -180,6 +286,50 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return getString(getColumnIndexOrThrow(columnName));
     }
 
+    @Override
+    public TypeConverterRegistry getTypeConverters() {
+        return mTypeConverters;
+    }
+
+    /**
+     * Returns the value of the requested column converted to the given type.
+     * <p>
+     * The value is read as the type SQLite stored it with, i.e. a Long, Double, String or byte[],
+     * and then converted as described in {@link EasyCursor#getValue(String, Class)}.
+     *
+     * @param columnIndex the column index
+     * @param type        the type to convert to
+     * @param <R>         the type to convert to
+     * @return the value from cursor, or null if the value is null
+     */
+    public <R> R getValue(final int columnIndex, final Class<R> type) {
+        return mConversionPlans.convert(mTypeConverters, columnIndex, getStoredValue(columnIndex), type);
+    }
+
+    public <R> R getValue(final ColumnHandle column, final Class<R> type) {
+        return getValue(getIndexOrThrow(column), type);
+    }
+
+    @Override
+    public <R> R getValue(final String columnName, final Class<R> type) {
+        return getValue(getColumnIndexOrThrow(columnName), type);
+    }
+
+    private Object getStoredValue(final int columnIndex) {
+        switch (getType(columnIndex)) {
+            case FIELD_TYPE_NULL:
+                return null;
+            case FIELD_TYPE_INTEGER:
+                return getLong(columnIndex);
+            case FIELD_TYPE_FLOAT:
+                return getDouble(columnIndex);
+            case FIELD_TYPE_BLOB:
+                return getBlob(columnIndex);
+            default:
+                return getString(columnIndex);
+        }
+    }
+
     protected boolean isColumnPresent(final String columnName, final int columnNo) {
         if (columnNo == COLUMN_NOT_PRESENT) {
             if (mDebugEnabled) {
@@ -199,6 +349,14 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         mDebugEnabled = enabled;
     }
 
+    /**
+     * @return true if the value is null, or the cursor does not have the column
+     */
+    public boolean isNull(final ColumnHandle column) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT || isNull(index);
+    }
+
     @Override
     public boolean isNull(final String columnName) {
         return isNull(getColumnIndex(columnName));
@@ -218,6 +376,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optBoolean(columnName, DEFAULT_BOOLEAN);
     }
 
+    public boolean optBoolean(final ColumnHandle column, final boolean fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : calcBoolean(index);
+    }
+
     /**
      * Extracts the contents of a cursors Column as a Boolean.
      * If the column does not exist, it will return the fallback value;
@@ -272,6 +435,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optDouble(columnName, DEFAULT_DOUBLE);
     }
 
+    public double optDouble(final ColumnHandle column, final double fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : getDouble(index);
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#optDouble(java.lang.String, double)
      */
@@ -311,6 +479,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optFloat(columnName, DEFAULT_FLOAT);
     }
 
+    public float optFloat(final ColumnHandle column, final float fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : getFloat(index);
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#optFloat(java.lang.String, float)
      */
@@ -350,6 +523,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optInt(columnName, DEFAULT_INT);
     }
 
+    public int optInt(final ColumnHandle column, final int fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : getInt(index);
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#optInt(java.lang.String, int)
      */
@@ -389,6 +567,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optLong(columnName, DEFAULT_LONG);
     }
 
+    public long optLong(final ColumnHandle column, final long fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : getLong(index);
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#optLong(java.lang.String, long)
      */
@@ -422,6 +605,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optShort(columnName, DEFAULT_SHORT);
     }
 
+    public short optShort(final ColumnHandle column, final short fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : getShort(index);
+    }
+
     @Override
     public short optShort(final String columnName, final short fallback) {
         final int columnNo = getColumnIndex(columnName);
@@ -444,6 +632,10 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         }
     }
 
+    public String optString(final ColumnHandle column) {
+        return optString(column, DEFAULT_STRING);
+    }
+
     /**
      * Extracts the contents of a cursors Column as a String.
      * If the column does not exist, it will return {@link #DEFAULT_STRING};
@@ -456,6 +648,11 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         return optString(columnName, DEFAULT_STRING);
     }
 
+    public String optString(final ColumnHandle column, final String fallback) {
+        final int index = getIndex(column);
+        return index == COLUMN_NOT_PRESENT ? fallback : getString(index);
+    }
+
     /* (non-Javadoc)
      * @see uk.co.alt236.easycursor.EasyCursor#optString(java.lang.String, java.lang.String)
      */
@@ -470,6 +667,78 @@ public class EasySqlCursor extends CursorWrapper implements EasyCursor {
         }
     }
 
+    public <R> R optValue(final ColumnHandle column, final Class<R> type) {
+        final int index = getIndex(column);
+        if (index == COLUMN_NOT_PRESENT) {
+            return null;
+        }
+
+        try {
+            return getValue(index, type);
+        } catch (final ConversionErrorException e) {
+            if (mDebugEnabled) {
+                Log.w(TAG, "Failed to convert column '" + column.getName() + "' to " + type.getSimpleName(), e);
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public <R> R optValue(final String columnName, final Class<R> type) {
+        final int columnNo = getColumnIndex(columnName);
+
+        if (isColumnPresent(columnName, columnNo)) {
+            try {
+                return getValue(columnNo, type);
+            } catch (final ConversionErrorException e) {
+                if (mDebugEnabled) {
+                    Log.w(TAG, "Failed to convert column '" + columnName + "' to " + type.getSimpleName(), e);
+                }
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Maps every row of this cursor to an object, in one pass.
+     * <p>
+     * The mapper resolves its columns once, before the first row. The position of the cursor is restored afterwards.
+     *
+     * @param mapper the mapper
+     * @param <T>    the type of the objects
+     * @return the objects, in row order
+     */
+    public <T> List<T> toList(final RowMapper<T> mapper) {
+        final RowMapper.Mapping<T> mapping = mapper.getMapping(this);
+        final List<T> list = new ArrayList<>(getCount());
+        final int position = getPosition();
+
+        if (moveToFirst()) {
+            do {
+                list.add(mapping.map(this));
+            } while (moveToNext());
+        }
+
+        moveToPosition(position);
+        return list;
+    }
+
+    /**
+     * Maps every row of this cursor to an object, and returns an {@link EasyObjectCursor} over them.
+     * See {@link #toList(RowMapper)}. This cursor is left open.
+     *
+     * @param clazz    the class of the objects
+     * @param mapper   the mapper
+     * @param _idAlias the column of the objects to use when "_id" is requested, or null
+     * @param <T>      the type of the objects
+     * @return the object cursor
+     */
+    public <T> EasyObjectCursor<T> toObjectCursor(final Class<T> clazz, final RowMapper<T> mapper, final String _idAlias) {
+        return new EasyObjectCursor<>(clazz, toList(mapper), _idAlias);
+    }
+
     @Override
     public String toString() {
         return "EasyCursor [mModel=" + mModel + ", mDebugEnabled="
@@ -0,0 +1,105 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.CancellationSignal;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import dev.alt236.easycursor.EasyCursor;
+
+/**
+ * The pending result of {@link dev.alt236.easycursor.sqlcursor.querymodels.SqlQueryModel#executeAsync}.
+ * <p>
+ * Cancelling the future also cancels the query, if it is running on API 16 or later.
+ * A cursor which is produced after the future was cancelled is closed, so it never leaks.
+ */
+public class QueryFuture extends FutureTask<EasyCursor> {
+    private final Object mCancellationSignal;
+    private final Callback mCallback;
+
+    /**
+     * @param query              the query
+     * @param cancellationSignal the {@link CancellationSignal} the query was given, or null
+     * @param callback           the callback, or null
+     */
+    public QueryFuture(final Callable<EasyCursor> query, final Object cancellationSignal, final Callback callback) {
+        super(query);
+        mCancellationSignal = cancellationSignal;
+        mCallback = callback;
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled && mCancellationSignal != null) {
+            cancelSignal();
+        }
+        return cancelled;
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void cancelSignal() {
+        ((CancellationSignal) mCancellationSignal).cancel();
+    }
+
+    @Override
+    protected void done() {
+        if (mCallback == null || isCancelled()) {
+            return;
+        }
+
+        try {
+            mCallback.onQueryComplete(get());
+        } catch (final ExecutionException e) {
+            mCallback.onQueryFailed(e.getCause());
+        } catch (final InterruptedException e) {
+            // Cannot happen, as the task is done
+            Thread.currentThread().interrupt();
+        } catch (final CancellationException e) {
+            // Cancelled in between, which is not reported
+        }
+    }
+
+    @Override
+    protected void set(final EasyCursor cursor) {
+        super.set(cursor);
+        // If the future was cancelled while the query ran, nobody will ever get this cursor
+        if (isCancelled() && cursor != null) {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Receives the result of a query, on the thread which ran it.
+     * It is not called if the future is cancelled.
+     */
+    public interface Callback {
+
+        void onQueryComplete(final EasyCursor cursor);
+
+        void onQueryFailed(final Throwable error);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.LruCache;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.sqlcursor.querymodels.SqlQueryModel;
+
+/**
+ * An opt-in cache of query results, for screens which run the same {@link SqlQueryModel} within a short time.
+ * <p>
+ * Results are kept as immutable in-memory snapshots, keyed on the database, the SQL of the model and its selection
+ * arguments. A hit returns an {@link EasySqlCursor} over the snapshot without touching SQLite. The least recently used
+ * snapshots are evicted once their estimated size goes over the limit.
+ * <p>
+ * The cache does not know when a table changes, so whoever writes to one has to call {@link #invalidateTable(String)}.
+ * Results whose tables are not known, see {@link SqlQueryModel#getTableNames()}, are dropped on any invalidation.
+ * <p>
+ * Every cached result references its database, so the cache keeps each database it was used with reachable.
+ * Call {@link #release(SQLiteDatabase)} before closing a database. The results of databases which were closed
+ * regardless are dropped on the next query.
+ */
+public class QueryResultCache {
+    private final Snapshots mSnapshots;
+    // Guarded by this. Changes on every invalidation, so that a query which was running at the time is not cached.
+    private long mGeneration;
+
+    /**
+     * @param maxBytes the maximum estimated size of the cached results
+     */
+    public QueryResultCache(final int maxBytes) {
+        mSnapshots = new Snapshots(maxBytes);
+    }
+
+    /**
+     * Returns the estimated size of the cached results.
+     *
+     * @return the size in bytes
+     */
+    public int getSize() {
+        return mSnapshots.size();
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public synchronized void invalidateAll() {
+        mGeneration++;
+        mSnapshots.evictAll();
+    }
+
+    /**
+     * Drops the cached results which read a table.
+     *
+     * @param tableName the name of the table, which is not case sensitive
+     */
+    public synchronized void invalidateTable(final String tableName) {
+        mGeneration++;
+
+        final String name = tableName.toLowerCase(Locale.US);
+        for (final Map.Entry<Key, CursorSnapshot> entry : mSnapshots.snapshot().entrySet()) {
+            if (entry.getValue().readsTable(name)) {
+                mSnapshots.remove(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Drops the cached results of a database, and stops referencing it.
+     *
+     * @param db the database
+     */
+    public synchronized void release(final SQLiteDatabase db) {
+        mGeneration++;
+
+        for (final Key key : mSnapshots.snapshot().keySet()) {
+            if (key.mDatabase == db) {
+                mSnapshots.remove(key);
+            }
+        }
+    }
+
+    private synchronized void releaseClosed() {
+        for (final Key key : mSnapshots.snapshot().keySet()) {
+            if (!key.mDatabase.isOpen()) {
+                mSnapshots.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the result of a model from the cache, or runs it and caches its result.
+     *
+     * @param db    the database to run the query against
+     * @param model the model
+     * @return an {@link EasySqlCursor} over the result, positioned on the first row
+     */
+    public EasyCursor query(final SQLiteDatabase db, final SqlQueryModel model) {
+        return query(db, model, null);
+    }
+
+    /**
+     * Returns the result of a model from the cache, or runs it and caches its result.
+     *
+     * @param db           the database to run the query against
+     * @param model        the model
+     * @param booleanLogic the {@link BooleanLogic} for the cursor, or null for the {@link DefaultBooleanLogic}
+     * @return an {@link EasySqlCursor} over the result, positioned on the first row
+     */
+    public EasyCursor query(final SQLiteDatabase db, final SqlQueryModel model, final BooleanLogic booleanLogic) {
+        releaseClosed();
+        final Key key = new Key(db, model.getSql(), model.getSelectionArgs());
+
+        CursorSnapshot snapshot = mSnapshots.get(key);
+        if (snapshot == null) {
+            final long generation;
+            synchronized (this) {
+                generation = mGeneration;
+            }
+
+            final EasyCursor cursor = model.execute(db);
+            try {
+                snapshot = CursorSnapshot.of(cursor, model.getTableNames());
+            } finally {
+                cursor.close();
+            }
+
+            synchronized (this) {
+                if (generation == mGeneration) {
+                    mSnapshots.put(key, snapshot);
+                }
+            }
+        }
+
+        final Cursor cursor = snapshot.newCursor();
+        cursor.moveToFirst();
+        return new EasySqlCursor(cursor, model, booleanLogic);
+    }
+
+    private static final class Key {
+        private final SQLiteDatabase mDatabase;
+        private final String mSql;
+        private final String[] mSelectionArgs;
+        private final int mHashCode;
+
+        public Key(final SQLiteDatabase database, final String sql, final String[] selectionArgs) {
+            mDatabase = database;
+            mSql = sql;
+            mSelectionArgs = selectionArgs == null ? new String[0] : selectionArgs.clone();
+            mHashCode = 31 * (31 * database.hashCode() + sql.hashCode()) + Arrays.hashCode(mSelectionArgs);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return mDatabase == key.mDatabase
+                    && mSql.equals(key.mSql)
+                    && Arrays.equals(mSelectionArgs, key.mSelectionArgs);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+    }
+
+    private static class Snapshots extends LruCache<Key, CursorSnapshot> {
+
+        public Snapshots(final int maxBytes) {
+            super(maxBytes);
+        }
+
+        @Override
+        protected int sizeOf(final Key key, final CursorSnapshot value) {
+            return value.getEstimatedSize();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link RowMapper} which creates objects with their no-argument constructor and then fills in
+ * their setters and fields from the columns with the same name.
+ * <p>
+ * A setter "setTrackName(String)" is filled from the column "trackname", and a field "mTrackName" or "trackName"
+ * from the column "trackname". Column names are matched ignoring case, and setters win over fields.
+ * Setters and fields without a matching column are left alone, as are final fields, which are only set by constructors.
+ * <p>
+ * Everything is resolved once per cursor, so mapping a row only reads the bound columns by index.
+ * Primitive fields are filled without boxing. Values of other types are converted with
+ * {@link EasySqlCursor#getValue(int, Class)}, and so can use the type converters of the cursor.
+ *
+ * @param <T> the type this mapper produces
+ */
+public class ReflectiveRowMapper<T> implements RowMapper<T> {
+    private static final String SET = "set";
+    private final Class<T> mClass;
+
+    public ReflectiveRowMapper(final Class<T> clazz) {
+        mClass = clazz;
+    }
+
+    @Override
+    public Mapping<T> getMapping(final EasySqlCursor cursor) {
+        final Constructor<T> constructor;
+        try {
+            constructor = mClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException(mClass.getName() + " does not have a no-argument constructor", e);
+        }
+
+        final List<Target> targets = new ArrayList<>();
+        final Set<Integer> boundColumns = new HashSet<>();
+
+        for (final Method method : mClass.getMethods()) {
+            final String name = method.getName();
+            if (name.length() > SET.length()
+                    && name.startsWith(SET)
+                    && method.getParameterTypes().length == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                final ColumnHandle column = cursor.column(name.substring(SET.length()));
+                if (column.isPresent() && boundColumns.add(column.getIndex())) {
+                    targets.add(new SetterTarget(method, column));
+                }
+            }
+        }
+
+        for (Class<?> clazz = mClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (final Field field : clazz.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+
+                final ColumnHandle column = getColumn(cursor, field.getName());
+                if (column.isPresent() && boundColumns.add(column.getIndex())) {
+                    field.setAccessible(true);
+                    targets.add(new FieldTarget(field, column));
+                }
+            }
+        }
+
+        final Target[] targetArray = targets.toArray(new Target[targets.size()]);
+        return new Mapping<T>() {
+            @Override
+            public T map(final EasySqlCursor cursor) {
+                try {
+                    final T item = constructor.newInstance();
+                    for (final Target target : targetArray) {
+                        target.set(item, cursor);
+                    }
+                    return item;
+                } catch (final InstantiationException e) {
+                    throw new IllegalStateException("Could not create a " + mClass.getName(), e);
+                } catch (final IllegalAccessException e) {
+                    throw new IllegalStateException("Could not create a " + mClass.getName(), e);
+                } catch (final InvocationTargetException e) {
+                    throw new IllegalStateException("Could not create a " + mClass.getName(), e.getCause());
+                }
+            }
+        };
+    }
+
+    private static ColumnHandle getColumn(final EasySqlCursor cursor, final String fieldName) {
+        // "mTrackName" and "m_id" follow the usual member prefix, so try without it first
+        if (fieldName.length() > 1 && fieldName.charAt(0) == 'm'
+                && (Character.isUpperCase(fieldName.charAt(1)) || fieldName.charAt(1) == '_')) {
+            final ColumnHandle column = cursor.column(fieldName.substring(1));
+            if (column.isPresent()) {
+                return column;
+            }
+        }
+        return cursor.column(fieldName);
+    }
+
+    private static Object readValue(final EasySqlCursor cursor, final ColumnHandle column, final Class<?> type) {
+        final int index = column.getIndex();
+        if (!type.isPrimitive() && cursor.isNull(index)) {
+            return null;
+        } else if (type == int.class || type == Integer.class) {
+            return cursor.getInt(index);
+        } else if (type == long.class || type == Long.class) {
+            return cursor.getLong(index);
+        } else if (type == short.class || type == Short.class) {
+            return cursor.getShort(index);
+        } else if (type == double.class || type == Double.class) {
+            return cursor.getDouble(index);
+        } else if (type == float.class || type == Float.class) {
+            return cursor.getFloat(index);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return cursor.getBoolean(column);
+        } else if (type == String.class) {
+            return cursor.getString(index);
+        } else {
+            return cursor.getValue(index, type);
+        }
+    }
+
+    private abstract static class Target {
+        protected final ColumnHandle mColumn;
+
+        private Target(final ColumnHandle column) {
+            mColumn = column;
+        }
+
+        protected abstract void set(final Object item, final EasySqlCursor cursor)
+                throws IllegalAccessException, InvocationTargetException;
+    }
+
+    private static final class FieldTarget extends Target {
+        private final Field mField;
+        private final Class<?> mType;
+
+        private FieldTarget(final Field field, final ColumnHandle column) {
+            super(column);
+            mField = field;
+            mType = field.getType();
+        }
+
+        @Override
+        protected void set(final Object item, final EasySqlCursor cursor) throws IllegalAccessException {
+            if (mType == int.class) {
+                mField.setInt(item, cursor.getInt(mColumn));
+            } else if (mType == long.class) {
+                mField.setLong(item, cursor.getLong(mColumn));
+            } else if (mType == double.class) {
+                mField.setDouble(item, cursor.getDouble(mColumn));
+            } else if (mType == float.class) {
+                mField.setFloat(item, cursor.getFloat(mColumn));
+            } else if (mType == short.class) {
+                mField.setShort(item, cursor.getShort(mColumn));
+            } else if (mType == boolean.class) {
+                mField.setBoolean(item, cursor.getBoolean(mColumn));
+            } else {
+                mField.set(item, readValue(cursor, mColumn, mType));
+            }
+        }
+    }
+
+    private static final class SetterTarget extends Target {
+        private final Method mSetter;
+        private final Class<?> mType;
+
+        private SetterTarget(final Method setter, final ColumnHandle column) {
+            super(column);
+            mSetter = setter;
+            mType = setter.getParameterTypes()[0];
+        }
+
+        @Override
+        protected void set(final Object item, final EasySqlCursor cursor)
+                throws IllegalAccessException, InvocationTargetException {
+            mSetter.invoke(item, readValue(cursor, mColumn, mType));
+        }
+    }
+}
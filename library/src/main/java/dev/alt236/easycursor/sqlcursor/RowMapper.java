@@ -0,0 +1,57 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+/**
+ * Turns the rows of an {@link EasySqlCursor} into objects.
+ * <p>
+ * A cursor asks the mapper for a {@link Mapping} once, before it maps any row, and then uses it for every row.
+ * Implementations should therefore resolve their columns in {@link #getMapping(EasySqlCursor)}, for example
+ * with {@link EasySqlCursor#column(String)}, so that mapping a row only reads by index.
+ * See {@link ReflectiveRowMapper} for a mapper which fills in fields and setters by name.
+ *
+ * @param <T> the type this mapper produces
+ */
+public interface RowMapper<T> {
+
+    /**
+     * Returns a mapping for the rows of a cursor.
+     *
+     * @param cursor the cursor whose rows will be mapped
+     * @return the mapping
+     */
+    Mapping<T> getMapping(final EasySqlCursor cursor);
+
+    /**
+     * Maps the rows of a single cursor.
+     *
+     * @param <T> the type this mapping produces
+     */
+    interface Mapping<T> {
+
+        /**
+         * Maps the current row.
+         *
+         * @param cursor the cursor this mapping was created for, positioned on the row
+         * @return the object
+         */
+        T map(final EasySqlCursor cursor);
+    }
+}
@@ -19,8 +19,11 @@
 
 package dev.alt236.easycursor.sqlcursor.querymodels;
 
+import android.annotation.TargetApi;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.os.Build;
+import android.os.CancellationSignal;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -38,24 +41,28 @@ public class RawQueryModel extends SqlQueryModel {
     private static final int QUERY_TYPE = RawQueryModel.QUERY_TYPE_RAW;
     private static final String FIELD_RAW_SQL = "rawSql";
     private static final String FIELD_SELECTION_ARGS = "selectionArgs";
+    private static final String FIELD_TABLE_NAMES = "tableNames";
 
     //
     // Raw Query
     //
     private final String mRawSql;
     private final String[] mSelectionArgs;
+    private final String[] mTableNames;
 
     public RawQueryModel(final SqlRawQueryBuilder builder) {
         super(builder instanceof QueryModelInfo ? (QueryModelInfo) builder : null,
                 QUERY_TYPE);
         mRawSql = builder.getRawSql();
         mSelectionArgs = builder.getSelectionArgs();
+        mTableNames = builder instanceof RawQueryBuilder ? ((RawQueryBuilder) builder).getTableNames() : null;
     }
 
     public RawQueryModel(final JsonWrapper wrapper) {
         super(wrapper, QUERY_TYPE);
         mRawSql = wrapper.getString(FIELD_RAW_SQL);
         mSelectionArgs = wrapper.getStringArray(FIELD_SELECTION_ARGS);
+        mTableNames = wrapper.getStringArray(FIELD_TABLE_NAMES);
     }
 
     @Override
@@ -63,20 +70,44 @@ public class RawQueryModel extends SqlQueryModel {
         return db.rawQuery(mRawSql, mSelectionArgs);
     }
 
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    @Override
+    protected Cursor executeQueryInternal(final SQLiteDatabase db, final CancellationSignal signal) {
+        return db.rawQuery(mRawSql, mSelectionArgs, signal);
+    }
+
     public String getRawSql() {
         return mRawSql;
     }
 
+    @Override
     public String[] getSelectionArgs() {
         return mSelectionArgs;
     }
 
+    @Override
+    public String getSql() {
+        return mRawSql;
+    }
+
+    /**
+     * Returns the tables declared via {@link SqlQueryModel.RawQueryBuilder#setTableNames(String[])},
+     * as raw SQL is not parsed.
+     *
+     * @return the declared table names, or null if none were declared
+     */
+    @Override
+    public String[] getTableNames() {
+        return mTableNames;
+    }
+
     @Override
     public String toJson() throws JSONException {
         final JSONObject payload = new JSONObject();
         addCommonFields(payload);
         JsonPayloadHelper.add(payload, FIELD_RAW_SQL, getRawSql());
         JsonPayloadHelper.add(payload, FIELD_SELECTION_ARGS, getSelectionArgs());
+        JsonPayloadHelper.add(payload, FIELD_TABLE_NAMES, getTableNames());
 
         return payload.toString();
     }
@@ -86,6 +117,7 @@ public class RawQueryModel extends SqlQueryModel {
         return "RawQueryModel{" +
                 "mRawSql='" + mRawSql + '\'' +
                 ", mSelectionArgs=" + Arrays.toString(mSelectionArgs) +
+                ", mTableNames=" + Arrays.toString(mTableNames) +
                 '}';
     }
 }
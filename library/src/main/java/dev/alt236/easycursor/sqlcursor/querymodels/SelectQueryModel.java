@@ -19,15 +19,22 @@
 
 package dev.alt236.easycursor.sqlcursor.querymodels;
 
+import android.annotation.TargetApi;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteQueryBuilder;
 import android.os.Build;
+import android.os.CancellationSignal;
+import android.text.TextUtils;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import dev.alt236.easycursor.sqlcursor.querybuilders.interfaces.QueryModelInfo;
 import dev.alt236.easycursor.sqlcursor.querybuilders.interfaces.SqlSelectBuilder;
@@ -60,6 +67,9 @@ public class SelectQueryModel extends SqlQueryModel {
     private final String mHaving;
     private final String mSortOrder;
     private final String mLimit;
+    private String mSql;
+    // Guarded by itself. Weak, so that validating against a database does not keep it alive.
+    private final Map<SQLiteDatabase, Boolean> mValidatedDatabases = new WeakHashMap<>();
 
     public SelectQueryModel(final SqlSelectBuilder builder) {
         super(builder instanceof QueryModelInfo ? (QueryModelInfo) builder : null,
@@ -93,8 +103,7 @@ public class SelectQueryModel extends SqlQueryModel {
         mSelectionArgs = wrapper.getStringArray(FIELD_SELECTION_ARGS);
     }
 
-    @Override
-    protected Cursor executeQueryInternal(final SQLiteDatabase db) {
+    private SQLiteQueryBuilder createQueryBuilder() {
         final SQLiteQueryBuilder builder = new SQLiteQueryBuilder();
         builder.setTables(getTables());
         builder.setDistinct(isDistinct());
@@ -102,15 +111,53 @@ public class SelectQueryModel extends SqlQueryModel {
         if (android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
             builder.setStrict(isStrict());
         }
+        return builder;
+    }
+
+    @Override
+    protected Cursor executeQueryInternal(final SQLiteDatabase db) {
+        validateSql(db);
+        return db.rawQueryWithFactory(null, getSql(), getSelectionArgs(), SQLiteDatabase.findEditTable(getTables()));
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    @Override
+    protected Cursor executeQueryInternal(final SQLiteDatabase db, final CancellationSignal signal) {
+        validateSql(db);
+        return db.rawQueryWithFactory(null, getSql(), getSelectionArgs(), SQLiteDatabase.findEditTable(getTables()), signal);
+    }
+
+    /**
+     * In strict mode, checks once per database that the selection compiles when wrapped in parentheses, as
+     * {@link SQLiteQueryBuilder#setStrict(boolean)} does on every query. A selection which
+     * closes the WHERE clause early, for example to append a UNION, does not.
+     */
+    @Override
+    protected void validateSql(final SQLiteDatabase db) {
+        if (!isStrict()
+                || TextUtils.isEmpty(getSelection())
+                || android.os.Build.VERSION.SDK_INT < Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            return;
+        }
+
+        synchronized (mValidatedDatabases) {
+            if (mValidatedDatabases.containsKey(db)) {
+                return;
+            }
+        }
 
-        return builder.query(db,
+        final String sql = createQueryBuilder().buildQuery(
                 getProjectionIn(),
-                getSelection(),
-                getSelectionArgs(),
+                "(" + getSelection() + ")",
                 getGroupBy(),
                 getHaving(),
                 getSortOrder(),
                 getLimit());
+
+        db.compileStatement(sql).close();
+        synchronized (mValidatedDatabases) {
+            mValidatedDatabases.put(db, Boolean.TRUE);
+        }
     }
 
     /**
@@ -169,10 +216,28 @@ public class SelectQueryModel extends SqlQueryModel {
      *
      * @return the Selection clause
      */
+    @Override
     public String[] getSelectionArgs() {
         return mSelectionArgs;
     }
 
+    @Override
+    public String getSql() {
+        // Racing threads would build the same String, so this needs no locking
+        String sql = mSql;
+        if (sql == null) {
+            sql = createQueryBuilder().buildQuery(
+                    getProjectionIn(),
+                    getSelection(),
+                    getGroupBy(),
+                    getHaving(),
+                    getSortOrder(),
+                    getLimit());
+            mSql = sql;
+        }
+        return sql;
+    }
+
     /**
      * Returns the Sort Order clause of this model.
      * If no such clause is set, it return null.
@@ -183,6 +248,31 @@ public class SelectQueryModel extends SqlQueryModel {
         return mSortOrder;
     }
 
+    /**
+     * Returns the names of the tables in the Tables clause of this model, including joined ones.
+     * Aliases and schema names are dropped.
+     *
+     * @return the table names, or null if the clause contains a subquery or is not set
+     */
+    @Override
+    public String[] getTableNames() {
+        if (TextUtils.isEmpty(mTables) || mTables.indexOf('(') >= 0) {
+            return null;
+        }
+
+        final List<String> names = new ArrayList<>();
+        for (final String source : mTables.split(",")) {
+            final String[] tokens = source.trim().split("\\s+");
+            for (int i = 0; i < tokens.length; i++) {
+                // Each source starts with a table, and every JOIN is followed by one
+                if (!tokens[i].isEmpty() && (i == 0 || "JOIN".equalsIgnoreCase(tokens[i - 1]))) {
+                    names.add(unquote(tokens[i].substring(tokens[i].lastIndexOf('.') + 1)));
+                }
+            }
+        }
+        return names.toArray(new String[names.size()]);
+    }
+
     /**
      * Returns the Tables this model is set to run against.
      * If no such clause is set, it return null.
@@ -247,4 +337,12 @@ public class SelectQueryModel extends SqlQueryModel {
                 '}';
     }
 
+    private static String unquote(final String name) {
+        final int length = name.length();
+        if (length >= 2 && "\"`[".indexOf(name.charAt(0)) >= 0) {
+            return name.substring(1, length - 1);
+        }
+        return name;
+    }
+
 }
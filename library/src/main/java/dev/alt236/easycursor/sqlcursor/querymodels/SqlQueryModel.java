@@ -20,19 +20,26 @@
 package dev.alt236.easycursor.sqlcursor.querymodels;
 
 import android.annotation.SuppressLint;
+import android.annotation.TargetApi;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Build;
+import android.os.CancellationSignal;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import dev.alt236.easycursor.EasyCursor;
 import dev.alt236.easycursor.EasyQueryModel;
 import dev.alt236.easycursor.sqlcursor.BooleanLogic;
 import dev.alt236.easycursor.sqlcursor.EasySqlCursor;
+import dev.alt236.easycursor.sqlcursor.QueryFuture;
 import dev.alt236.easycursor.sqlcursor.querybuilders.interfaces.QueryModelInfo;
 import dev.alt236.easycursor.sqlcursor.querybuilders.interfaces.SqlRawQueryBuilder;
 import dev.alt236.easycursor.sqlcursor.querybuilders.interfaces.SqlSelectBuilder;
@@ -139,6 +146,153 @@ public abstract class SqlQueryModel implements EasyQueryModel {
         }
     }
 
+    /**
+     * Executes the query described by this model on a background thread, and fills the first cursor window there,
+     * so that the calling thread never waits on SQLite.
+     *
+     * @param db       the database to run the query against
+     * @param executor the executor to run the query on
+     * @return the pending {@link EasySqlCursor}. Cancelling it cancels the query.
+     */
+    public QueryFuture executeAsync(final SQLiteDatabase db, final Executor executor) {
+        return executeAsync(db, executor, null, true, null);
+    }
+
+    /**
+     * Executes the query described by this model on a background thread.
+     * <p>
+     * On API 16 and later the query is given a {@link CancellationSignal}, which is cancelled
+     * when the returned future is. The cursor is closed if the query fails or is cancelled while it fills
+     * its window, or if it is produced after the future was cancelled.
+     *
+     * @param db           the database to run the query against
+     * @param executor     the executor to run the query on
+     * @param booleanLogic the {@link BooleanLogic} for the cursor, or null for the {@link dev.alt236.easycursor.sqlcursor.DefaultBooleanLogic}
+     * @param prewarm      true to fill the first cursor window on the background thread, and move to the first row
+     *                     as {@link #execute(SQLiteDatabase)} does. If false, the window is filled on first access,
+     *                     and the cursor is positioned before the first row.
+     * @param callback     the callback, which is called on the background thread. Can be null.
+     * @return the pending {@link EasySqlCursor}
+     */
+    @SuppressLint("NewApi")
+    public QueryFuture executeAsync(final SQLiteDatabase db,
+                                    final Executor executor,
+                                    final BooleanLogic booleanLogic,
+                                    final boolean prewarm,
+                                    final QueryFuture.Callback callback) {
+        final Object signal = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN ? new CancellationSignal() : null;
+
+        final QueryFuture future = new QueryFuture(new Callable<EasyCursor>() {
+            @Override
+            public EasyCursor call() {
+                final Cursor cursor = signal == null
+                        ? executeQueryInternal(db)
+                        : executeQueryInternal(db, (CancellationSignal) signal);
+
+                try {
+                    if (prewarm) {
+                        // Counting fills the first cursor window, which is where the query actually runs,
+                        // and so where a cancelled query throws
+                        cursor.getCount();
+                        cursor.moveToFirst();
+                    }
+                    return new EasySqlCursor(cursor, SqlQueryModel.this, booleanLogic);
+                } catch (final RuntimeException e) {
+                    cursor.close();
+                    throw e;
+                }
+            }
+        }, signal, callback);
+
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * Runs a query whose result is a single number, such as a count, through a compiled statement
+     * which is closed afterwards.
+     *
+     * @param db the database to run the query against
+     * @return the value of the first column of the first row
+     * @throws android.database.sqlite.SQLiteDoneException if the query returns no rows
+     */
+    public long executeScalarLong(final SQLiteDatabase db) {
+        return executeScalarLong(db, null);
+    }
+
+    /**
+     * Runs a query whose result is a single number, such as a count, through a compiled statement.
+     * <p>
+     * The statement is kept in the given cache, so a query which is run repeatedly,
+     * for example when polling, is only compiled once.
+     *
+     * @param db    the database to run the query against
+     * @param cache the cache of compiled statements. If null, the statement is compiled for this call only.
+     * @return the value of the first column of the first row
+     * @throws android.database.sqlite.SQLiteDoneException if the query returns no rows
+     */
+    public long executeScalarLong(final SQLiteDatabase db, final StatementCache cache) {
+        final SQLiteStatement statement = acquireStatement(db, cache);
+        try {
+            synchronized (statement) {
+                bindSelectionArgs(statement);
+                return statement.simpleQueryForLong();
+            }
+        } finally {
+            statement.releaseReference();
+        }
+    }
+
+    /**
+     * Runs a query whose result is a single value through a compiled statement which is closed afterwards.
+     *
+     * @param db the database to run the query against
+     * @return the value of the first column of the first row, as a String
+     * @throws android.database.sqlite.SQLiteDoneException if the query returns no rows
+     */
+    public String executeScalarString(final SQLiteDatabase db) {
+        return executeScalarString(db, null);
+    }
+
+    /**
+     * Runs a query whose result is a single value through a compiled statement,
+     * which is cached as in {@link #executeScalarLong(SQLiteDatabase, StatementCache)}.
+     *
+     * @param db    the database to run the query against
+     * @param cache the cache of compiled statements. If null, the statement is compiled for this call only.
+     * @return the value of the first column of the first row, as a String
+     * @throws android.database.sqlite.SQLiteDoneException if the query returns no rows
+     */
+    public String executeScalarString(final SQLiteDatabase db, final StatementCache cache) {
+        final SQLiteStatement statement = acquireStatement(db, cache);
+        try {
+            synchronized (statement) {
+                bindSelectionArgs(statement);
+                return statement.simpleQueryForString();
+            }
+        } finally {
+            statement.releaseReference();
+        }
+    }
+
+    private SQLiteStatement acquireStatement(final SQLiteDatabase db, final StatementCache cache) {
+        validateSql(db);
+        if (cache == null) {
+            // Its only reference is released after the query, which closes it
+            return db.compileStatement(getSql());
+        }
+        return cache.acquire(db, getSql());
+    }
+
+    private void bindSelectionArgs(final SQLiteStatement statement) {
+        statement.clearBindings();
+
+        final String[] args = getSelectionArgs();
+        if (args != null) {
+            statement.bindAllArgsAsStrings(args);
+        }
+    }
+
     @SuppressLint("NewApi")
     private Cursor executeQuery(final SQLiteDatabase db) {
         final Cursor cursor = executeQueryInternal(db);
@@ -149,6 +303,29 @@ public abstract class SqlQueryModel implements EasyQueryModel {
 
     protected abstract Cursor executeQueryInternal(final SQLiteDatabase db);
 
+    /**
+     * Runs the query with a {@link CancellationSignal}. Models which do not override this cannot be cancelled
+     * while their query runs.
+     *
+     * @param db     the database to run the query against
+     * @param signal the signal
+     * @return the cursor
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    protected Cursor executeQueryInternal(final SQLiteDatabase db, final CancellationSignal signal) {
+        return executeQueryInternal(db);
+    }
+
+    /**
+     * Checks the SQL of this model before it is compiled into a cached statement.
+     * Models which need no checks do not override this.
+     *
+     * @param db the database the SQL will be compiled against
+     */
+    protected void validateSql(final SQLiteDatabase db) {
+        // NOOP
+    }
+
     @Override
     public String getModelComment() {
         return mModelComment;
@@ -179,6 +356,28 @@ public abstract class SqlQueryModel implements EasyQueryModel {
         mModelVersion = modelVersion;
     }
 
+    /**
+     * Returns the selection arguments of this model, which are bound to the '?' placeholders of its SQL.
+     *
+     * @return the selection arguments, or null if there are none
+     */
+    public abstract String[] getSelectionArgs();
+
+    /**
+     * Returns the SQL this model runs. It is generated once, as the model does not change.
+     *
+     * @return the SQL
+     */
+    public abstract String getSql();
+
+    /**
+     * Returns the names of the tables this model reads, which a {@link dev.alt236.easycursor.sqlcursor.QueryResultCache}
+     * uses to invalidate its results.
+     *
+     * @return the table names, or null if they are not known
+     */
+    public abstract String[] getTableNames();
+
     /**
      * Gets the type of this query.
      * The supported types are provided as QUERY_TYPE_* constants in this class
@@ -225,6 +424,7 @@ public abstract class SqlQueryModel implements EasyQueryModel {
         //
         private String rawSql;
         private String[] selectionArgs;
+        private String[] tableNames;
 
         public SqlQueryModel build() {
             return new RawQueryModel(this);
@@ -295,6 +495,21 @@ public abstract class SqlQueryModel implements EasyQueryModel {
             this.selectionArgs = args;
             return this;
         }
+
+        public String[] getTableNames() {
+            return tableNames;
+        }
+
+        /**
+         * Declares the tables the raw SQL reads, so that cached results of this model
+         * can be invalidated by table. See {@link SqlQueryModel#getTableNames()}.
+         *
+         * @param tableNames the table names
+         */
+        public RawQueryBuilder setTableNames(final String[] tableNames) {
+            this.tableNames = tableNames;
+            return this;
+        }
     }
 
 
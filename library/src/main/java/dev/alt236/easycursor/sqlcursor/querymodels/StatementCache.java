@@ -0,0 +1,132 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor.querymodels;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.util.LruCache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps the most recently used compiled statements of each database, so that a scalar query which runs
+ * repeatedly, see {@link SqlQueryModel#executeScalarLong(SQLiteDatabase, StatementCache)}, is only compiled once.
+ * <p>
+ * Every statement references its database, so the cache keeps each database it was used with reachable.
+ * Call {@link #release(SQLiteDatabase)} before closing a database, or {@link #close()} once the cache is no
+ * longer needed. Databases which were closed regardless are released on the next use of the cache.
+ * <p>
+ * A statement is handed out with an extra reference, so releasing or evicting it while it is in use
+ * does not close it under its user.
+ */
+public class StatementCache {
+    private final int mMaxStatementsPerDatabase;
+    // Guarded by this
+    private final Map<SQLiteDatabase, Statements> mCaches = new HashMap<>();
+
+    /**
+     * @param maxStatementsPerDatabase the number of statements to keep for each database
+     */
+    public StatementCache(final int maxStatementsPerDatabase) {
+        mMaxStatementsPerDatabase = maxStatementsPerDatabase;
+    }
+
+    /**
+     * Closes the statements of all databases.
+     */
+    public synchronized void close() {
+        for (final Statements statements : mCaches.values()) {
+            statements.evictAll();
+        }
+        mCaches.clear();
+    }
+
+    /**
+     * Closes the statements of a database, and stops referencing it.
+     *
+     * @param db the database
+     */
+    public synchronized void release(final SQLiteDatabase db) {
+        final Statements statements = mCaches.remove(db);
+        if (statements != null) {
+            statements.evictAll();
+        }
+    }
+
+    /**
+     * Returns the compiled statement for some SQL, compiling it if it is not cached.
+     * The caller must call {@link SQLiteStatement#releaseReference()} once done with it.
+     *
+     * @param db  the database
+     * @param sql the SQL
+     * @return the statement
+     */
+    /* package */ synchronized SQLiteStatement acquire(final SQLiteDatabase db, final String sql) {
+        releaseClosed();
+
+        Statements statements = mCaches.get(db);
+        if (statements == null) {
+            statements = new Statements(mMaxStatementsPerDatabase);
+            mCaches.put(db, statements);
+        }
+
+        SQLiteStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = db.compileStatement(sql);
+            statements.put(sql, statement);
+        }
+
+        statement.acquireReference();
+        return statement;
+    }
+
+    /* package */ synchronized int size(final SQLiteDatabase db) {
+        final Statements statements = mCaches.get(db);
+        return statements == null ? 0 : statements.size();
+    }
+
+    private void releaseClosed() {
+        final Iterator<Map.Entry<SQLiteDatabase, Statements>> iterator = mCaches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<SQLiteDatabase, Statements> entry = iterator.next();
+            if (!entry.getKey().isOpen()) {
+                entry.getValue().evictAll();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Statements extends LruCache<String, SQLiteStatement> {
+
+        public Statements(final int maxStatements) {
+            super(maxStatements);
+        }
+
+        @Override
+        protected void entryRemoved(final boolean evicted,
+                                    final String sql,
+                                    final SQLiteStatement oldValue,
+                                    final SQLiteStatement newValue) {
+            oldValue.close();
+        }
+    }
+}
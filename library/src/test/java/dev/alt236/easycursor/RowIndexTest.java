@@ -0,0 +1,112 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import dev.alt236.easycursor.internal.RowIndexes;
+
+/**
+ *
+ */
+public class RowIndexTest extends TestCase {
+
+    public void testDuplicatesPointAtTheFirstRow() {
+        final long[] keys = new long[]{7, 3, 7, 3};
+        assertEquals(0, RowIndex.create("id", RowIndex.Type.HASH, keys, null).getRow(7));
+        assertEquals(1, RowIndex.create("id", RowIndex.Type.HASH, keys, null).getRow(3));
+        assertEquals(0, RowIndex.create("id", RowIndex.Type.SORTED, keys, null).getRow(7));
+        assertEquals(1, RowIndex.create("id", RowIndex.Type.SORTED, keys, null).getRow(3));
+    }
+
+    public void testHashIndexHasNoRanges() {
+        try {
+            RowIndex.create("id", RowIndex.Type.HASH, new long[]{1}, null).getRows(0, 1);
+            fail("Expected an UnsupportedOperationException");
+        } catch (final UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    public void testLookupsMatchAScan() {
+        final Random random = new Random(42);
+        final long[] keys = new long[5000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(2000) - 1000;
+        }
+
+        final RowIndex hash = RowIndex.create("id", RowIndex.Type.HASH, keys, null);
+        final RowIndex sorted = RowIndex.create("id", RowIndex.Type.SORTED, keys, null);
+        for (long key = -1100; key < 1100; key++) {
+            int expected = -1;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, hash.getRow(key));
+            assertEquals(expected, sorted.getRow(key));
+        }
+    }
+
+    public void testNullsAreNotIndexed() {
+        final long[] keys = new long[]{0, 0, 5};
+        final boolean[] nulls = new boolean[]{true, false, false};
+
+        assertEquals(1, RowIndex.create("id", RowIndex.Type.HASH, keys, nulls).getRow(0));
+        assertEquals(1, RowIndex.create("id", RowIndex.Type.SORTED, keys, nulls).getRow(0));
+        assertTrue(Arrays.equals(new int[]{1, 2},
+                RowIndex.create("id", RowIndex.Type.SORTED, keys, nulls).getRows(Long.MIN_VALUE, Long.MAX_VALUE)));
+    }
+
+    public void testRanges() {
+        final RowIndex index = RowIndex.create("id", RowIndex.Type.SORTED, new long[]{30, 10, 20, 10, 40}, null);
+
+        assertTrue(Arrays.equals(new int[]{1, 3, 2}, index.getRows(10, 20)));
+        assertTrue(Arrays.equals(new int[]{2, 0}, index.getRows(11, 39)));
+        assertTrue(Arrays.equals(new int[]{4}, index.getRows(40, Long.MAX_VALUE)));
+        assertEquals(0, index.getRows(41, 100).length);
+        assertEquals(0, index.getRows(20, 10).length);
+        assertEquals(5, index.getRowCount());
+    }
+
+    public void testValuesMustBeIntegral() {
+        final RowIndex index = RowIndexes.create("id", RowIndex.Type.HASH, new Object[]{1, 2L, null, 3.0d});
+        assertEquals(3, index.getRow(3));
+        assertEquals(-1, index.getRow(0));
+
+        try {
+            RowIndexes.create("id", RowIndex.Type.HASH, new Object[]{1, 2.5d});
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            RowIndexes.create("id", RowIndex.Type.SORTED, new Object[]{"1"});
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
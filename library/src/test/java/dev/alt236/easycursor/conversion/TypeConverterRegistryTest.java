@@ -0,0 +1,117 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.conversion;
+
+import junit.framework.TestCase;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.UUID;
+
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ *
+ */
+public class TypeConverterRegistryTest extends TestCase {
+
+    public void testBigDecimal() {
+        final TypeConverter<? extends BigDecimal> converter = new TypeConverterRegistry().find(BigDecimal.class);
+
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE), converter.getConversion(Long.class).convert(Long.MAX_VALUE));
+        assertEquals(new BigDecimal("0.1"), converter.getConversion(Double.class).convert(0.1d));
+        assertEquals(new BigDecimal("0.1"), converter.getConversion(Float.class).convert(0.1f));
+        assertEquals(new BigDecimal("12.50"), converter.getConversion(String.class).convert(" 12.50 "));
+        assertEquals(BigDecimal.TEN, converter.getConversion(BigInteger.class).convert(BigInteger.TEN));
+        assertNull(converter.getConversion(Boolean.class));
+    }
+
+    public void testDate() {
+        final TypeConverter<? extends Date> converter = new TypeConverterRegistry().find(Date.class);
+
+        assertEquals(new Date(1000L), converter.getConversion(Long.class).convert(1000L));
+        assertEquals(new Date(-1000L), converter.getConversion(String.class).convert("-1000"));
+        assertEquals(new Date(86400000L), converter.getConversion(String.class).convert("1970-01-02 00:00:00"));
+        assertNull(converter.getConversion(byte[].class));
+
+        try {
+            converter.getConversion(String.class).convert("1970-01-02T00:00:00Z");
+            fail("Expected a ConversionErrorException");
+        } catch (final ConversionErrorException e) {
+            // expected
+        }
+    }
+
+    public void testEnum() {
+        final TypeConverter<? extends Sample> converter = new TypeConverterRegistry().find(Sample.class);
+
+        assertEquals(Sample.SECOND, converter.getConversion(String.class).convert("SECOND"));
+        assertEquals(Sample.FIRST, converter.getConversion(Long.class).convert(0L));
+        assertNull(converter.getConversion(Double.class));
+
+        try {
+            converter.getConversion(Integer.class).convert(2);
+            fail("Expected a ConversionErrorException");
+        } catch (final ConversionErrorException e) {
+            // expected
+        }
+    }
+
+    public void testLocalConvertersShadowGlobal() {
+        final TypeConverterRegistry registry = new TypeConverterRegistry();
+        final TypeConverter<UUID> converter = new TypeConverter<UUID>() {
+            @Override
+            public Conversion<UUID> getConversion(final Class<?> sourceType) {
+                return null;
+            }
+        };
+
+        final int version = registry.getModificationCount();
+        registry.register(UUID.class, converter);
+        assertSame(converter, registry.find(UUID.class));
+        assertNotSame(converter, TypeConverterRegistry.getGlobal().find(UUID.class));
+        assertTrue(version != registry.getModificationCount());
+
+        registry.unregister(UUID.class);
+        assertSame(TypeConverterRegistry.getGlobal().find(UUID.class), registry.find(UUID.class));
+    }
+
+    public void testUnknownType() {
+        assertNull(new TypeConverterRegistry().find(StringBuilder.class));
+    }
+
+    public void testUuid() {
+        final TypeConverter<? extends UUID> converter = new TypeConverterRegistry().find(UUID.class);
+        final UUID uuid = UUID.fromString("01234567-89ab-cdef-0123-456789abcdef");
+        final byte[] bytes = new byte[]{
+                0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab, (byte) 0xcd, (byte) 0xef,
+                0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab, (byte) 0xcd, (byte) 0xef};
+
+        assertEquals(uuid, converter.getConversion(String.class).convert(uuid.toString()));
+        assertEquals(uuid, converter.getConversion(byte[].class).convert(bytes));
+        assertNull(converter.getConversion(Long.class));
+    }
+
+    private enum Sample {
+        FIRST,
+        SECOND
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+import junit.framework.TestCase;
+
+/**
+ *
+ */
+public class ColumnNameIndexTest extends TestCase {
+
+    public void testCaseInsensitiveLookup() {
+        final ColumnNameIndex index = new ColumnNameIndex(new String[]{"_id", "track", "album", "meaninglesssum"});
+
+        assertEquals(0, index.indexOf("_id"));
+        assertEquals(0, index.indexOf("_ID"));
+        assertEquals(1, index.indexOf("Track"));
+        assertEquals(2, index.indexOf("ALBUM"));
+        assertEquals(3, index.indexOf("meaninglessSum"));
+    }
+
+    public void testDuplicatesKeepFirst() {
+        final ColumnNameIndex index = new ColumnNameIndex(new String[]{"name", "NAME", "other"});
+
+        assertEquals(0, index.indexOf("name"));
+        assertEquals(0, index.indexOf("NAME"));
+        assertEquals(2, index.indexOf("other"));
+    }
+
+    public void testEmpty() {
+        final ColumnNameIndex index = new ColumnNameIndex(new String[0]);
+
+        assertEquals(-1, index.indexOf("anything"));
+        assertEquals(-1, index.indexOf(null));
+    }
+
+    public void testManyColumns() {
+        final String[] names = new String[500];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "column" + i;
+        }
+
+        final ColumnNameIndex index = new ColumnNameIndex(names);
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(i, index.indexOf("COLUMN" + i));
+        }
+    }
+
+    public void testMissing() {
+        final ColumnNameIndex index = new ColumnNameIndex(new String[]{"track", "album"});
+
+        assertEquals(-1, index.indexOf("tracks"));
+        assertEquals(-1, index.indexOf("trac"));
+        assertEquals(-1, index.indexOf(""));
+        assertEquals(-1, index.indexOf(null));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+
+/**
+ *
+ */
+public class ParallelRangesTest extends TestCase {
+
+    public void testEmptyRange() {
+        final List<int[]> results = ParallelRanges.map(0, 10, 4, new RangeRecorder());
+
+        assertEquals(1, results.size());
+        assertEquals(0, results.get(0)[0]);
+        assertEquals(0, results.get(0)[1]);
+    }
+
+    public void testExceptionsArePropagated() {
+        try {
+            ParallelRanges.map(100, 10, 4, new ParallelRanges.RangeTask<Object>() {
+                @Override
+                public Object run(final int from, final int to) {
+                    if (from > 0) {
+                        throw new IllegalStateException("from " + from);
+                    }
+                    return null;
+                }
+            });
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException e) {
+            assertTrue(e.getMessage().startsWith("from "));
+        }
+    }
+
+    public void testRangesAreContiguousAndOrdered() {
+        final List<int[]> results = ParallelRanges.map(1003, 100, 4, new RangeRecorder());
+
+        assertEquals(4, results.size());
+        int expectedFrom = 0;
+        for (final int[] range : results) {
+            assertEquals(expectedFrom, range[0]);
+            assertTrue(range[1] > range[0]);
+            expectedFrom = range[1];
+        }
+        assertEquals(1003, expectedFrom);
+    }
+
+    public void testSmallRangesAreNotSplit() {
+        assertEquals(1, ParallelRanges.map(99, 100, 4, new RangeRecorder()).size());
+        assertEquals(1, ParallelRanges.getChunkCount(99, 100));
+    }
+
+    private static final class RangeRecorder implements ParallelRanges.RangeTask<int[]> {
+        @Override
+        public int[] run(final int from, final int to) {
+            return new int[]{from, to};
+        }
+    }
+}
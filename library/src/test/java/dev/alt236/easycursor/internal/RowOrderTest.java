@@ -0,0 +1,85 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ *
+ */
+public class RowOrderTest extends TestCase {
+
+    public void testCompose() {
+        assertTrue(Arrays.equals(new int[]{2, 0}, RowOrder.compose(null, new int[]{2, 0})));
+        assertTrue(Arrays.equals(new int[]{7, 5}, RowOrder.compose(new int[]{5, 6, 7}, new int[]{2, 0})));
+    }
+
+    public void testDescendingIsStable() {
+        final long[] keys = new long[]{1, 2, 1, 2};
+        final int[] rows = RowOrder.sort(keys.length, RowOrder.onLongs(keys, null), false);
+
+        assertTrue(Arrays.equals(new int[]{1, 3, 0, 2}, rows));
+    }
+
+    public void testMixedValuesAreRejected() {
+        try {
+            RowOrder.onValues(new Object[]{"a", 1});
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testNullsComeFirst() {
+        final int[] rows = RowOrder.sort(4, RowOrder.onValues(new Object[]{"b", null, "a", null}), true);
+
+        assertTrue(Arrays.equals(new int[]{1, 3, 2, 0}, rows));
+    }
+
+    public void testNumbersAreComparedAsNumbers() {
+        final int[] rows = RowOrder.sort(3, RowOrder.onValues(new Object[]{10, 9.5d, 2L}), true);
+
+        assertTrue(Arrays.equals(new int[]{2, 1, 0}, rows));
+    }
+
+    public void testSplitSortMatchesSingleSort() {
+        final Random random = new Random(42);
+        final double[] keys = new double[10001];
+        for (int i = 0; i < keys.length; i++) {
+            // Few distinct values, so that stability matters
+            keys[i] = random.nextInt(100);
+        }
+
+        final RowOrder.RowComparator comparator = RowOrder.onDoubles(keys, null);
+        final int[] expected = RowOrder.sort(keys.length, comparator, true, 1);
+        for (int chunks = 2; chunks <= 5; chunks++) {
+            assertTrue(Arrays.equals(expected, RowOrder.sort(keys.length, comparator, true, chunks)));
+        }
+
+        for (int i = 1; i < expected.length; i++) {
+            final boolean ordered = keys[expected[i - 1]] < keys[expected[i]]
+                    || (keys[expected[i - 1]] == keys[expected[i]] && expected[i - 1] < expected[i]);
+            assertTrue(ordered);
+        }
+    }
+}
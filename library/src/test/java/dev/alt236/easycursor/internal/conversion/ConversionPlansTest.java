@@ -0,0 +1,135 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal.conversion;
+
+import junit.framework.TestCase;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import dev.alt236.easycursor.conversion.TypeConverter;
+import dev.alt236.easycursor.conversion.TypeConverterRegistry;
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+
+/**
+ *
+ */
+public class ConversionPlansTest extends TestCase {
+
+    public void testFailures() {
+        final ConversionPlans plans = new ConversionPlans(1);
+        final TypeConverterRegistry registry = new TypeConverterRegistry();
+
+        try {
+            plans.convert(registry, 0, Boolean.TRUE, UUID.class);
+            fail("Expected a ConversionErrorException");
+        } catch (final ConversionErrorException e) {
+            // expected
+        }
+
+        try {
+            // The NumberFormatException of BigDecimal is wrapped
+            plans.convert(registry, 0, "not a number", BigDecimal.class);
+            fail("Expected a ConversionErrorException");
+        } catch (final ConversionErrorException e) {
+            assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+    }
+
+    public void testIdentityAndNull() {
+        final ConversionPlans plans = new ConversionPlans(1);
+        final TypeConverterRegistry registry = new TypeConverterRegistry();
+
+        assertEquals("foo", plans.convert(registry, 0, "foo", String.class));
+        assertEquals("foo", plans.convert(registry, 0, "foo", CharSequence.class));
+        assertNull(plans.convert(registry, 0, null, UUID.class));
+    }
+
+    public void testPlanIsCachedPerColumn() {
+        final CountingConverter converter = new CountingConverter();
+        final TypeConverterRegistry registry = new TypeConverterRegistry();
+        registry.register(Money.class, converter);
+        final ConversionPlans plans = new ConversionPlans(2);
+
+        for (long i = 0; i < 10; i++) {
+            assertEquals(i, plans.convert(registry, 0, i, Money.class).mCents);
+        }
+        assertEquals(1, converter.mLookups);
+
+        plans.convert(registry, 1, 5L, Money.class);
+        assertEquals(2, converter.mLookups);
+
+        // A different source type fails the guard and resolves a new plan
+        assertEquals(7, plans.convert(registry, 0, 7, Money.class).mCents);
+        assertEquals(3, converter.mLookups);
+
+        // Columns out of range are never cached
+        plans.convert(registry, -1, 5L, Money.class);
+        plans.convert(registry, -1, 5L, Money.class);
+        assertEquals(5, converter.mLookups);
+    }
+
+    public void testRegistryChangeInvalidatesPlans() {
+        final TypeConverterRegistry registry = new TypeConverterRegistry();
+        final ConversionPlans plans = new ConversionPlans(1);
+        registry.register(Money.class, new CountingConverter());
+        assertEquals(3, plans.convert(registry, 0, 3L, Money.class).mCents);
+
+        registry.register(Money.class, new TypeConverter<Money>() {
+            @Override
+            public Conversion<Money> getConversion(final Class<?> sourceType) {
+                return new Conversion<Money>() {
+                    @Override
+                    public Money convert(final Object value) {
+                        return new Money(((Number) value).longValue() * 100);
+                    }
+                };
+            }
+        });
+        assertEquals(300, plans.convert(registry, 0, 3L, Money.class).mCents);
+    }
+
+    private static final class CountingConverter implements TypeConverter<Money> {
+        private int mLookups;
+
+        @Override
+        public Conversion<Money> getConversion(final Class<?> sourceType) {
+            mLookups++;
+            if (!Number.class.isAssignableFrom(sourceType)) {
+                return null;
+            }
+
+            return new Conversion<Money>() {
+                @Override
+                public Money convert(final Object value) {
+                    return new Money(((Number) value).longValue());
+                }
+            };
+        }
+    }
+
+    private static final class Money {
+        private final long mCents;
+
+        private Money(final long cents) {
+            mCents = cents;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.internal.conversion;
+
+import junit.framework.TestCase;
+
+/**
+ *
+ */
+public class NumberParserTest extends TestCase {
+    private static final String[] DECIMAL_INPUTS = {
+            "0", "1", "-1", "+1", "1.5", "-1.5", ".5", "5.", "1e10", "1E-10", "-1.5e+3", "1.5f", "2d",
+            " 3.25 ", "NaN", "-Infinity", "+Infinity", "4.9E-324", "1.7976931348623157E308", "0x1p3",
+            "", " ", ".", "-", "+", "e5", "1e", "1.5.5", "abc", "1,5", "--1", "Infinityx", "1.5fd", "0x"
+    };
+    private static final String[] INTEGER_INPUTS = {
+            "0", "1", "-1", "+1", "007", "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "9223372036854775807", "-9223372036854775808", "9223372036854775808", "-9223372036854775809",
+            "32767", "-32768", "32768", "-32769", "\u0661\u0662",
+            "", "-", "+", " 1", "1 ", "1.0", "1e3", "abc", "--1", "+-1", "0x10"
+    };
+
+    private final NumberParser mParser = new NumberParser();
+
+    public void testParseDouble() {
+        for (final String input : DECIMAL_INPUTS) {
+            Double expected;
+            try {
+                expected = Double.parseDouble(input);
+            } catch (final NumberFormatException e) {
+                expected = null;
+            }
+
+            final double actual = mParser.parseDouble(input);
+            assertEquals(input, expected != null, mParser.isLastParseSuccessful());
+            if (expected != null) {
+                assertEquals(input, expected, actual);
+            }
+        }
+    }
+
+    public void testParseFloat() {
+        for (final String input : DECIMAL_INPUTS) {
+            Float expected;
+            try {
+                expected = Float.parseFloat(input);
+            } catch (final NumberFormatException e) {
+                expected = null;
+            }
+
+            final float actual = mParser.parseFloat(input);
+            assertEquals(input, expected != null, mParser.isLastParseSuccessful());
+            if (expected != null) {
+                assertEquals(input, expected, actual);
+            }
+        }
+    }
+
+    public void testParseInt() {
+        for (final String input : INTEGER_INPUTS) {
+            Integer expected;
+            try {
+                expected = Integer.parseInt(input);
+            } catch (final NumberFormatException e) {
+                expected = null;
+            }
+
+            final int actual = mParser.parseInt(input);
+            assertEquals(input, expected != null, mParser.isLastParseSuccessful());
+            if (expected != null) {
+                assertEquals(input, expected.intValue(), actual);
+            }
+        }
+    }
+
+    public void testParseLong() {
+        for (final String input : INTEGER_INPUTS) {
+            Long expected;
+            try {
+                expected = Long.parseLong(input);
+            } catch (final NumberFormatException e) {
+                expected = null;
+            }
+
+            final long actual = mParser.parseLong(input);
+            assertEquals(input, expected != null, mParser.isLastParseSuccessful());
+            if (expected != null) {
+                assertEquals(input, expected.longValue(), actual);
+            }
+        }
+    }
+
+    public void testParseShort() {
+        for (final String input : INTEGER_INPUTS) {
+            Short expected;
+            try {
+                expected = Short.parseShort(input);
+            } catch (final NumberFormatException e) {
+                expected = null;
+            }
+
+            final short actual = mParser.parseShort(input);
+            assertEquals(input, expected != null, mParser.isLastParseSuccessful());
+            if (expected != null) {
+                assertEquals(input, expected.shortValue(), actual);
+            }
+        }
+    }
+}
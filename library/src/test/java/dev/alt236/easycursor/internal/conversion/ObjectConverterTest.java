@@ -21,6 +21,8 @@ package dev.alt236.easycursor.internal.conversion;
 
 import junit.framework.TestCase;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 
@@ -291,4 +293,91 @@ public class ObjectConverterTest extends TestCase {
         assertEquals("true", mObjectConverter.toType(ObjectType.STRING, true));
         assertEquals("false", mObjectConverter.toType(ObjectType.STRING, false));
     }
-}
\ No newline at end of file
+
+    public void testTypedConversions() throws Exception {
+        assertEquals(1, mObjectConverter.toInt(1.0D));
+        assertEquals(1L, mObjectConverter.toLong("1"));
+        assertEquals(1.0D, mObjectConverter.toDouble(1));
+        assertEquals(1.0F, mObjectConverter.toFloat(1L));
+        assertEquals((short) 1, mObjectConverter.toShort("1"));
+        assertTrue(mObjectConverter.toBoolean("true"));
+
+        try {
+            mObjectConverter.toInt("not a number");
+            fail("this should have blown");
+        } catch (final ConversionErrorException e) {
+            // Expected
+        }
+    }
+
+    public void testTryConversions() throws Exception {
+        assertEquals(5, mObjectConverter.tryToInt("5", -1));
+        assertEquals(ConversionStatus.SUCCESS, mObjectConverter.getLastStatus());
+
+        assertEquals(-1, mObjectConverter.tryToInt(null, -1));
+        assertEquals(ConversionStatus.NULL_VALUE, mObjectConverter.getLastStatus());
+
+        assertEquals(-1, mObjectConverter.tryToInt("five", -1));
+        assertEquals(ConversionStatus.FAILED, mObjectConverter.getLastStatus());
+
+        assertEquals(-1L, mObjectConverter.tryToLong(false, -1L));
+        assertEquals(ConversionStatus.FAILED, mObjectConverter.getLastStatus());
+
+        assertEquals(2.5D, mObjectConverter.tryToDouble("2.5", 0D));
+        assertEquals(ConversionStatus.SUCCESS, mObjectConverter.getLastStatus());
+
+        assertEquals(0F, mObjectConverter.tryToFloat(new TestObject(1), 0F));
+        assertEquals(ConversionStatus.FAILED, mObjectConverter.getLastStatus());
+
+        assertEquals((short) 7, mObjectConverter.tryToShort(7, (short) 0));
+        assertEquals(ConversionStatus.SUCCESS, mObjectConverter.getLastStatus());
+
+        assertTrue(mObjectConverter.tryToBoolean(1, true));
+        assertEquals(ConversionStatus.FAILED, mObjectConverter.getLastStatus());
+    }
+
+    public void testByteOrder() throws Exception {
+        final ObjectConverter littleEndian = new ObjectConverter("UTF-8", ByteOrder.LITTLE_ENDIAN);
+
+        final byte[] expectedLong = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0x0102030405060708L).array();
+        assertTrue(Arrays.equals(expectedLong, (byte[]) littleEndian.toType(ObjectType.BYTE_ARRAY, 0x0102030405060708L)));
+        assertEquals(0x0102030405060708L, littleEndian.toLong(expectedLong));
+
+        final byte[] expectedDouble = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putDouble(-1.5d).array();
+        assertTrue(Arrays.equals(expectedDouble, (byte[]) littleEndian.toType(ObjectType.BYTE_ARRAY, -1.5d)));
+        assertEquals(-1.5d, littleEndian.toDouble(expectedDouble));
+
+        final byte[] bigEndianInt = ByteBuffer.allocate(4).putInt(-2).array();
+        assertTrue(Arrays.equals(bigEndianInt, (byte[]) mObjectConverter.toType(ObjectType.BYTE_ARRAY, -2)));
+        assertEquals(-2, mObjectConverter.toInt(bigEndianInt));
+    }
+
+    public void testToByteArrayReuse() throws Exception {
+        final byte[] buffer = new byte[8];
+
+        assertEquals(4, mObjectConverter.toByteArray(Integer.MAX_VALUE, buffer));
+        assertEquals(Integer.MAX_VALUE, mObjectConverter.toInt(Arrays.copyOf(buffer, 4)));
+
+        assertEquals(3, mObjectConverter.toByteArray("foo", buffer));
+        assertEquals("foo", new String(buffer, 0, 3, Charset.forName("UTF-8")));
+
+        final byte[] small = new byte[2];
+        assertEquals(8, mObjectConverter.toByteArray(Long.MAX_VALUE, small));
+        assertEquals((byte) 0x7F, small[0]);
+        assertEquals((byte) 0xFF, small[1]);
+
+        assertEquals(-1, mObjectConverter.toByteArray(null, buffer));
+    }
+
+    public void testUnsupportedEncoding() throws Exception {
+        final ObjectConverter converter = new ObjectConverter("not-a-charset", ByteOrder.BIG_ENDIAN);
+
+        assertEquals("1", converter.toType(ObjectType.STRING, 1));
+        try {
+            converter.toType(ObjectType.STRING, new byte[]{1});
+            fail("this should have blown");
+        } catch (final ConversionErrorException e) {
+            // Expected
+        }
+    }
+}
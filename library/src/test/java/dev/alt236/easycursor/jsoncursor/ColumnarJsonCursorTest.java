@@ -0,0 +1,157 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.common.BaseBehaviourTest;
+import dev.alt236.easycursor.jsoncursor.factory.TestJsonCursorBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class ColumnarJsonCursorTest extends BaseBehaviourTest {
+
+    private ColumnarJsonCursor mSut;
+
+    @Before
+    public void setUp() {
+        mSut = TestJsonCursorBuilder.getColumnarCursor();
+        setCursor(mSut);
+    }
+
+    @After
+    public void tearDown() {
+        mSut.close();
+    }
+
+    @Test
+    public void testEncodings() {
+        final String json = "["
+                + "{\"int\": 1, \"long\": 1, \"double\": 1.5, \"string\": \"a\", \"mixed\": 1, \"bool\": true, \"none\": null},"
+                + "{\"int\": 2, \"long\": 12345678901, \"double\": 2.5, \"string\": \"b\", \"mixed\": \"b\", \"bool\": false},"
+                + "{\"int\": null, \"double\": 3.5, \"string\": \"a\", \"mixed\": 2.5}"
+                + "]";
+        final ColumnarJsonCursor cursor = TestJsonCursorBuilder.getColumnarCursor(json);
+
+        assertEquals(JsonColumnEncoding.INT, cursor.getColumnEncoding(cursor.getColumnIndex("int")));
+        assertEquals(JsonColumnEncoding.LONG, cursor.getColumnEncoding(cursor.getColumnIndex("long")));
+        assertEquals(JsonColumnEncoding.DOUBLE, cursor.getColumnEncoding(cursor.getColumnIndex("double")));
+        assertEquals(JsonColumnEncoding.DICTIONARY, cursor.getColumnEncoding(cursor.getColumnIndex("string")));
+        assertEquals(JsonColumnEncoding.RAW, cursor.getColumnEncoding(cursor.getColumnIndex("mixed")));
+        assertEquals(JsonColumnEncoding.RAW, cursor.getColumnEncoding(cursor.getColumnIndex("bool")));
+        assertEquals(JsonColumnEncoding.RAW, cursor.getColumnEncoding(cursor.getColumnIndex("none")));
+    }
+
+    @Test
+    public void testMatchesEasyJsonCursor() {
+        final EasyCursor expected = TestJsonCursorBuilder.getCursor();
+
+        assertArrayEquals(expected.getColumnNames(), mSut.getColumnNames());
+        while (expected.moveToNext()) {
+            assertTrue(mSut.moveToNext());
+            for (final String column : expected.getColumnNames()) {
+                final int index = expected.getColumnIndex(column);
+
+                assertEquals(column, expected.isNull(index), mSut.isNull(index));
+                assertEquals(column, expected.getString(index), mSut.getString(index));
+                assertEquals(column, expected.optString(column), mSut.optString(column));
+                assertEquals(column, expected.optLongAsWrapperType(column), mSut.optLongAsWrapperType(column));
+                assertEquals(column, expected.optBooleanAsWrapperType(column), mSut.optBooleanAsWrapperType(column));
+                if (!"byte".equals(column)) {
+                    assertEquals(column, expected.getInt(index), mSut.getInt(index));
+                    assertEquals(column, expected.getLong(index), mSut.getLong(index));
+                    assertEquals(column, expected.getShort(index), mSut.getShort(index));
+                    assertEquals(column, expected.getFloat(index), mSut.getFloat(index), 0f);
+                    assertEquals(column, expected.getDouble(index), mSut.getDouble(index), 0d);
+                }
+            }
+        }
+        assertFalse(mSut.moveToNext());
+    }
+
+    @Test
+    public void testMatchesEasyJsonCursorOnLargeData() {
+        final EasyJsonCursor expected = TestJsonCursorBuilder.getLargeCursor(1000);
+        final ColumnarJsonCursor cursor = TestJsonCursorBuilder.getLargeColumnarCursor(1000);
+
+        while (expected.moveToNext()) {
+            assertTrue(cursor.moveToNext());
+            for (int i = 0; i < expected.getColumnCount(); i++) {
+                assertEquals(expected.getString(i), cursor.getString(i));
+                assertEquals(expected.getLong(i), cursor.getLong(i));
+                assertEquals(expected.getDouble(i), cursor.getDouble(i), 0d);
+            }
+        }
+        assertFalse(cursor.moveToNext());
+    }
+
+    @Test
+    public void testMissingAndNullFields() {
+        final ColumnarJsonCursor cursor = TestJsonCursorBuilder.getColumnarCursor(
+                "[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": null}, {\"id\": 3}]");
+
+        cursor.moveToPosition(1);
+        assertTrue(cursor.isNull("name"));
+        assertNull(cursor.getString("name"));
+        assertNull(cursor.optString("name", "fallback"));
+
+        cursor.moveToPosition(2);
+        assertTrue(cursor.isNull("name"));
+        assertEquals("fallback", cursor.optString("name", "fallback"));
+        try {
+            cursor.getString("name");
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReportsBuildTimeAndMemoryUsage() {
+        final ColumnarJsonCursor cursor = TestJsonCursorBuilder.getLargeColumnarCursor(1000);
+
+        assertTrue(cursor.getBuildTimeNanos() > 0);
+        // At least the int, long and double arrays
+        assertTrue(cursor.getEstimatedMemoryUsage() > 1000 * (4 + 8 + 8));
+    }
+
+    @Test
+    public void testStringDictionary() {
+        final ColumnarJsonCursor cursor = TestJsonCursorBuilder.getColumnarCursor(
+                "[{\"s\": \"x\"}, {\"s\": \"y\"}, {\"s\": \"x\"}, {\"s\": null}]");
+
+        final StringBuilder sb = new StringBuilder();
+        while (cursor.moveToNext()) {
+            sb.append(cursor.getString(0)).append(',');
+        }
+        assertEquals("x,y,x,null,", sb.toString());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import android.util.Log;
+
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.robolectric.shadows.ShadowLog;
+
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.jsoncursor.factory.BaselineJsonReader;
+import dev.alt236.easycursor.jsoncursor.factory.TestJsonCursorBuilder;
+
+/**
+ * Measures how many cells per second an {@link EasyJsonCursor} and a {@link ColumnarJsonCursor} can read,
+ * against a {@link BaselineJsonReader} which reads the same cells with the lookups EasyJsonCursor used to make.
+ * Ignored by default, remove the annotation to run it.
+ */
+@Ignore("Benchmark, run manually")
+public class EasyJsonCursorBenchmark extends BaseRobolectricTest {
+    private static final String TAG = EasyJsonCursorBenchmark.class.getSimpleName();
+    private static final int ROWS = 100000;
+    private static final int WARM_UP_PASSES = 15;
+    private static final int MEASURED_PASSES = 5;
+
+    @Before
+    public void setUp() {
+        ShadowLog.stream = System.out;
+    }
+
+    @Test
+    public void testBaselineReads() {
+        final BaselineJsonReader reader = TestJsonCursorBuilder.getLargeBaselineReader(ROWS);
+        measure(BaselineJsonReader.class.getSimpleName(), new Pass() {
+            @Override
+            public long run() {
+                return reader.readAll();
+            }
+        });
+    }
+
+    @Test
+    public void testColumnarTypedReads() {
+        final ColumnarJsonCursor cursor = TestJsonCursorBuilder.getLargeColumnarCursor(ROWS);
+        log(String.format("Built in %d ms, about %d KB",
+                cursor.getBuildTimeNanos() / 1000000, cursor.getEstimatedMemoryUsage() / 1024));
+        measure(cursor);
+    }
+
+    @Test
+    public void testTypedReads() {
+        measure(TestJsonCursorBuilder.getLargeCursor(ROWS));
+    }
+
+    private static void log(final String message) {
+        Log.i(TAG, message);
+    }
+
+    private static void measure(final AbstractJsonCursor cursor) {
+        final int[] columns = new int[]{
+                cursor.getColumnIndex("int"),
+                cursor.getColumnIndex("long"),
+                cursor.getColumnIndex("double"),
+                cursor.getColumnIndex("bool"),
+                cursor.getColumnIndex("string")};
+
+        measure(cursor.getClass().getSimpleName(), new Pass() {
+            @Override
+            public long run() {
+                return readAll(cursor, columns);
+            }
+        });
+    }
+
+    private static void measure(final String name, final Pass pass) {
+        for (int i = 0; i < WARM_UP_PASSES; i++) {
+            pass.run();
+        }
+
+        long cells = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            cells += pass.run();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        log(String.format("%s: %d cells in %d ms: %.0f cells/s",
+                name, cells, elapsed / 1000000, cells * 1e9 / elapsed));
+    }
+
+    private static long readAll(final AbstractJsonCursor cursor, final int[] columns) {
+        long cells = 0;
+        long checksum = 0;
+        cursor.moveToPosition(-1);
+        while (cursor.moveToNext()) {
+            checksum += cursor.getInt(columns[0]);
+            checksum += cursor.getLong(columns[1]);
+            checksum += (long) cursor.getDouble(columns[2]);
+            checksum += cursor.optBoolean("bool") ? 1 : 0;
+            checksum += cursor.isNull(columns[4]) ? 0 : cursor.getString(columns[4]).length();
+            cells += columns.length;
+        }
+
+        if (checksum == 42) {
+            // Keeps the reads from being optimised away
+            Log.v(TAG, "checksum");
+        }
+        return cells;
+    }
+
+    private interface Pass {
+        long run();
+    }
+}
@@ -22,11 +22,19 @@ package dev.alt236.easycursor.jsoncursor;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.util.Date;
+
 import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.RowIndex;
 import dev.alt236.easycursor.common.root.BaseRobolectricTest;
 import dev.alt236.easycursor.jsoncursor.factory.TestJsonCursorBuilder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  *
@@ -49,4 +57,156 @@ public class EasyJsonCursorTest extends BaseRobolectricTest {
         assertEquals(intIndex, idIndex);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConversionFailureCount() {
+        final EasyJsonCursor cursor = (EasyJsonCursor) mSut;
+
+        cursor.moveToFirst();
+        assertEquals(0, cursor.optInt("string", 5));
+        assertEquals(0, cursor.getLong("string"));
+        assertEquals(0, cursor.optInt("bool"));
+        assertEquals(Integer.MIN_VALUE, cursor.getInt("int"));
+
+        cursor.moveToLast();
+        assertEquals(0, cursor.getInt("string"));
+
+        assertEquals(2, cursor.getConversionFailureCount("string"));
+        assertEquals(1, cursor.getConversionFailureCount(cursor.getColumnIndex("bool")));
+        assertEquals(0, cursor.getConversionFailureCount("int"));
+        assertEquals(0, cursor.getConversionFailureCount("not_a_column"));
+
+        cursor.resetConversionFailureCounts();
+        assertEquals(0, cursor.getConversionFailureCount("string"));
+    }
+
+    @Test
+    public void testCurrentObjectFollowsPosition() {
+        final EasyJsonCursor cursor = (EasyJsonCursor) mSut;
+
+        cursor.moveToFirst();
+        assertEquals("foo", cursor.getCurrentJsonObject().optString("string"));
+        cursor.moveToNext();
+        assertEquals("bar", cursor.getCurrentJsonObject().optString("string"));
+        assertEquals("bar", cursor.getString("string"));
+
+        cursor.moveToPosition(-1);
+        assertNull(cursor.getCurrentJsonObject());
+        cursor.moveToLast();
+        assertNull(cursor.getString("string"));
+        assertTrue(cursor.isNull("string"));
+    }
+
+    @Test
+    public void testPaths() {
+        final EasyJsonCursor cursor = TestJsonCursorBuilder.getCursor(
+                "[{\"name\": \"a\", \"meta\": {\"stats\": {\"plays\": 12}, \"a/b\": \"x\"}, \"tracks\": [{\"id\": 5}]},"
+                        + " {\"name\": \"b\", \"meta\": null, \"tracks\": []},"
+                        + " {\"name\": \"c\", \"meta\": {\"stats\": {\"plays\": 3}}}]",
+                SchemaInference.FIRST_ROW)
+                .withPaths("meta.stats.plays", "/meta/a~1b", "tracks.0.id");
+
+        final String[] names = cursor.getColumnNames();
+        assertEquals("tracks.0.id", names[names.length - 1]);
+        assertEquals(names.length - 3, cursor.getColumnIndexOrThrow("meta.stats.plays"));
+
+        cursor.moveToFirst();
+        assertEquals(12, cursor.getInt("meta.stats.plays"));
+        assertEquals(12L, cursor.getLong(cursor.getColumnIndex("meta.stats.plays")));
+        assertEquals("x", cursor.getString("/meta/a~1b"));
+        assertEquals(5, cursor.getInt("tracks.0.id"));
+
+        cursor.moveToNext();
+        assertTrue(cursor.isNull("meta.stats.plays"));
+        assertEquals(0, cursor.getInt("meta.stats.plays"));
+        assertTrue(cursor.isNull("tracks.0.id"));
+
+        cursor.moveToNext();
+        assertTrue(cursor.isNull("/meta/a~1b"));
+        assertEquals("b,c,a,", readNames(cursor.sorted("meta.stats.plays", true)));
+    }
+
+    @Test
+    public void testIndexes() {
+        final EasyJsonCursor cursor = TestJsonCursorBuilder.getCursor(
+                "[{\"id\": 30, \"name\": \"c\"}, {\"id\": null}, {\"id\": 10, \"name\": \"a\"}, {\"id\": 20.0, \"name\": \"b\"}]",
+                SchemaInference.FULL_SCAN);
+
+        assertTrue(cursor.moveToKey("id", 20));
+        assertEquals("b", cursor.getString("name"));
+        assertFalse(cursor.moveToKey("id", 40));
+        assertEquals(3, cursor.getPosition());
+
+        final RowIndex index = cursor.buildIndex("id", RowIndex.Type.SORTED);
+        assertTrue(cursor.moveToKey("id", 10));
+        assertEquals("a", cursor.getString("name"));
+        assertEquals("a,b,c,", readNames(cursor.rangeScan("id", 0, 100)));
+        assertEquals("b,", readNames(cursor.rangeScan("id", 15, 25)));
+
+        final EasyJsonCursor recreated = TestJsonCursorBuilder.getCursor(
+                "[{\"id\": 30, \"name\": \"c\"}, {\"id\": null}, {\"id\": 10, \"name\": \"a\"}, {\"id\": 20.0, \"name\": \"b\"}]",
+                SchemaInference.FULL_SCAN);
+        recreated.addIndex(index);
+        assertEquals("c,", readNames(recreated.rangeScan("id", 30, 30)));
+
+        final EasyJsonCursor other = TestJsonCursorBuilder.getCursor(
+                "[{\"key\": 30}, {\"key\": null}, {\"key\": 10}, {\"key\": 20}]",
+                SchemaInference.FULL_SCAN);
+        try {
+            other.addIndex(index);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static String readNames(final EasyJsonCursor cursor) {
+        final StringBuilder sb = new StringBuilder();
+        while (cursor.moveToNext()) {
+            sb.append(cursor.getString("name")).append(',');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testSortedAndFilteredViews() {
+        final EasyJsonCursor cursor = TestJsonCursorBuilder.getCursor(
+                "[{\"id\": 3, \"name\": \"c\"}, {\"id\": 1}, {\"id\": 2.5, \"name\": \"b\"}, {\"id\": 10, \"name\": \"a\"}]",
+                SchemaInference.FULL_SCAN);
+
+        assertEquals("1,2.5,3,10,", readIds(cursor.sorted("id", true)));
+        assertEquals("10,3,2.5,1,", readIds(cursor.sorted("id", false)));
+        assertEquals("1,10,2.5,3,", readIds(cursor.sorted("name", true)));
+
+        final EasyJsonCursor named = TestJsonCursorBuilder.withField(cursor, "name");
+        assertEquals("3,2.5,10,", readIds(named));
+        assertEquals("10,2.5,3,", readIds(named.sorted("name", true)));
+
+        final EasyJsonCursor view = named.sorted("id", true);
+        view.moveToFirst();
+        assertEquals("b", view.getString("name"));
+        assertEquals("b", view.getCurrentJsonObject().optString("name"));
+    }
+
+    private static String readIds(final EasyJsonCursor cursor) {
+        final StringBuilder sb = new StringBuilder();
+        while (cursor.moveToNext()) {
+            sb.append(cursor.getString("id")).append(',');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testTypedValues() {
+        final EasyJsonCursor cursor = (EasyJsonCursor) mSut;
+
+        cursor.moveToFirst();
+        assertEquals(new Date(Long.MIN_VALUE), cursor.getValue("long", Date.class));
+        assertEquals(BigDecimal.valueOf(Integer.MIN_VALUE), cursor.getValue(cursor.getColumnIndex("int"), BigDecimal.class));
+        assertNull(cursor.optValue("string", Date.class));
+        assertNull(cursor.optValue("not_a_column", Date.class));
+        assertEquals(1, cursor.getConversionFailureCount("string"));
+
+        cursor.moveToLast();
+        assertNull(cursor.optValue("long", Date.class));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import org.junit.Test;
+
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.jsoncursor.factory.TestJsonCursorBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class JsonSchemaTest extends BaseRobolectricTest {
+    private static final String JSON = "["
+            + "{\"id\": 1, \"name\": \"a\"},"
+            + "{\"id\": 2.5, \"name\": null, \"tags\": [1]},"
+            + "{\"id\": 3, \"name\": \"c\", \"owner\": {\"x\": 1}, \"flag\": true},"
+            + "{\"id\": \"4\", \"flag\": false}"
+            + "]";
+
+    @Test
+    public void testEmptyArray() {
+        final EasyJsonCursor cursor = TestJsonCursorBuilder.getCursor("[]", SchemaInference.FIRST_ROW);
+
+        assertEquals(0, cursor.getCount());
+        assertEquals(0, cursor.getColumnNames().length);
+        assertEquals(0, cursor.getSchema().getInspectedRowCount());
+        assertEquals(-1, cursor.getColumnIndex("id"));
+    }
+
+    @Test
+    public void testFirstRow() {
+        final JsonSchema schema = TestJsonCursorBuilder.getCursor(JSON, SchemaInference.FIRST_ROW).getSchema();
+
+        assertArrayEquals(new String[]{"id", "name"}, schema.getColumnNames());
+        assertEquals(JsonColumnType.INTEGER, schema.getColumnType(0));
+        assertEquals(JsonColumnType.STRING, schema.getColumnType(1));
+        assertFalse(schema.isNullable(0));
+        assertFalse(schema.isNullable(1));
+    }
+
+    @Test
+    public void testFirstRows() {
+        final JsonSchema schema = TestJsonCursorBuilder.getCursor(JSON, SchemaInference.firstRows(2)).getSchema();
+
+        assertEquals(2, schema.getInspectedRowCount());
+        assertArrayEquals(new String[]{"id", "name", "tags"}, schema.getColumnNames());
+        assertEquals(JsonColumnType.DOUBLE, schema.getColumnType(0));
+        assertTrue(schema.isNullable(1));
+        assertEquals(JsonColumnType.ARRAY, schema.getColumnType(2));
+        assertTrue(schema.isNullable(2));
+    }
+
+    @Test
+    public void testFullScan() {
+        final EasyJsonCursor cursor = TestJsonCursorBuilder.getCursor(JSON, SchemaInference.FULL_SCAN);
+        final JsonSchema schema = cursor.getSchema();
+
+        assertArrayEquals(new String[]{"id", "name", "tags", "owner", "flag"}, cursor.getColumnNames());
+        assertEquals(JsonColumnType.MIXED, schema.getColumnType(schema.getColumnIndex("id")));
+        assertEquals(JsonColumnType.OBJECT, schema.getColumnType(schema.getColumnIndex("owner")));
+        assertEquals(JsonColumnType.BOOLEAN, schema.getColumnType(schema.getColumnIndex("flag")));
+        assertFalse(schema.isNullable(schema.getColumnIndex("id")));
+
+        cursor.moveToLast();
+        assertFalse(cursor.getBoolean("flag"));
+    }
+
+    @Test
+    public void testParallelFullScanKeepsFirstSeenOrder() {
+        final int rows = 50000;
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < rows; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\": ").append(i);
+            if (i == 30000) {
+                json.append(", \"late\": \"x\"");
+            }
+            if (i == rows - 1) {
+                json.append(", \"last\": null");
+            }
+            json.append("}");
+        }
+        json.append("]");
+
+        final JsonSchema schema = TestJsonCursorBuilder.getCursor(json.toString(), SchemaInference.FULL_SCAN).getSchema();
+
+        assertEquals(rows, schema.getInspectedRowCount());
+        assertArrayEquals(new String[]{"id", "late", "last"}, schema.getColumnNames());
+        assertEquals(JsonColumnType.INTEGER, schema.getColumnType(0));
+        assertEquals(JsonColumnType.STRING, schema.getColumnType(1));
+        assertEquals(JsonColumnType.NULL, schema.getColumnType(2));
+        assertFalse(schema.isNullable(0));
+        assertTrue(schema.isNullable(1));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.common.BaseBehaviourTest;
+import dev.alt236.easycursor.jsoncursor.factory.TestJsonCursorBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class MappedJsonCursorTest extends BaseBehaviourTest {
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+    private MappedJsonCursor mSut;
+
+    @Before
+    public void setUp() throws IOException {
+        mSut = new MappedJsonCursor(write(TestJsonCursorBuilder.getJson()), null);
+        setCursor(mSut);
+    }
+
+    @After
+    public void tearDown() {
+        mSut.close();
+    }
+
+    @Test
+    public void testDelimitedJson() throws IOException {
+        final String json = "\uFEFF{\"id\": 1, \"name\": \"a\"}\n{\"id\": 2, \"name\": \"{[\\\"]}\"}\n\n{\"id\": 3, \"extra\": true}\n";
+        final MappedJsonCursor cursor = new MappedJsonCursor(write(json), "id");
+
+        assertEquals(3, cursor.getCount());
+        assertArrayEquals(new String[]{"id", "name"}, cursor.getColumnNames());
+
+        cursor.moveToPosition(1);
+        assertEquals(2, cursor.getInt("_id"));
+        assertEquals("{[\"]}", cursor.getString("name"));
+
+        cursor.moveToLast();
+        assertTrue(cursor.optBoolean("extra"));
+        assertEquals(-1, cursor.getColumnIndex("extra"));
+        assertNull(cursor.optString("name"));
+        cursor.close();
+    }
+
+    @Test
+    public void testEmptyArray() throws IOException {
+        final MappedJsonCursor cursor = new MappedJsonCursor(write(" [ ] "), null);
+
+        assertEquals(0, cursor.getCount());
+        assertEquals(0, cursor.getColumnNames().length);
+        assertFalse(cursor.moveToFirst());
+        cursor.close();
+    }
+
+    @Test
+    public void testMalformedFirstRow() {
+        try {
+            new MappedJsonCursor(write("[{\"id\": }]"), null);
+            fail("Expected an IOException");
+        } catch (final IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMatchesEasyJsonCursor() {
+        final EasyCursor expected = TestJsonCursorBuilder.getCursor();
+
+        assertArrayEquals(expected.getColumnNames(), mSut.getColumnNames());
+        while (expected.moveToNext()) {
+            assertTrue(mSut.moveToNext());
+            for (final String column : expected.getColumnNames()) {
+                if ("byte".equals(column)) {
+                    // byte[] values do not survive the round trip through JSON text
+                    continue;
+                }
+
+                assertEquals(column, expected.isNull(column), mSut.isNull(column));
+                assertEquals(column, expected.optString(column), mSut.optString(column));
+                assertEquals(column, expected.optLongAsWrapperType(column), mSut.optLongAsWrapperType(column));
+                assertEquals(column, expected.optDoubleAsWrapperType(column), mSut.optDoubleAsWrapperType(column));
+            }
+        }
+    }
+
+    @Test
+    public void testRowsAreParsedLazily() throws IOException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",\n").append("{\"id\": ").append(i).append(", \"nested\": {\"id\": -1}}");
+        }
+        json.append("]");
+
+        final MappedJsonCursor cursor = new MappedJsonCursor(write(json.toString()), null);
+        final int parsesAfterCreation = cursor.getRowParseCount();
+
+        assertEquals(1000, cursor.getCount());
+        cursor.moveToPosition(400);
+        assertEquals(parsesAfterCreation, cursor.getRowParseCount());
+        assertEquals(400, cursor.getInt("id"));
+        assertEquals("{\"id\":-1}", cursor.getString("nested"));
+        assertEquals(parsesAfterCreation + 1, cursor.getRowParseCount());
+
+        cursor.moveToLast();
+        assertEquals(999, cursor.getLong("id"));
+        assertEquals(parsesAfterCreation + 2, cursor.getRowParseCount());
+        cursor.close();
+    }
+
+    private File write(final String json) throws IOException {
+        final File file = mFolder.newFile();
+        final OutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(json.getBytes("UTF-8"));
+        } finally {
+            stream.close();
+        }
+        return file;
+    }
+}
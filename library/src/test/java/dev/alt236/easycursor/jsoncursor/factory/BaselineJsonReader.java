@@ -0,0 +1,73 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.jsoncursor.factory;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Reads the same cells as EasyJsonCursorBenchmark with the lookups EasyJsonCursor made before the current row
+ * was cached: the row is fetched from the array on every check, and each field is probed with
+ * has(), isNull() and then get(). Serves as the baseline of the benchmark.
+ */
+public class BaselineJsonReader {
+    private static final String[] FIELDS = {"int", "long", "double", "bool", "string"};
+
+    private static volatile long sSink;
+
+    private final JSONArray mArray;
+
+    /* package */ BaselineJsonReader(final JSONArray array) {
+        mArray = array;
+    }
+
+    /**
+     * Reads every cell once.
+     *
+     * @return the number of cells read
+     */
+    public long readAll() {
+        long cells = 0;
+        long checksum = 0;
+
+        try {
+            for (int position = 0; position < mArray.length(); position++) {
+                for (final String field : FIELDS) {
+                    if (!mArray.optJSONObject(position).has(field)
+                            || mArray.optJSONObject(position).isNull(field)) {
+                        continue;
+                    }
+
+                    final Object value = mArray.optJSONObject(position).get(field);
+                    checksum += value instanceof Number ? ((Number) value).longValue() : value.hashCode();
+                }
+                cells += FIELDS.length;
+            }
+        } catch (final JSONException e) {
+            // SHOULD NEVER HAPPEN
+            throw new IllegalStateException(e);
+        }
+
+        // Keeps the reads from being optimised away
+        sSink = checksum;
+        return cells;
+    }
+}
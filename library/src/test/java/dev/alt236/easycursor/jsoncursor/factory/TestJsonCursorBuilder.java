@@ -23,8 +23,15 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.StringReader;
+
 import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.RowPredicate;
+import dev.alt236.easycursor.jsoncursor.ColumnarJsonCursor;
 import dev.alt236.easycursor.jsoncursor.EasyJsonCursor;
+import dev.alt236.easycursor.jsoncursor.SchemaInference;
+import dev.alt236.easycursor.jsoncursor.StreamingJsonCursor;
 
 /**
  *
@@ -79,14 +86,103 @@ public final class TestJsonCursorBuilder {
         return array;
     }
 
+    public static ColumnarJsonCursor getColumnarCursor() {
+        return new ColumnarJsonCursor(getArray(), null);
+    }
+
+    public static ColumnarJsonCursor getColumnarCursor(final String json) {
+        try {
+            return new ColumnarJsonCursor(new JSONArray(json), null);
+        } catch (final JSONException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
     public static EasyCursor getCursor(final String alias) {
         return new EasyJsonCursor(getArray(), alias);
     }
 
+    public static EasyJsonCursor getCursor(final String json, final SchemaInference inference) {
+        try {
+            return new EasyJsonCursor(new JSONArray(json), null, null, inference);
+        } catch (final JSONException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
     public static EasyCursor getCursor() {
         return getCursor(null);
     }
 
+    /**
+     * Returns a cursor with the given number of generated rows, with "int", "long", "double", "bool"
+     * and "string" columns. Every tenth "string" is null.
+     */
+    public static EasyJsonCursor getLargeCursor(final int rows) {
+        return new EasyJsonCursor(getLargeArray(rows), null);
+    }
+
+    /**
+     * Returns a {@link ColumnarJsonCursor} over the same rows as {@link #getLargeCursor(int)}.
+     */
+    public static ColumnarJsonCursor getLargeColumnarCursor(final int rows) {
+        return new ColumnarJsonCursor(getLargeArray(rows), null);
+    }
+
+    /**
+     * Returns a reader over the same rows as {@link #getLargeCursor(int)}, which reads them the way
+     * EasyJsonCursor used to.
+     */
+    public static BaselineJsonReader getLargeBaselineReader(final int rows) {
+        return new BaselineJsonReader(getLargeArray(rows));
+    }
+
+    private static JSONArray getLargeArray(final int rows) {
+        final JSONArray array = new JSONArray();
+
+        try {
+            for (int i = 0; i < rows; i++) {
+                final JSONObject object = new JSONObject();
+                object.put("int", i);
+                object.put("long", i * 1000000000L);
+                object.put("double", i / 3d);
+                object.put("bool", i % 2 == 0);
+                object.put("string", i % 10 == 0 ? JSONObject.NULL : "value" + i);
+                array.put(object);
+            }
+        } catch (final JSONException e) {
+            // SHOULD NEVER HAPPEN
+            throw new IllegalStateException(e);
+        }
+
+        return array;
+    }
+
+    public static String getJson() {
+        return getArray().toString();
+    }
+
+    public static StreamingJsonCursor getStreamingCursor() {
+        try {
+            return new StreamingJsonCursor(new StringReader(getJson()), null);
+        } catch (final IOException e) {
+            // SHOULD NEVER HAPPEN
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a view of the rows of a cursor which have a non null value for a field.
+     */
+    public static EasyJsonCursor withField(final EasyJsonCursor cursor, final String field) {
+        return cursor.filtered(new RowPredicate<JSONObject>() {
+            @Override
+            public boolean accept(final JSONObject row) {
+                return row != null && !row.isNull(field);
+            }
+        });
+    }
+
     private static byte[] toByteArray(final String string) {
         try {
             return string.getBytes("UTF-8");
@@ -25,13 +25,34 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.RowIndex;
+import dev.alt236.easycursor.RowPredicate;
 import dev.alt236.easycursor.common.BaseBehaviourTest;
+import dev.alt236.easycursor.conversion.TypeConverter;
+import dev.alt236.easycursor.exceptions.ConversionErrorException;
+import dev.alt236.easycursor.objectcursor.factory.TestObject;
 import dev.alt236.easycursor.objectcursor.factory.TestObjectCursorBuilder;
+import dev.alt236.easycursor.objectcursor.factory.TestRowObject;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.ColumnGetterFactory;
+import dev.alt236.easycursor.objectcursor.getters.IntColumnGetter;
+import dev.alt236.easycursor.objectcursor.getters.ReflectiveColumnGetter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class EasyObjectCursorTest extends BaseBehaviourTest {
     private final String TAG = getClass().getName();
@@ -53,7 +74,82 @@ public class EasyObjectCursorTest extends BaseBehaviourTest {
         assertEquals(intIndex, idIndex);
     }
 
+    @Test
+    public void testBlobReuse() {
+        final EasyObjectCursor<?> cursor = (EasyObjectCursor<?>) mSut;
+        final byte[] buffer = new byte[16];
+
+        cursor.moveToFirst();
+        assertEquals(3, cursor.getBlob("byte", buffer));
+        assertEquals("foo", new String(buffer, 0, 3));
+        assertEquals(8, cursor.getBlob(cursor.getColumnIndex("long"), buffer));
+        assertEquals(Long.MIN_VALUE, ByteBuffer.wrap(buffer, 0, 8).getLong());
+
+        cursor.moveToLast();
+        assertEquals(-1, cursor.getBlob("byte", buffer));
+        assertNull(cursor.getBlob(cursor.getColumnIndex("byte")));
+    }
+
+    @Test
+    public void testConversionFailureCount() {
+        final EasyObjectCursor<?> cursor = (EasyObjectCursor<?>) mSut;
+
+        cursor.moveToFirst();
+        assertEquals(0, cursor.optInt("string", 5));
+        assertEquals(0, cursor.getLong("string"));
+        assertEquals(0d, cursor.optDouble("bool"), 0d);
+        assertEquals(Integer.MIN_VALUE, cursor.getInt("int"));
+
+        cursor.moveToLast();
+        assertEquals(0, cursor.getInt("string"));
+
+        assertEquals(2, cursor.getConversionFailureCount("string"));
+        assertEquals(1, cursor.getConversionFailureCount(cursor.getColumnIndex("bool")));
+        assertEquals(0, cursor.getConversionFailureCount("int"));
+        assertEquals(0, cursor.getConversionFailureCount("not_a_column"));
+
+        cursor.resetConversionFailureCounts();
+        assertEquals(0, cursor.getConversionFailureCount("string"));
+    }
+
+    @Test
+    public void testCustomGetterFactory() {
+        final int[] calls = new int[1];
+        final ColumnGetterFactory factory = new ColumnGetterFactory() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> ColumnGetter<T> create(final Class<T> clazz, final Method method) {
+                if (!"getInt".equals(method.getName())) {
+                    return new ReflectiveColumnGetter<>(method);
+                }
+
+                return (ColumnGetter<T>) new IntColumnGetter<TestObject>(method.getName()) {
+                    @Override
+                    public int getInt(final TestObject item) {
+                        calls[0]++;
+                        return item.getInt();
+                    }
+                };
+            }
+        };
 
+        final List<TestObject> list = Arrays.asList(
+                new TestObject.Builder().withInt(42).build(),
+                new TestObject.Builder().withInt(Integer.MIN_VALUE).build());
+        final EasyCursor cursor = new EasyObjectCursor<>(TestObject.class, list, null, null, factory);
+
+        cursor.moveToFirst();
+        assertEquals(42, cursor.getInt("int"));
+        assertEquals(42L, cursor.getLong(cursor.getColumnIndex("int")));
+        assertEquals(42d, cursor.getDouble("int"), 0d);
+        assertFalse(cursor.isNull("int"));
+        assertEquals(3, calls[0]);
+
+        cursor.moveToNext();
+        assertEquals(Integer.MIN_VALUE, cursor.getInt("int"));
+        assertEquals(Integer.MIN_VALUE, cursor.optInt("int"));
+        cursor.close();
+    }
 
     @Test
     public void testMethodSet() {
@@ -71,4 +167,346 @@ public class EasyObjectCursorTest extends BaseBehaviourTest {
 
         mSut.close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPagedSource() {
+        final EasyObjectCursor<CountingObject> cursor = new EasyObjectCursor<>(
+                CountingObject.class,
+                new PagedObjectSource<CountingObject>() {
+                    @Override
+                    public int getCount() {
+                        return 25;
+                    }
+
+                    @Override
+                    public int getPageSize() {
+                        return 10;
+                    }
+
+                    @Override
+                    public List<CountingObject> loadPage(final int pageIndex) {
+                        final List<CountingObject> page = new ArrayList<>();
+                        for (int i = pageIndex * 10; i < Math.min(25, pageIndex * 10 + 10); i++) {
+                            page.add(new CountingObject("row" + i));
+                        }
+                        return page;
+                    }
+                },
+                null);
+
+        assertEquals(25, cursor.getCount());
+        cursor.moveToPosition(17);
+        assertEquals("row17", cursor.getString("name"));
+        cursor.moveToLast();
+        assertEquals("row24", cursor.getString("name"));
+    }
+
+    @Test
+    public void testRowSource() {
+        final CountingObject[] rows = new CountingObject[]{new CountingObject("a"), new CountingObject("b")};
+        final EasyObjectCursor<CountingObject> cursor =
+                new EasyObjectCursor<>(CountingObject.class, RowSources.of(rows), null);
+
+        assertEquals(2, cursor.getCount());
+        cursor.moveToLast();
+        assertEquals("b", cursor.getString("name"));
+        assertEquals(rows[1], cursor.getItem(1));
+    }
+
+    @Test
+    public void testRowCache() {
+        final CountingObject first = new CountingObject("foo");
+        final CountingObject second = new CountingObject(null);
+        final EasyObjectCursor<CountingObject> cursor =
+                new EasyObjectCursor<>(CountingObject.class, Arrays.asList(first, second), null);
+
+        cursor.moveToFirst();
+        cursor.isNull("name");
+        cursor.getString("name");
+        assertEquals(2, first.mCalls);
+
+        cursor.setRowCacheEnabled(true);
+        assertTrue(cursor.isRowCacheEnabled());
+        assertFalse(cursor.isNull("name"));
+        assertEquals("foo", cursor.getString("name"));
+        assertEquals("foo", cursor.optString("name"));
+        assertEquals(3, first.mCalls);
+
+        cursor.moveToNext();
+        assertTrue(cursor.isNull("name"));
+        assertNull(cursor.getString("name"));
+        assertEquals(1, second.mCalls);
+
+        cursor.moveToPrevious();
+        assertEquals("foo", cursor.getString("name"));
+        assertEquals(4, first.mCalls);
+
+        cursor.setRowCacheEnabled(false);
+        cursor.getString("name");
+        assertEquals(5, first.mCalls);
+    }
+
+    @Test
+    public void testPaths() {
+        final List<Album> list = Arrays.asList(
+                new Album("first", new Artist("foo", 42L)),
+                new Album("second", null),
+                new Album("third", new Artist(null, 7L)));
+        final EasyObjectCursor<Album> cursor =
+                new EasyObjectCursor<>(Album.class, list, null).withPaths("artist.name", "artist.plays");
+
+        assertTrue(Arrays.asList(cursor.getColumnNames()).containsAll(Arrays.asList("title", "artist.name", "artist.plays")));
+        assertEquals(cursor.getColumnNames().length - 1, cursor.getColumnIndex("artist.plays"));
+
+        cursor.moveToFirst();
+        assertEquals("foo", cursor.getString("artist.name"));
+        assertEquals(42L, cursor.getLong("artist.plays"));
+        assertEquals(42, cursor.getInt(cursor.getColumnIndex("artist.plays")));
+        assertEquals(42L, cursor.getObject("artist.plays"));
+
+        cursor.moveToNext();
+        assertTrue(cursor.isNull("artist.name"));
+        assertTrue(cursor.isNull("artist.plays"));
+        assertEquals(0L, cursor.getLong("artist.plays"));
+        assertNull(cursor.getString("artist.name"));
+
+        cursor.moveToNext();
+        assertTrue(cursor.isNull("artist.name"));
+        assertFalse(cursor.isNull("artist.plays"));
+
+        final EasyObjectCursor<Album> sorted = cursor.sorted("artist.plays", true);
+        sorted.moveToFirst();
+        assertEquals("second", sorted.getString("title"));
+        sorted.moveToNext();
+        assertEquals("third", sorted.getString("title"));
+
+        final EasyObjectCursor<SnapshotRow> snapshot = cursor.snapshot();
+        snapshot.moveToPosition(1);
+        assertTrue(snapshot.isNull("artist.plays"));
+        snapshot.moveToFirst();
+        assertEquals(42L, snapshot.getLong("artist.plays"));
+    }
+
+    @Test
+    public void testInvalidPaths() {
+        final EasyObjectCursor<Album> cursor = new EasyObjectCursor<>(Album.class, new ArrayList<Album>(), null);
+        final String[] paths = new String[]{"artist.missing", "missing.name", "title.length", "artist.plays.value", "title"};
+
+        for (final String path : paths) {
+            try {
+                cursor.withPaths(path);
+                fail("Expected an IllegalArgumentException for " + path);
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testIndexes() {
+        final List<TestRowObject> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(new TestRowObject(false, 0, 0, i % 10, 1000 - i, (short) 0, "row" + i));
+        }
+        final EasyObjectCursor<TestRowObject> cursor = new EasyObjectCursor<>(TestRowObject.class, list, null);
+
+        // No index, so this scans
+        assertTrue(cursor.moveToKey("long", 990));
+        assertEquals(10, cursor.getPosition());
+        assertFalse(cursor.moveToKey("long", 5));
+        assertEquals(10, cursor.getPosition());
+
+        final RowIndex ids = cursor.buildIndex("long", RowIndex.Type.HASH);
+        assertTrue(cursor.moveToKey("long", 950));
+        assertEquals("row50", cursor.getString("string"));
+
+        try {
+            cursor.rangeScan("int", 1, 2);
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        cursor.buildIndex("int", RowIndex.Type.SORTED);
+        final EasyObjectCursor<TestRowObject> range = cursor.rangeScan("int", 8, 9);
+        assertEquals(20, range.getCount());
+        range.moveToFirst();
+        assertEquals("row8", range.getString("string"));
+        range.moveToLast();
+        assertEquals("row99", range.getString("string"));
+
+        final EasyObjectCursor<TestRowObject> recreated = new EasyObjectCursor<>(TestRowObject.class, list, null);
+        recreated.addIndex(ids);
+        assertTrue(recreated.moveToKey("long", 901));
+        assertEquals(99, recreated.getPosition());
+
+        try {
+            range.addIndex(ids);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIndexOnBoxedColumn() {
+        final EasyObjectCursor<TestObject> cursor =
+                TestObjectCursorBuilder.getCursorForList(TestObjectCursorBuilder.getList());
+        final int count = cursor.getCount();
+
+        final RowIndex index = cursor.buildIndex("long", RowIndex.Type.SORTED);
+        assertTrue(cursor.moveToKey("long", Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, cursor.getLong("long"));
+        assertTrue(index.getRows(Long.MIN_VALUE, Long.MAX_VALUE).length < count);
+
+        try {
+            cursor.buildIndex("string", RowIndex.Type.HASH);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSortedAndFilteredViews() {
+        final List<CountingObject> list = Arrays.asList(
+                new CountingObject("b"), new CountingObject(null), new CountingObject("c"), new CountingObject("a"));
+        final EasyObjectCursor<CountingObject> cursor = new EasyObjectCursor<>(CountingObject.class, list, null);
+
+        assertEquals("null,a,b,c,", readNames(cursor.sorted("name", true)));
+        assertEquals("c,b,a,null,", readNames(cursor.sorted("name", false)));
+
+        final EasyObjectCursor<CountingObject> named = cursor.filtered(new RowPredicate<CountingObject>() {
+            @Override
+            public boolean accept(final CountingObject row) {
+                return row.mName != null;
+            }
+        });
+        assertEquals("b,c,a,", readNames(named));
+
+        final EasyObjectCursor<CountingObject> reversed = named.sorted(new Comparator<CountingObject>() {
+            @Override
+            public int compare(final CountingObject first, final CountingObject second) {
+                return second.mName.compareTo(first.mName);
+            }
+        });
+        assertEquals("c,b,a,", readNames(reversed));
+        assertEquals(list.get(2), reversed.getItem(0));
+    }
+
+    private static String readNames(final EasyObjectCursor<CountingObject> cursor) {
+        final StringBuilder sb = new StringBuilder();
+        while (cursor.moveToNext()) {
+            sb.append(cursor.getString("name")).append(',');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testSortedOnPrimitiveColumn() {
+        final EasyObjectCursor<TestObject> cursor =
+                TestObjectCursorBuilder.getCursorForList(TestObjectCursorBuilder.getList());
+        final EasyObjectCursor<TestObject> sorted = cursor.sorted("long", false);
+
+        sorted.moveToFirst();
+        assertEquals(Long.MAX_VALUE, sorted.getLong("long"));
+        sorted.moveToLast();
+        assertTrue(sorted.isNull("long"));
+
+        try {
+            cursor.sorted("byte", true);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTypedValues() {
+        final EasyObjectCursor<?> cursor = (EasyObjectCursor<?>) mSut;
+
+        cursor.moveToFirst();
+        assertEquals(new Date(Long.MIN_VALUE), cursor.getValue("long", Date.class));
+        assertEquals(BigDecimal.valueOf(Integer.MIN_VALUE), cursor.getValue(cursor.getColumnIndex("int"), BigDecimal.class));
+        assertEquals("foo", cursor.getValue("string", String.class));
+        assertNull(cursor.optValue("string", UUID.class));
+        assertNull(cursor.optValue("not_a_column", UUID.class));
+        assertEquals(1, cursor.getConversionFailureCount("string"));
+
+        try {
+            cursor.getValue("bool", Date.class);
+            fail("Expected a ConversionErrorException");
+        } catch (final ConversionErrorException e) {
+            // expected
+        }
+
+        cursor.getTypeConverters().register(StringBuilder.class, new TypeConverter<StringBuilder>() {
+            @Override
+            public Conversion<StringBuilder> getConversion(final Class<?> sourceType) {
+                return new Conversion<StringBuilder>() {
+                    @Override
+                    public StringBuilder convert(final Object value) {
+                        return new StringBuilder(value.toString()).reverse();
+                    }
+                };
+            }
+        });
+        assertEquals("oof", cursor.getValue("string", StringBuilder.class).toString());
+
+        final EasyCursor other = TestObjectCursorBuilder.getCursor();
+        other.moveToFirst();
+        assertNull(other.optValue("string", StringBuilder.class));
+
+        cursor.moveToLast();
+        assertNull(cursor.getValue("long", Date.class));
+    }
+
+    public static class CountingObject {
+        private final String mName;
+        private int mCalls;
+
+        public CountingObject(final String name) {
+            mName = name;
+        }
+
+        public String getName() {
+            mCalls++;
+            return mName;
+        }
+    }
+
+    public static class Album {
+        private final String mTitle;
+        private final Artist mArtist;
+
+        public Album(final String title, final Artist artist) {
+            mTitle = title;
+            mArtist = artist;
+        }
+
+        public Artist getArtist() {
+            return mArtist;
+        }
+
+        public String getTitle() {
+            return mTitle;
+        }
+    }
+
+    public static class Artist {
+        private final String mName;
+        private final long mPlays;
+
+        public Artist(final String name, final long plays) {
+            mName = name;
+            mPlays = plays;
+        }
+
+        public String getName() {
+            return mName;
+        }
+
+        public long getPlays() {
+            return mPlays;
+        }
+    }
+}
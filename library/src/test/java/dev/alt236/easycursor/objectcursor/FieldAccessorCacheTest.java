@@ -0,0 +1,80 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.objectcursor.factory.TestObject;
+import dev.alt236.easycursor.objectcursor.factory.TestRowObject;
+import dev.alt236.easycursor.objectcursor.getters.ReflectiveColumnGetterFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class FieldAccessorCacheTest extends BaseRobolectricTest {
+
+    @Before
+    public void setUp() {
+        FieldAccessorCache.clear();
+    }
+
+    @Test
+    public void testClear() {
+        new EasyObjectCursor<>(TestObject.class, Collections.<TestObject>emptyList(), null);
+        assertEquals(1, FieldAccessorCache.getSize());
+
+        FieldAccessorCache.clear();
+        assertEquals(0, FieldAccessorCache.getSize());
+        assertEquals(0, FieldAccessorCache.getHitCount());
+        assertEquals(0, FieldAccessorCache.getMissCount());
+    }
+
+    @Test
+    public void testCustomFactoryIsNotCached() {
+        final EasyObjectCursor<TestObject> cursor1 = new EasyObjectCursor<>(
+                TestObject.class, Collections.<TestObject>emptyList(), null, null, new ReflectiveColumnGetterFactory());
+        final EasyObjectCursor<TestObject> cursor2 = new EasyObjectCursor<>(
+                TestObject.class, Collections.<TestObject>emptyList(), null);
+
+        assertNotSame(cursor1.getFieldAccessor(), cursor2.getFieldAccessor());
+        assertEquals(0, FieldAccessorCache.getHitCount());
+        assertEquals(1, FieldAccessorCache.getMissCount());
+    }
+
+    @Test
+    public void testSharedAccessor() {
+        final EasyObjectCursor<TestObject> cursor1 =
+                new EasyObjectCursor<>(TestObject.class, Collections.<TestObject>emptyList(), null);
+        final EasyObjectCursor<TestObject> cursor2 =
+                new EasyObjectCursor<>(TestObject.class, Collections.<TestObject>emptyList(), "int");
+        final EasyObjectCursor<TestRowObject> cursor3 =
+                new EasyObjectCursor<>(TestRowObject.class, Collections.<TestRowObject>emptyList(), null);
+
+        assertSame(cursor1.getFieldAccessor(), cursor2.getFieldAccessor());
+        assertNotSame(cursor1.getFieldAccessor(), cursor3.getFieldAccessor());
+        assertEquals(1, FieldAccessorCache.getHitCount());
+        assertEquals(2, FieldAccessorCache.getMissCount());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.internal.FieldAccessor;
+import dev.alt236.easycursor.objectcursor.factory.TestRowObject;
+import dev.alt236.easycursor.objectcursor.getters.ReflectiveColumnGetterFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedAccessorTest extends BaseRobolectricTest {
+
+    private static List<TestRowObject> getList() {
+        return Arrays.asList(
+                new TestRowObject(true, 1.5d, 2.5f, 3, 4L, (short) 5, "foo"),
+                new TestRowObject(false, Double.MAX_VALUE, Float.MIN_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Short.MAX_VALUE, null));
+    }
+
+    @Test
+    public void testAccessorName() {
+        assertEquals(
+                "dev.alt236.easycursor.objectcursor.factory.TestRowObject_Nested_EasyCursorAccessor",
+                GeneratedAccessorLoader.getAccessorClassName(TestRowObject.Nested.class));
+    }
+
+    @Test
+    public void testColumnsMatchReflection() {
+        final EasyObjectCursor<TestRowObject> generated =
+                new EasyObjectCursor<>(TestRowObject.class, getList(), null);
+        final EasyObjectCursor<TestRowObject> reflective =
+                new EasyObjectCursor<>(TestRowObject.class, getList(), null, null, new ReflectiveColumnGetterFactory());
+
+        final List<String> generatedNames = Arrays.asList(generated.getColumnNames());
+        final List<String> reflectiveNames = Arrays.asList(reflective.getColumnNames());
+        Collections.sort(generatedNames);
+        Collections.sort(reflectiveNames);
+
+        assertEquals(reflectiveNames, generatedNames);
+        assertTrue(generatedNames.contains("class"));
+    }
+
+    @Test
+    public void testDuplicateColumnsMatchReflection() {
+        final List<TestRowObject.Duplicates> list = Collections.singletonList(new TestRowObject.Duplicates());
+        final FieldAccessor generated = new EasyObjectCursor<>(
+                TestRowObject.Duplicates.class, list, null).getFieldAccessor();
+        final FieldAccessor reflective = new EasyObjectCursor<>(
+                TestRowObject.Duplicates.class, list, null, null, new ReflectiveColumnGetterFactory()).getFieldAccessor();
+
+        assertFalse(generated instanceof ObjectFieldAccessor);
+        final List<String> generatedNames = Arrays.asList(generated.getFieldNames());
+        final List<String> reflectiveNames = Arrays.asList(reflective.getFieldNames());
+        Collections.sort(generatedNames);
+        Collections.sort(reflectiveNames);
+        assertEquals(reflectiveNames, generatedNames);
+        assertEquals(2, Collections.frequency(generatedNames, "flag"));
+
+        // Both keep the two columns, and resolve the name to the last of them
+        assertEquals(Arrays.asList(generated.getFieldNames()).lastIndexOf("flag"), generated.getFieldIndexByName("flag"));
+        assertEquals(Arrays.asList(reflective.getFieldNames()).lastIndexOf("flag"), reflective.getFieldIndexByName("flag"));
+    }
+
+    @Test
+    public void testGeneratedAccessorIsUsed() {
+        final EasyObjectCursor<TestRowObject> cursor =
+                new EasyObjectCursor<>(TestRowObject.class, getList(), null);
+
+        assertFalse(cursor.getFieldAccessor() instanceof ObjectFieldAccessor);
+        assertTrue(cursor.getFieldAccessor().getClass().getName().endsWith(GeneratedAccessorLoader.GENERATED_SUFFIX));
+    }
+
+    @Test
+    public void testNestedAlias() {
+        final EasyObjectCursor<TestRowObject.Nested> cursor = new EasyObjectCursor<>(
+                TestRowObject.Nested.class,
+                Collections.singletonList(new TestRowObject.Nested()),
+                null);
+
+        assertFalse(cursor.getFieldAccessor() instanceof ObjectFieldAccessor);
+        assertEquals(cursor.getColumnIndex("_id"), cursor.getColumnIndexOrThrow("_id"));
+        cursor.moveToFirst();
+        assertEquals(1L, cursor.getLong("_id"));
+    }
+
+    @Test
+    public void testThrowingGettersMatchReflection() {
+        final List<TestRowObject.Throwing> list = Collections.singletonList(new TestRowObject.Throwing());
+        final EasyObjectCursor<TestRowObject.Throwing> generated =
+                new EasyObjectCursor<>(TestRowObject.Throwing.class, list, null);
+        final EasyObjectCursor<TestRowObject.Throwing> reflective = new EasyObjectCursor<>(
+                TestRowObject.Throwing.class, list, null, null, new ReflectiveColumnGetterFactory());
+
+        assertFalse(generated.getFieldAccessor() instanceof ObjectFieldAccessor);
+        generated.moveToFirst();
+        reflective.moveToFirst();
+
+        assertEquals("name", generated.getString("name"));
+        assertEquals(reflective.isNull("count"), generated.isNull("count"));
+        assertTrue(generated.isNull("count"));
+        assertEquals(reflective.optInt("count", 7), generated.optInt("count", 7));
+    }
+
+    @Test
+    public void testValues() {
+        final EasyObjectCursor<TestRowObject> cursor =
+                new EasyObjectCursor<>(TestRowObject.class, getList(), "int");
+
+        cursor.moveToFirst();
+        assertTrue(cursor.getBoolean("bool"));
+        assertEquals(1.5d, cursor.getDouble("double"), 0d);
+        assertEquals(2.5f, cursor.getFloat("float"), 0f);
+        assertEquals(3, cursor.getInt("INT"));
+        assertEquals(3, cursor.getInt(cursor.getColumnIndex("_id")));
+        assertEquals(4L, cursor.getLong("long"));
+        assertEquals((short) 5, cursor.getShort("short"));
+        assertEquals("foo", cursor.getString("string"));
+        assertEquals("3", cursor.getString("int"));
+        assertFalse(cursor.isNull("int"));
+        assertEquals(TestRowObject.class, cursor.getObject("class"));
+
+        cursor.moveToNext();
+        assertFalse(cursor.optBoolean("bool", true));
+        assertEquals(Double.MAX_VALUE, cursor.optDouble("double"), 0d);
+        assertEquals(Integer.MIN_VALUE, cursor.optInt("int"));
+        assertEquals(Long.MAX_VALUE, cursor.optLong("long"));
+        assertEquals(Short.MAX_VALUE, cursor.optShort("short"));
+        assertNull(cursor.getString("string"));
+        assertTrue(cursor.isNull("string"));
+
+        cursor.close();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ *
+ */
+public class PagedObjectListTest extends TestCase {
+
+    public void testEvictsLeastRecentlyUsedPages() {
+        final CountingSource source = new CountingSource(100, 10);
+        final PagedObjectList<Integer> list = new PagedObjectList<>(source, 2, null);
+
+        assertEquals(Integer.valueOf(0), list.get(0));
+        assertEquals(Integer.valueOf(15), list.get(15));
+        assertEquals(Integer.valueOf(5), list.get(5));
+        assertEquals(2, list.getLoadCount());
+
+        // Page 1 is now the least recently used, so loading page 2 drops it
+        assertEquals(Integer.valueOf(25), list.get(25));
+        assertEquals(Integer.valueOf(9), list.get(9));
+        assertEquals(Integer.valueOf(11), list.get(11));
+        assertEquals(4, list.getLoadCount());
+    }
+
+    public void testIndexOutOfBounds() {
+        final PagedObjectList<Integer> list = new PagedObjectList<>(new CountingSource(5, 2));
+
+        assertEquals(5, list.size());
+        assertEquals(Integer.valueOf(4), list.get(4));
+        try {
+            list.get(5);
+            fail("Expected an IndexOutOfBoundsException");
+        } catch (final IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    public void testPrefetchesTheNextPage() {
+        final CountingSource source = new CountingSource(30, 10);
+        final List<Runnable> queued = new ArrayList<>();
+        final PagedObjectList<Integer> list = new PagedObjectList<>(source, 4, new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                queued.add(command);
+            }
+        });
+
+        list.get(0);
+        list.get(7);
+        assertTrue(queued.isEmpty());
+
+        list.get(8);
+        list.get(9);
+        assertEquals(1, queued.size());
+
+        queued.get(0).run();
+        assertEquals(2, list.getLoadCount());
+        assertEquals(Integer.valueOf(10), list.get(10));
+        assertEquals(2, list.getLoadCount());
+    }
+
+    public void testReadsWaitForAPendingPrefetch() {
+        final CountingSource source = new CountingSource(30, 10);
+        final List<Runnable> queued = new ArrayList<>();
+        final PagedObjectList<Integer> list = new PagedObjectList<>(source, 4, new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                queued.add(command);
+            }
+        });
+
+        list.get(9);
+        assertEquals(1, queued.size());
+
+        final Thread runner = new Thread(queued.get(0));
+        runner.start();
+        assertEquals(Integer.valueOf(10), list.get(10));
+        assertEquals(2, list.getLoadCount());
+    }
+
+    public void testShortPagesAreRejected() {
+        final PagedObjectList<Integer> list = new PagedObjectList<>(new CountingSource(30, 10) {
+            @Override
+            public List<Integer> loadPage(final int pageIndex) {
+                return super.loadPage(pageIndex).subList(0, 5);
+            }
+        });
+
+        try {
+            list.get(0);
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private static class CountingSource implements PagedObjectSource<Integer> {
+        private final int mCount;
+        private final int mPageSize;
+
+        private CountingSource(final int count, final int pageSize) {
+            mCount = count;
+            mPageSize = pageSize;
+        }
+
+        @Override
+        public int getCount() {
+            return mCount;
+        }
+
+        @Override
+        public int getPageSize() {
+            return mPageSize;
+        }
+
+        @Override
+        public List<Integer> loadPage(final int pageIndex) {
+            final List<Integer> page = new ArrayList<>();
+            final int start = pageIndex * mPageSize;
+            for (int i = start; i < Math.min(mCount, start + mPageSize); i++) {
+                page.add(i);
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ *
+ */
+public class RowSourcesTest extends TestCase {
+
+    public void testArraysAreNotCopied() {
+        final String[] array = new String[]{"a", "b"};
+        final RowSource<String> source = RowSources.of(array);
+
+        array[1] = "c";
+        assertEquals(2, source.getCount());
+        assertEquals("c", source.getRow(1));
+    }
+
+    public void testRandomAccessListsAreNotCopied() {
+        final List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        final RowSource<String> source = RowSources.of(list);
+
+        list.add("c");
+        assertEquals(3, source.getCount());
+        assertEquals("c", source.getRow(2));
+    }
+
+    public void testSequentialListsAreCopiedOnce() {
+        final List<String> list = new LinkedList<>(Arrays.asList("a", "b"));
+        final RowSource<String> source = RowSources.of(list);
+
+        list.add("c");
+        assertEquals(2, source.getCount());
+        assertEquals("b", source.getRow(1));
+    }
+}
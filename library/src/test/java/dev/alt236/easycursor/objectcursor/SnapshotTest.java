@@ -0,0 +1,140 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.common.BaseBehaviourTest;
+import dev.alt236.easycursor.objectcursor.factory.TestObject;
+import dev.alt236.easycursor.objectcursor.factory.TestObjectCursorBuilder;
+import dev.alt236.easycursor.objectcursor.factory.TestRowObject;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class SnapshotTest extends BaseBehaviourTest {
+
+    private EasyObjectCursor<SnapshotRow> mSut;
+
+    @Before
+    public void setUp() {
+        mSut = TestObjectCursorBuilder.getCursorForList(TestObjectCursorBuilder.getList()).snapshot();
+        setCursor(mSut);
+    }
+
+    @Test
+    public void testIgnoresChangesToTheSource() {
+        final List<TestObject> list = new ArrayList<>(TestObjectCursorBuilder.getList());
+        final EasyObjectCursor<SnapshotRow> snapshot = TestObjectCursorBuilder.getCursorForList(list).snapshot();
+        list.clear();
+
+        assertEquals(3, snapshot.getCount());
+        snapshot.moveToFirst();
+        assertEquals("foo", snapshot.getString("string"));
+        assertEquals(0, snapshot.getItem(0).getPosition());
+    }
+
+    @Test
+    public void testLargeList() {
+        final List<TestObject> list = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            list.add(new TestObject.Builder()
+                    .withInt(i % 7 == 0 ? null : i)
+                    .withLong((long) i * i)
+                    .withString("row" + i)
+                    .build());
+        }
+
+        final EasyObjectCursor<TestObject> source = TestObjectCursorBuilder.getCursorForList(list);
+        final EasyObjectCursor<SnapshotRow> snapshot = source.snapshot();
+
+        assertEquals(source.getCount(), snapshot.getCount());
+        while (source.moveToNext()) {
+            assertTrue(snapshot.moveToNext());
+            assertEquals(source.isNull("int"), snapshot.isNull("int"));
+            assertEquals(source.getInt("int"), snapshot.getInt("int"));
+            assertEquals(source.getLong("long"), snapshot.getLong("long"));
+            assertEquals(source.getString("string"), snapshot.getString("string"));
+        }
+    }
+
+    @Test
+    public void testMatchesSource() {
+        final EasyCursor source = TestObjectCursorBuilder.getCursor();
+
+        assertArrayEquals(source.getColumnNames(), mSut.getColumnNames());
+        while (source.moveToNext()) {
+            assertTrue(mSut.moveToNext());
+            for (final String column : source.getColumnNames()) {
+                final int index = source.getColumnIndex(column);
+
+                assertEquals(column, source.isNull(index), mSut.isNull(index));
+                assertEquals(column, source.getString(index), mSut.getString(index));
+                assertEquals(column, source.optBooleanAsWrapperType(column), mSut.optBooleanAsWrapperType(column));
+                if (!"byte".equals(column)) {
+                    assertEquals(column, source.getValue(column, Object.class), mSut.getValue(column, Object.class));
+                    assertEquals(column, source.getInt(index), mSut.getInt(index));
+                    assertEquals(column, source.getLong(index), mSut.getLong(index));
+                    assertEquals(column, source.getShort(index), mSut.getShort(index));
+                    assertEquals(column, source.getFloat(index), mSut.getFloat(index), 0f);
+                    assertEquals(column, source.getDouble(index), mSut.getDouble(index), 0d);
+                }
+            }
+        }
+        assertFalse(mSut.moveToNext());
+    }
+
+    @Test
+    public void testPrimitiveGetters() {
+        final List<TestRowObject> list = Arrays.asList(
+                new TestRowObject(true, 1.5d, 2.5f, 3, 4L, (short) 5, "foo"),
+                new TestRowObject(false, Double.MAX_VALUE, Float.MIN_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Short.MAX_VALUE, null));
+        final EasyObjectCursor<SnapshotRow> snapshot =
+                new EasyObjectCursor<>(TestRowObject.class, list, "int").snapshot();
+
+        snapshot.moveToFirst();
+        assertTrue(snapshot.getBoolean("bool"));
+        assertEquals(1.5d, snapshot.getDouble("double"), 0d);
+        assertEquals(2.5f, snapshot.getFloat("float"), 0f);
+        assertEquals(3, snapshot.getLong("_id"));
+        assertEquals(4L, snapshot.getLong("long"));
+        assertEquals(5, snapshot.getShort("short"));
+        assertEquals(Short.valueOf((short) 5), snapshot.getValue("short", Short.class));
+        assertFalse(snapshot.isNull("int"));
+
+        snapshot.moveToLast();
+        assertFalse(snapshot.getBoolean("bool"));
+        assertEquals(Long.MAX_VALUE, snapshot.getLong("long"));
+        assertTrue(snapshot.isNull("string"));
+        assertNull(snapshot.getString("string"));
+    }
+}
@@ -42,7 +42,11 @@ public final class TestObjectCursorBuilder {
         return new EasyObjectCursor<>(TestObject.class, getList(), alias);
     }
 
-    private static List<TestObject> getList() {
+    public static EasyObjectCursor<TestObject> getCursorForList(final List<TestObject> list) {
+        return new EasyObjectCursor<>(TestObject.class, list, null);
+    }
+
+    public static List<TestObject> getList() {
         final List<TestObject> list = new ArrayList<>();
 
         final TestObject object1 = new TestObject.Builder()
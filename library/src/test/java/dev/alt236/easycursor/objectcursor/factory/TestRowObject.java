@@ -0,0 +1,108 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.objectcursor.factory;
+
+import java.io.IOException;
+
+import dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow;
+
+@EasyCursorRow
+public class TestRowObject {
+    private final boolean mBool;
+    private final double mDouble;
+    private final float mFloat;
+    private final int mInt;
+    private final long mLong;
+    private final short mShort;
+    private final String mString;
+
+    public TestRowObject(final boolean bool,
+                         final double dbl,
+                         final float flt,
+                         final int integer,
+                         final long lng,
+                         final short shrt,
+                         final String string) {
+        mBool = bool;
+        mDouble = dbl;
+        mFloat = flt;
+        mInt = integer;
+        mLong = lng;
+        mShort = shrt;
+        mString = string;
+    }
+
+    public double getDouble() {
+        return mDouble;
+    }
+
+    public float getFloat() {
+        return mFloat;
+    }
+
+    public int getInt() {
+        return mInt;
+    }
+
+    public long getLong() {
+        return mLong;
+    }
+
+    public short getShort() {
+        return mShort;
+    }
+
+    public String getString() {
+        return mString;
+    }
+
+    public boolean isBool() {
+        return mBool;
+    }
+
+    @EasyCursorRow
+    public static class Duplicates {
+        public int getFlag() {
+            return 1;
+        }
+
+        public boolean isFlag() {
+            return true;
+        }
+    }
+
+    @EasyCursorRow
+    public static class Nested {
+        public long get_id() {
+            return 1L;
+        }
+    }
+
+    @EasyCursorRow
+    public static class Throwing {
+        public int getCount() throws IOException {
+            throw new IOException("count");
+        }
+
+        public String getName() throws IOException {
+            return "name";
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import android.database.Cursor;
+import android.database.CursorWrapper;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.CancellationSignal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.sqlcursor.factory.DatabaseHandler;
+import dev.alt236.easycursor.sqlcursor.querymodels.RawQueryModel;
+import dev.alt236.easycursor.sqlcursor.querymodels.SqlQueryModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class AsyncQueryTest extends BaseRobolectricTest {
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    };
+
+    private DatabaseHandler mHandler;
+
+    @Before
+    public void setUp() {
+        mHandler = new DatabaseHandler(RuntimeEnvironment.application);
+        mHandler.getReadableDatabase();
+    }
+
+    @Test
+    public void testRawQuery() throws Exception {
+        final SqlQueryModel model = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT * FROM data")
+                .build();
+
+        final QueryFuture future = model.executeAsync(mHandler.getReadableDatabase(), DIRECT);
+        assertTrue(future.isDone());
+
+        final EasyCursor cursor = future.get();
+        assertTrue(cursor instanceof EasySqlCursor);
+        assertEquals(3, cursor.getCount());
+        assertEquals(0, cursor.getPosition());
+        cursor.close();
+    }
+
+    @Test
+    public void testSelectQuery() throws Exception {
+        final SqlQueryModel model = new SqlQueryModel.SelectQueryBuilder()
+                .setTables("data")
+                .setSelection("string = ?")
+                .setSelectionArgs(new String[]{"bar"})
+                .build();
+
+        final EasyCursor cursor = model.executeAsync(mHandler.getReadableDatabase(), DIRECT).get();
+        assertEquals(1, cursor.getCount());
+        assertEquals("bar", cursor.getString("string"));
+        cursor.close();
+    }
+
+    @Test
+    public void testWithoutPrewarm() throws Exception {
+        final SqlQueryModel model = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT * FROM data")
+                .build();
+
+        final EasyCursor cursor = model.executeAsync(mHandler.getReadableDatabase(), DIRECT, null, false, null).get();
+        assertEquals(-1, cursor.getPosition());
+        assertEquals(3, cursor.getCount());
+        cursor.close();
+    }
+
+    @Test
+    public void testCallback() throws Exception {
+        final SqlQueryModel model = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT * FROM data")
+                .build();
+        final RecordingCallback callback = new RecordingCallback();
+
+        final QueryFuture future = model.executeAsync(mHandler.getReadableDatabase(), DIRECT, null, true, callback);
+        assertEquals(1, callback.mCursors.size());
+        assertTrue(callback.mCursors.get(0) == future.get());
+        assertTrue(callback.mErrors.isEmpty());
+        future.get().close();
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        final SqlQueryModel model = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT * FROM no_such_table")
+                .build();
+        final RecordingCallback callback = new RecordingCallback();
+
+        final QueryFuture future = model.executeAsync(mHandler.getReadableDatabase(), DIRECT, null, true, callback);
+        assertTrue(future.isDone());
+        assertTrue(callback.mCursors.isEmpty());
+        assertEquals(1, callback.mErrors.size());
+        assertNotNull(callback.mErrors.get(0));
+    }
+
+    @Test
+    public void testCancellation() throws Exception {
+        final SqlQueryModel model = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT * FROM data")
+                .build();
+        final List<Runnable> pending = new ArrayList<>();
+        final RecordingCallback callback = new RecordingCallback();
+
+        final QueryFuture future = model.executeAsync(mHandler.getReadableDatabase(), new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                pending.add(command);
+            }
+        }, null, true, callback);
+
+        assertFalse(future.isDone());
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+
+        // A cancelled task does not run once it is picked up
+        pending.get(0).run();
+        assertTrue(callback.mCursors.isEmpty());
+        assertTrue(callback.mErrors.isEmpty());
+    }
+
+    @Test
+    public void testCancellationWhileFillingWindow() throws Exception {
+        final List<Runnable> pending = new ArrayList<>();
+        final RecordingCallback callback = new RecordingCallback();
+        final CancellingModel model = new CancellingModel();
+
+        final QueryFuture future = model.executeAsync(mHandler.getReadableDatabase(), new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                pending.add(command);
+            }
+        }, null, true, callback);
+        model.mFuture = future;
+
+        pending.get(0).run();
+        assertTrue(future.isCancelled());
+        assertTrue(model.mCursor.isClosed());
+        assertTrue(callback.mCursors.isEmpty());
+        assertTrue(callback.mErrors.isEmpty());
+    }
+
+    /**
+     * Cancels its future once the window starts filling, as a user would while a slow query runs.
+     */
+    private static class CancellingModel extends RawQueryModel {
+        private QueryFuture mFuture;
+        private Cursor mCursor;
+
+        public CancellingModel() {
+            super(new SqlQueryModel.RawQueryBuilder().setRawSql("SELECT * FROM data"));
+        }
+
+        @Override
+        protected Cursor executeQueryInternal(final SQLiteDatabase db, final CancellationSignal signal) {
+            mCursor = new CursorWrapper(super.executeQueryInternal(db, signal)) {
+                @Override
+                public int getCount() {
+                    mFuture.cancel(true);
+                    signal.throwIfCanceled();
+                    return super.getCount();
+                }
+            };
+            return mCursor;
+        }
+    }
+
+    private static class RecordingCallback implements QueryFuture.Callback {
+        private final List<EasyCursor> mCursors = new ArrayList<>();
+        private final List<Throwable> mErrors = new ArrayList<>();
+
+        @Override
+        public void onQueryComplete(final EasyCursor cursor) {
+            mCursors.add(cursor);
+        }
+
+        @Override
+        public void onQueryFailed(final Throwable error) {
+            mErrors.add(error);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import android.database.Cursor;
+import android.database.MatrixCursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.sqlcursor.factory.DatabaseHandler;
+import dev.alt236.easycursor.sqlcursor.factory.EasySqlCursorBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class EasySqlCursorTest extends BaseRobolectricTest {
+
+    private EasySqlCursor mSut;
+
+    @Before
+    public void setUp() {
+        mSut = EasySqlCursorBuilder.getCursor();
+    }
+
+    @After
+    public void tearDown() {
+        mSut.close();
+    }
+
+    @Test
+    public void testColumnHandles() {
+        final ColumnHandle integer = mSut.column("int");
+        final ColumnHandle string = mSut.column("STRING");
+        final ColumnHandle missing = mSut.column("not_a_column");
+
+        assertTrue(integer.isPresent());
+        assertEquals(mSut.getColumnIndex("int"), integer.getIndex());
+        assertFalse(missing.isPresent());
+
+        mSut.moveToFirst();
+        assertEquals(Integer.MIN_VALUE, mSut.getInt(integer));
+        assertEquals((long) Integer.MIN_VALUE, mSut.getLong(integer));
+        assertEquals("foo", mSut.getString(string));
+        assertEquals("foo", mSut.optString(string));
+        assertFalse(mSut.isNull(string));
+        assertEquals(BigDecimal.valueOf(Integer.MIN_VALUE), mSut.getValue(integer, BigDecimal.class));
+
+        assertEquals(5, mSut.optInt(missing, 5));
+        assertEquals("fallback", mSut.optString(missing, "fallback"));
+        assertNull(mSut.optString(missing));
+        assertNull(mSut.optValue(missing, UUID.class));
+        assertTrue(mSut.isNull(missing));
+
+        try {
+            mSut.getInt(missing);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+
+        final EasySqlCursor other = EasySqlCursorBuilder.getCursor();
+        try {
+            other.moveToFirst();
+            other.getInt(integer);
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testColumnNameLookup() {
+        assertEquals(mSut.getColumnIndex("string"), mSut.getColumnIndex("String"));
+        assertEquals(mSut.getColumnIndex("string"), mSut.getColumnIndex("data.string"));
+        assertEquals(-1, mSut.getColumnIndex("data.not_a_column"));
+
+        try {
+            mSut.getColumnIndexOrThrow("not_a_column");
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDuplicateColumnNames() {
+        final SQLiteDatabase db = new DatabaseHandler(RuntimeEnvironment.application).getReadableDatabase();
+        final String sql = "SELECT a.string AS name, b.int AS name FROM data a, data b";
+
+        // As the wrapped SQLiteCursor, the last duplicate wins
+        final Cursor platform = db.rawQuery(sql, null);
+        final EasySqlCursor joined = new EasySqlCursor(db.rawQuery(sql, null));
+        assertEquals(1, platform.getColumnIndex("name"));
+        assertEquals(platform.getColumnIndex("name"), joined.getColumnIndex("name"));
+        assertEquals(1, joined.getColumnIndex("NAME"));
+        platform.close();
+        joined.close();
+
+        // As the wrapped AbstractCursor, the first duplicate wins
+        final MatrixCursor matrix = new MatrixCursor(new String[]{"name", "name"});
+        matrix.addRow(new Object[]{"first", "last"});
+        final EasySqlCursor wrapped = new EasySqlCursor(matrix);
+        wrapped.moveToFirst();
+        assertEquals(matrix.getColumnIndex("name"), wrapped.getColumnIndex("name"));
+        assertEquals("first", wrapped.getString("name"));
+        wrapped.close();
+    }
+
+    @Test
+    public void testTypedValues() {
+        mSut.moveToFirst();
+        assertEquals(new Date(Long.MIN_VALUE), mSut.getValue("long", Date.class));
+        assertEquals(BigDecimal.valueOf(Integer.MIN_VALUE), mSut.getValue(mSut.getColumnIndex("int"), BigDecimal.class));
+        assertEquals("foo", mSut.getValue("string", String.class));
+        assertArrayEquals("foo".getBytes(), mSut.getValue("byte", byte[].class));
+        assertNull(mSut.optValue("string", UUID.class));
+        assertNull(mSut.optValue("not_a_column", UUID.class));
+
+        mSut.moveToLast();
+        assertNull(mSut.getValue("long", Date.class));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.sqlcursor.factory.DatabaseHandler;
+import dev.alt236.easycursor.sqlcursor.querymodels.SqlQueryModel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class QueryResultCacheTest extends BaseRobolectricTest {
+    private static final int MAX_BYTES = 64 * 1024;
+
+    private SQLiteDatabase mDb;
+    private SqlQueryModel mModel;
+
+    @Before
+    public void setUp() {
+        mDb = new DatabaseHandler(RuntimeEnvironment.application).getWritableDatabase();
+        mModel = new SqlQueryModel.SelectQueryBuilder()
+                .setTables("data")
+                .build();
+    }
+
+    @Test
+    public void testSnapshotMatchesQuery() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        final EasyCursor expected = mModel.execute(mDb);
+        final EasyCursor actual = cache.query(mDb, mModel);
+
+        assertSame(mModel, actual.getQueryModel());
+        assertArrayEquals(expected.getColumnNames(), actual.getColumnNames());
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(0, actual.getPosition());
+
+        do {
+            assertEquals(expected.getPosition(), actual.getPosition());
+            for (int i = 0; i < expected.getColumnCount(); i++) {
+                assertEquals(expected.getType(i), actual.getType(i));
+                assertEquals(expected.isNull(i), actual.isNull(i));
+                if (expected.getType(i) == Cursor.FIELD_TYPE_BLOB) {
+                    assertArrayEquals(expected.getBlob(i), actual.getBlob(i));
+                } else {
+                    assertEquals(expected.getString(i), actual.getString(i));
+                    assertEquals(expected.getLong(i), actual.getLong(i));
+                    assertEquals(expected.getDouble(i), actual.getDouble(i), 0);
+                }
+            }
+            actual.moveToNext();
+        } while (expected.moveToNext());
+
+        expected.close();
+        actual.close();
+    }
+
+    @Test
+    public void testHitDoesNotQuery() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        assertEquals(3, count(cache, mModel));
+        assertTrue(cache.getSize() > 0);
+
+        insertRow();
+        assertEquals(3, count(cache, mModel));
+        assertEquals(4, mModel.execute(mDb).getCount());
+    }
+
+    @Test
+    public void testSelectionArgsAreKeys() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        final EasyCursor foo = cache.query(mDb, selectString("foo"));
+        final EasyCursor bar = cache.query(mDb, selectString("bar"));
+
+        assertEquals("foo", foo.getString("string"));
+        assertEquals("bar", bar.getString("string"));
+        foo.close();
+        bar.close();
+    }
+
+    @Test
+    public void testInvalidateTable() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        final SqlQueryModel declared = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT * FROM data")
+                .setTableNames(new String[]{"data"})
+                .build();
+        final SqlQueryModel undeclared = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT string FROM data")
+                .build();
+
+        count(cache, mModel);
+        count(cache, declared);
+        count(cache, undeclared);
+        insertRow();
+
+        // Models whose tables are unknown are dropped on any invalidation
+        cache.invalidateTable("other");
+        assertEquals(3, count(cache, mModel));
+        assertEquals(3, count(cache, declared));
+        assertEquals(4, count(cache, undeclared));
+
+        cache.invalidateTable("DATA");
+        assertEquals(4, count(cache, mModel));
+        assertEquals(4, count(cache, declared));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        count(cache, mModel);
+        insertRow();
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getSize());
+        assertEquals(4, count(cache, mModel));
+    }
+
+    @Test
+    public void testRelease() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        count(cache, mModel);
+        assertTrue(cache.getSize() > 0);
+
+        cache.release(mDb);
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testClosedDatabasesAreReleased() {
+        final QueryResultCache cache = new QueryResultCache(MAX_BYTES);
+        final SQLiteDatabase other = new DatabaseHandler(RuntimeEnvironment.application).getWritableDatabase();
+        cache.query(other, mModel).close();
+        final int size = cache.getSize();
+        other.close();
+
+        count(cache, mModel);
+        assertEquals(size, cache.getSize());
+    }
+
+    @Test
+    public void testSizeBound() {
+        final QueryResultCache cache = new QueryResultCache(64);
+        assertEquals(3, count(cache, mModel));
+        assertEquals(0, cache.getSize());
+
+        insertRow();
+        assertEquals(4, count(cache, mModel));
+    }
+
+    private int count(final QueryResultCache cache, final SqlQueryModel model) {
+        final EasyCursor cursor = cache.query(mDb, model);
+        final int count = cursor.getCount();
+        cursor.close();
+        return count;
+    }
+
+    private void insertRow() {
+        final ContentValues values = new ContentValues();
+        values.put("string", "baz");
+        mDb.insert("data", null, values);
+    }
+
+    private static SqlQueryModel selectString(final String value) {
+        return new SqlQueryModel.SelectQueryBuilder()
+                .setTables("data")
+                .setSelection("string = ?")
+                .setSelectionArgs(new String[]{value})
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.objectcursor.EasyObjectCursor;
+import dev.alt236.easycursor.sqlcursor.factory.EasySqlCursorBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class RowMapperTest extends BaseRobolectricTest {
+
+    private EasySqlCursor mSut;
+
+    @Before
+    public void setUp() {
+        mSut = EasySqlCursorBuilder.getCursor();
+    }
+
+    @After
+    public void tearDown() {
+        mSut.close();
+    }
+
+    @Test
+    public void testReflectiveMapper() {
+        mSut.moveToPosition(1);
+        final List<Row> rows = mSut.toList(new ReflectiveRowMapper<>(Row.class));
+
+        assertEquals(1, mSut.getPosition());
+        assertEquals(mSut.getCount(), rows.size());
+
+        final Row first = rows.get(0);
+        assertEquals(Integer.MIN_VALUE, first.mInt);
+        assertEquals(Long.valueOf(Long.MIN_VALUE), first.mLong);
+        assertEquals(Short.MIN_VALUE, first.mShort);
+        assertEquals("foo", first.mString);
+        assertFalse(first.mBool);
+        assertArrayEquals("foo".getBytes(), first.mByte);
+        assertEquals(Double.MIN_VALUE, first.mDoubleFromSetter, 0d);
+
+        final Row second = rows.get(1);
+        assertEquals(Integer.MAX_VALUE, second.mInt);
+        assertTrue(second.mBool);
+        assertEquals(Boolean.TRUE, second.booleantest);
+
+        final Row third = rows.get(2);
+        assertNull(third.mLong);
+        assertNull(third.mString);
+        assertNull(third.booleantest);
+        assertEquals(0, third.mInt);
+        assertEquals(-1, third.mUnmapped);
+    }
+
+    @Test
+    public void testToObjectCursor() {
+        final RowMapper<Row> mapper = new RowMapper<Row>() {
+            @Override
+            public Mapping<Row> getMapping(final EasySqlCursor cursor) {
+                final ColumnHandle string = cursor.column("string");
+                return new Mapping<Row>() {
+                    @Override
+                    public Row map(final EasySqlCursor cursor) {
+                        final Row row = new Row();
+                        row.mString = cursor.getString(string);
+                        return row;
+                    }
+                };
+            }
+        };
+
+        final EasyObjectCursor<Row> cursor = mSut.toObjectCursor(Row.class, mapper, null);
+        assertEquals(mSut.getCount(), cursor.getCount());
+        cursor.moveToFirst();
+        assertEquals("foo", cursor.getString("string"));
+        cursor.moveToNext();
+        assertEquals("bar", cursor.getString("string"));
+    }
+
+    @Test
+    public void testMissingConstructor() {
+        try {
+            mSut.toList(new ReflectiveRowMapper<>(NoDefaultConstructor.class));
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFinalFieldsAreNotSet() {
+        final List<FinalFields> rows = mSut.toList(new ReflectiveRowMapper<>(FinalFields.class));
+
+        assertEquals(mSut.getCount(), rows.size());
+        assertEquals(7, rows.get(0).mInt);
+        assertEquals("foo", rows.get(0).mString);
+    }
+
+    public static class FinalFields {
+        private final int mInt;
+        private String mString;
+
+        public FinalFields() {
+            mInt = 7;
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        public NoDefaultConstructor(final String string) {
+        }
+    }
+
+    public static class Row {
+        private boolean mBool;
+        private byte[] mByte;
+        private int mInt;
+        private Long mLong;
+        private short mShort;
+        private String mString;
+        private Boolean booleantest;
+        private double mDoubleFromSetter;
+        private int mUnmapped = -1;
+
+        public String getString() {
+            return mString;
+        }
+
+        public void setDouble(final double value) {
+            mDoubleFromSetter = value;
+        }
+    }
+}
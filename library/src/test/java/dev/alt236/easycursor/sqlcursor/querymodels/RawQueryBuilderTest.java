@@ -49,6 +49,8 @@ public class RawQueryBuilderTest {
 
         assertArrayEquals(args, model.getSelectionArgs());
         assertEquals(sql, model.getRawSql());
+        assertEquals(sql, model.getSql());
+        assertEquals(null, model.getTableNames());
 
         final RawQueryModel model2 = (RawQueryModel) new SqlQueryModel.RawQueryBuilder()
                 .build();
@@ -73,6 +75,7 @@ public class RawQueryBuilderTest {
         final int version = 22;
         final String sql = "RAW_SQL";
         final String[] args = {"a", "b"};
+        final String[] tables = {"t1", "t2"};
 
         final RawQueryModel model = (RawQueryModel) new SqlQueryModel.RawQueryBuilder()
                 .setModelComment(comment)
@@ -80,6 +83,7 @@ public class RawQueryBuilderTest {
                 .setModelVersion(version)
                 .setSelectionArgs(args)
                 .setRawSql(sql)
+                .setTableNames(tables)
                 .build();
 
         final String json = model.toJson();
@@ -91,6 +95,7 @@ public class RawQueryBuilderTest {
         assertEquals(model.getModelVersion(), model2.getModelVersion());
         assertTrue(Arrays.equals(model.getSelectionArgs(), model2.getSelectionArgs()));
         assertEquals(model.getRawSql(), model2.getRawSql());
+        assertArrayEquals(tables, model2.getTableNames());
     }
 
     @Test
@@ -0,0 +1,161 @@
+/*
+ * ***************************************************************************
+ * Copyright 2026 Alexandros Schillings
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ***************************************************************************
+ *
+ */
+
+package dev.alt236.easycursor.sqlcursor.querymodels;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.common.root.BaseRobolectricTest;
+import dev.alt236.easycursor.sqlcursor.factory.DatabaseHandler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class ScalarQueryTest extends BaseRobolectricTest {
+    private SQLiteDatabase mDb;
+    private StatementCache mCache;
+
+    @Before
+    public void setUp() {
+        mDb = new DatabaseHandler(RuntimeEnvironment.application).getReadableDatabase();
+        mCache = new StatementCache(16);
+    }
+
+    @After
+    public void tearDown() {
+        mCache.close();
+    }
+
+    @Test
+    public void testRawScalars() {
+        final SqlQueryModel count = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT COUNT(*) FROM data")
+                .build();
+        assertEquals(3, count.executeScalarLong(mDb));
+        assertEquals(3, count.executeScalarLong(mDb, mCache));
+        assertEquals(3, count.executeScalarLong(mDb, mCache));
+
+        final SqlQueryModel string = new SqlQueryModel.RawQueryBuilder()
+                .setRawSql("SELECT string FROM data WHERE string = ?")
+                .setSelectionArgs(new String[]{"bar"})
+                .build();
+        assertEquals("bar", string.executeScalarString(mDb));
+        assertEquals("bar", string.executeScalarString(mDb, mCache));
+    }
+
+    @Test
+    public void testSelectScalars() {
+        final SqlQueryModel model = new SqlQueryModel.SelectQueryBuilder()
+                .setProjectionIn(new String[]{"COUNT(*)"})
+                .setTables("data")
+                .setSelection("string = ?")
+                .setSelectionArgs(new String[]{"foo"})
+                .build();
+
+        assertEquals("SELECT COUNT(*) FROM data WHERE (string = ?)", model.getSql());
+        assertSame(model.getSql(), model.getSql());
+        assertEquals(1, model.executeScalarLong(mDb));
+        assertEquals("1", model.executeScalarString(mDb));
+    }
+
+    @Test
+    public void testSelectUsesCachedSql() {
+        final SqlQueryModel model = new SqlQueryModel.SelectQueryBuilder()
+                .setTables("data")
+                .setSelection("string = ?")
+                .setSelectionArgs(new String[]{"bar"})
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            final EasyCursor cursor = model.execute(mDb);
+            assertEquals(1, cursor.getCount());
+            assertEquals("bar", cursor.getString("string"));
+            cursor.close();
+        }
+    }
+
+    @Test
+    public void testStrictSelection() {
+        final SqlQueryModel valid = new SqlQueryModel.SelectQueryBuilder()
+                .setProjectionIn(new String[]{"COUNT(*)"})
+                .setTables("data")
+                .setSelection("string = 'foo' OR string = 'bar'")
+                .setStrict(true)
+                .build();
+        assertEquals(2, valid.executeScalarLong(mDb));
+
+        final SqlQueryModel injected = new SqlQueryModel.SelectQueryBuilder()
+                .setProjectionIn(new String[]{"COUNT(*)"})
+                .setTables("data")
+                .setSelection("1) UNION SELECT COUNT(*) FROM data WHERE (1")
+                .setStrict(true)
+                .build();
+        try {
+            injected.executeScalarLong(mDb);
+            fail("The selection should have been rejected");
+        } catch (final SQLiteException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testStatementsAreCached() {
+        final SQLiteStatement first = mCache.acquire(mDb, "SELECT COUNT(*) FROM data");
+        final SQLiteStatement second = mCache.acquire(mDb, "SELECT COUNT(*) FROM data");
+        assertSame(first, second);
+        first.releaseReference();
+        second.releaseReference();
+    }
+
+    @Test
+    public void testRelease() {
+        final SQLiteStatement statement = mCache.acquire(mDb, "SELECT COUNT(*) FROM data");
+        assertEquals(1, mCache.size(mDb));
+
+        mCache.release(mDb);
+        assertEquals(0, mCache.size(mDb));
+
+        // Still usable by whoever holds it
+        assertEquals(3, statement.simpleQueryForLong());
+        statement.releaseReference();
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for (int i = 0; i < 40; i++) {
+            final SqlQueryModel model = new SqlQueryModel.RawQueryBuilder()
+                    .setRawSql("SELECT " + i)
+                    .build();
+            assertEquals(i, model.executeScalarLong(mDb, mCache));
+        }
+        assertEquals(16, mCache.size(mDb));
+    }
+}
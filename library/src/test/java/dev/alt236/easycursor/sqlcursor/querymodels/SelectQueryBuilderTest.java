@@ -28,6 +28,7 @@ import java.util.Arrays;
 
 import dev.alt236.easycursor.EasyQueryModel;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -90,6 +91,16 @@ public class SelectQueryBuilderTest {
         assertTrue(Arrays.equals(null, model2.getSelectionArgs()));
     }
 
+    @Test
+    public void testTableNames() {
+        assertArrayEquals(new String[]{"data"}, selectFrom("data").getTableNames());
+        assertArrayEquals(new String[]{"track", "album", "artist"},
+                selectFrom("track LEFT OUTER JOIN album ON track.albumId = album.albumid, main.\"artist\" AS a").getTableNames());
+        assertArrayEquals(new String[]{"a", "b"}, selectFrom("a NATURAL JOIN [b]").getTableNames());
+        assertEquals(null, selectFrom("(SELECT * FROM data)").getTableNames());
+        assertEquals(null, selectFrom(null).getTableNames());
+    }
+
     @Test
     public void testFieldsUnset() {
         final SelectQueryModel model1 = (SelectQueryModel) new SqlQueryModel.SelectQueryBuilder()
@@ -108,6 +119,12 @@ public class SelectQueryBuilderTest {
         assertTrue(Arrays.equals(null, model1.getSelectionArgs()));
     }
 
+    private static SqlQueryModel selectFrom(final String tables) {
+        return new SqlQueryModel.SelectQueryBuilder()
+                .setTables(tables)
+                .build();
+    }
+
     public void testJson() throws Exception {
         final String[] projectionIn = {"a", "b"};
         final String[] selectionArgs = {"a", "b", "c"};
@@ -24,6 +24,9 @@ import com.google.gson.annotations.SerializedName;
 import java.util.ArrayList;
 import java.util.List;
 
+import dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow;
+
+@EasyCursorRow
 public class JsonDataGsonModel {
     @SerializedName("id")
     private long id;
@@ -19,8 +19,12 @@
 
 package dev.alt236.easycursor.sampleapp.container;
 
-import dev.alt236.easycursor.EasyCursor;
+import dev.alt236.easycursor.objectcursor.annotations.EasyCursorRow;
+import dev.alt236.easycursor.sqlcursor.ColumnHandle;
+import dev.alt236.easycursor.sqlcursor.EasySqlCursor;
+import dev.alt236.easycursor.sqlcursor.RowMapper;
 
+@EasyCursorRow
 public class TrackInfo {
     private final long m_id;
     private final String mArtist;
@@ -33,16 +37,56 @@ public class TrackInfo {
     private final double mMeaninglessDiv;
 
 
-    public TrackInfo(final EasyCursor c) {
-        m_id = c.getLong("_id");
-        mArtist = c.getString("artist");
-        mAlbum = c.getString("album");
-        mTrack = c.getString("track");
-        mMedia = c.getString("media");
-        mComposer = c.getString("composer");
-        mHasComposer = c.getBoolean("hascomposer");
-        mMeaninglessSum = c.getLong("meaninglessSum");
-        mMeaninglessDiv = c.getDouble("meaninglessDiv");
+    public static final RowMapper<TrackInfo> MAPPER = new RowMapper<TrackInfo>() {
+        @Override
+        public Mapping<TrackInfo> getMapping(final EasySqlCursor cursor) {
+            // Resolved once per cursor, so that each row is read by index
+            final ColumnHandle id = cursor.column("_id");
+            final ColumnHandle artist = cursor.column("artist");
+            final ColumnHandle album = cursor.column("album");
+            final ColumnHandle track = cursor.column("track");
+            final ColumnHandle media = cursor.column("media");
+            final ColumnHandle composer = cursor.column("composer");
+            final ColumnHandle hasComposer = cursor.column("hascomposer");
+            final ColumnHandle meaninglessSum = cursor.column("meaninglessSum");
+            final ColumnHandle meaninglessDiv = cursor.column("meaninglessDiv");
+
+            return new Mapping<TrackInfo>() {
+                @Override
+                public TrackInfo map(final EasySqlCursor c) {
+                    return new TrackInfo(
+                            c.getLong(id),
+                            c.getString(artist),
+                            c.getString(album),
+                            c.getString(track),
+                            c.getString(media),
+                            c.getString(composer),
+                            c.getBoolean(hasComposer),
+                            c.getLong(meaninglessSum),
+                            c.getDouble(meaninglessDiv));
+                }
+            };
+        }
+    };
+
+    public TrackInfo(final long id,
+                     final String artist,
+                     final String album,
+                     final String track,
+                     final String media,
+                     final String composer,
+                     final boolean hasComposer,
+                     final long meaninglessSum,
+                     final double meaninglessDiv) {
+        m_id = id;
+        mArtist = artist;
+        mAlbum = album;
+        mTrack = track;
+        mMedia = media;
+        mComposer = composer;
+        mHasComposer = hasComposer;
+        mMeaninglessSum = meaninglessSum;
+        mMeaninglessDiv = meaninglessDiv;
     }
 
     public String getAlbum() {
@@ -29,11 +29,7 @@ import com.readystatesoftware.sqliteasset.SQLiteAssetHelper;
 
 import org.json.JSONException;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import dev.alt236.easycursor.EasyCursor;
-import dev.alt236.easycursor.objectcursor.EasyObjectCursor;
 import dev.alt236.easycursor.sampleapp.container.TrackInfo;
 import dev.alt236.easycursor.sampleapp.database.builders.LousyQueryBuilder;
 import dev.alt236.easycursor.sampleapp.util.Constants;
@@ -125,18 +121,11 @@ public class ExampleDatabase extends SQLiteAssetHelper {
     }
 
     public EasyCursor doObjectCursorQuery() {
-        final EasyCursor dataIn = doEasyRawQuery();
-        final List<TrackInfo> list = new ArrayList<>();
-
-        while (!dataIn.isAfterLast()) {
-            list.add(new TrackInfo(dataIn));
-            dataIn.moveToNext();
-        }
-
-        dataIn.close();
+        final EasySqlCursor dataIn = (EasySqlCursor) doEasyRawQuery();
 
         // the TrackInfo object already contains an _id getter, so we pass null as the alias
-        final EasyCursor methodResult = new EasyObjectCursor<>(TrackInfo.class, list, null);
+        final EasyCursor methodResult = dataIn.toObjectCursor(TrackInfo.class, TrackInfo.MAPPER, null);
+        dataIn.close();
         methodResult.moveToFirst();
         return methodResult;
     }
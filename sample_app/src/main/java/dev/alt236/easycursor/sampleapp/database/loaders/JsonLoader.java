@@ -24,17 +24,13 @@ import android.database.Cursor;
 
 import com.commonsware.cwac.loaderex.acl.AbstractCursorLoader;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-
 import java.io.IOException;
 import java.io.InputStream;
 
 import dev.alt236.easycursor.EasyCursor;
-import dev.alt236.easycursor.jsoncursor.EasyJsonCursor;
+import dev.alt236.easycursor.jsoncursor.StreamingJsonCursor;
 
 public class JsonLoader extends AbstractCursorLoader {
-    private static final String UTF_8 = "UTF-8";
     private static final String DATA_SAMPLE_JSON_JSON = "data/sample_json.json";
 
 
@@ -45,35 +41,31 @@ public class JsonLoader extends AbstractCursorLoader {
     @Override
     protected Cursor buildCursor() {
         EasyCursor cursor;
+        InputStream is = null;
         try {
 
             // the Json data we have do not have an "_id" field, so we will alias "_id" as "id"
+            // The asset is decoded as it is read, so the raw text is never held in memory as a whole
 
-            cursor = new EasyJsonCursor(
-                    new JSONArray(loadAssetsFileAsString(DATA_SAMPLE_JSON_JSON)),
-                    "id");
-        } catch (final JSONException e) {
+            is = getContext().getAssets().open(DATA_SAMPLE_JSON_JSON);
+            cursor = new StreamingJsonCursor(is, "id");
+        } catch (final IOException e) {
             e.printStackTrace();
             cursor = null;
+        } finally {
+            closeQuietly(is);
         }
 
         return cursor;
     }
 
-    public String loadAssetsFileAsString(final String path) {
-        final String json;
-        try {
-            final InputStream is = getContext().getAssets().open(path);
-            final int size = is.available();
-            final byte[] buffer = new byte[size];
-
-            is.read(buffer);
-            is.close();
-            json = new String(buffer, UTF_8);
-        } catch (final IOException ex) {
-            ex.printStackTrace();
-            return null;
+    private static void closeQuietly(final InputStream is) {
+        if (is != null) {
+            try {
+                is.close();
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
         }
-        return json;
     }
 }